@@ -1,189 +1,89 @@
-import javax.swing.*;
-import java.awt.*;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Child of Player which implements more functions imitating a Player.
  * And still use the same methods as Player so don't have to change GameManager too much.
+ * How it plays is decided by its AiStrategy, which only sees the game through a GameView.
  *
  * @author Aidan Cartier, Mark Bowerman
  * @version December 5, 2025
  */
 public class AiPlayer extends Player implements Serializable {
 
-    private ArrayList<JButton> uiHand;
-    private ArrayList<Integer> playableCards;
-    private int bestCard;
+    private AiStrategy strategy;
 
     /**
-     * Constructs an AI player to play UNO.
+     * Constructs an AI player to play UNO with the original strategy.
      *
      * @param name name of player
      */
     public AiPlayer(String name) {
-        super(name);
-        uiHand = new ArrayList<>();
-        playableCards = new ArrayList<>();
-        bestCard = -1;
-    }
-
-    /**
-     * Constructor chaining if AI created without name.
-     */
-    public AiPlayer() {
-        this("AI Player");
+        this(name, new HighestCardStrategy());
     }
 
     /**
-     * Returns a deep copy of AiPlayer to be used in a snapshot.
-     * uiHand is not copied as it should be recreated when the ui updates.
-     * playableCards can also be recalculated.
-     * @return the copied AiPlayer
-     */
-    public AiPlayer deepCopy(){
-        AiPlayer copy = new AiPlayer(this.getName());
-        for (Card card : this.gethand()) {
-            copy.gethand().add(card.deepCopy());
-        }
-        copy.bestCard = this.bestCard;
-        return copy;
-    }
-    /**
-     * updateUIHand() must be called before this function in order
-     * to get an update AI hand of all cards playable.
-     * Returns JButton emulating if a player selected a card to play.
+     * Constructs an AI player to play UNO.
      *
-     * @return JButton of card it wishes to play.
+     * @param name name of player
+     * @param strategy decides the moves, has to be Serializable for the player to be
      */
-    public JButton tryToPlay() {
-        return uiHand.get(playableCards.get(bestCard));
+    public AiPlayer(String name, AiStrategy strategy) {
+        super(name);
+        this.strategy = strategy;
     }
 
     /**
-     * Method clears its previous hand and updates it from getting the JPanel in view
-     * and getting all the components (JButtons).
-     * Can get actual card class from using .getClientProperty("index") which is the int index
-     * in the player hand Card list.
-     *
-     * @param view Current game view.
+     * Constructor chaining if AI created without name.
      */
-    public void updateUIHand(UnoView view, Card card) {
-        uiHand.clear(); //clear current hand
-        playableCards.clear(); //clear playable cards
-
-        this.playableCards(card);
-        if (!(playableCards.isEmpty())) { //finding best card if you have cards to play
-            this.findBestCard();
-        }
-
-        JPanel cardContainer = view.getPlayerCards(); //where UI buttons stored in view
-        Component[] comp = cardContainer.getComponents(); //get all buttons
-
-        for (Component component : comp) {
-            if (component instanceof JButton) {
-                uiHand.add((JButton) component);
-            }
-        }
+    public AiPlayer() {
+        this("AI Player");
     }
 
     /**
-     * Gets the best hand out of players hand
+     * Copies another AI player, the hand and score are copied by Player.
+     * The strategy is shared, strategies keep no state about a game.
      *
-     * @return Card it will play.
+     * @param other AI player to copy
      */
-    public Card getBestCard() {
-        if (bestCard == -1) {
-            return null;
-        } else {
-            return gethand().get(playableCards.get(bestCard));
-        }
+    private AiPlayer(AiPlayer other) {
+        super(other);
+        strategy = other.strategy;
     }
 
     /**
-     * Finds the best card value in playable cards. Updates an int value, which is the card index
-     * in players hand.
+     * Returns a copy of AiPlayer to be used in a snapshot.
+     * @return the copied AiPlayer
      */
-    private void findBestCard() {
-        if (playableCards.size() == 1) {
-            bestCard = 0;
-        } else {
-            bestCard = 0;
-
-            for (int i = 1; i < playableCards.size(); i++) {
-                int bestCardIndex = playableCards.get(bestCard);
-                int currentCardIndex = playableCards.get(i);
-
-                //can swap value to play big cards last by swapping "<" with ">"
-                if (gethand().get(bestCardIndex).getValue() < gethand().get(currentCardIndex).getValue()) {
-                    bestCard = i;
-                }
-            }
-        }
+    public AiPlayer deepCopy(){
+        return new AiPlayer(this);
     }
 
     /**
-     * Update the Arraylist to specify which cards are playable to AI player.
+     * Decides a move with the AI's strategy.
      *
-     * @param discardedCard Top card on the discard pile.
+     * @param view the game from this player's seat
+     * @param expected kind of move the game is waiting for
+     * @return the move
      */
-    private void playableCards(Card discardedCard) {
-        for (Card card : gethand()) {
-            if (card.matches(discardedCard)) {
-                playableCards.add(gethand().indexOf(card)); //adding index of card
-            }
-        }
-
+    public Move chooseMove(GameView view, MoveType expected) {
+        return strategy.chooseMove(view, expected);
     }
 
     /**
-     * Get the colour the AI chooses when it plays a wild card.
+     * Gets the strategy deciding the AI's moves.
      *
-     * @return CardColour for card played.
+     * @return the strategy
      */
-    public CardColour getWildColour() {
-        return calculateBestColour();
+    public AiStrategy getStrategy() {
+        return strategy;
     }
 
-
     /**
-     * Finds which colour is the highest and chooses it
-     * for the wild card.
+     * Sets the strategy deciding the AI's moves.
      *
-     * @return CardColour for card played.
+     * @param strategy the strategy
      */
-    private CardColour calculateBestColour() {
-        Map<CardColour, Integer> colourMap = new HashMap<>(); //CardColour as key and int for tracking
-
-        for (Card card : gethand()) { //adding colours to hashMap
-            if (card.getColour() != CardColour.WILD) { //don't want the colour WILD
-                if (colourMap.containsKey(card.getColour())) { //if already in Map
-                    colourMap.put(card.getColour(), colourMap.get(card.getColour()) + 1);
-
-                } else { //if not in Map already
-                    colourMap.put(card.getColour(), 1);
-
-                }
-            }
-        }
-
-        System.out.println("colourMap: " + colourMap);
-
-        //Choosing colour from HashMap
-        CardColour chosenColour = null;
-        for (CardColour colour : colourMap.keySet()) {
-            if (chosenColour == null) { //for initial pick
-                chosenColour = colour;
-
-            } else { //comparing counts
-                if (colourMap.get(chosenColour) < colourMap.get(colour)) {
-                    chosenColour = colour;
-                }
-            }
-        }
-
-        return chosenColour;
+    public void setStrategy(AiStrategy strategy) {
+        this.strategy = strategy;
     }
 }
@@ -0,0 +1,18 @@
+/**
+ * Interface for how an AI player decides its moves. Only sees the game through a read only GameView,
+ * so the same strategy plays in the GUI, headless games and on a server.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public interface AiStrategy {
+    /**
+     * Decides a move for the player about to move.
+     *
+     * @param view the game from the player's seat
+     * @param expected kind of move the game is waiting for
+     * @return PLAY with a hand index that can be played, COLOUR with a colour valid on the current side,
+     *         or DRAW if nothing can be played
+     */
+    Move chooseMove(GameView view, MoveType expected);
+}
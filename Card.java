@@ -1,21 +1,25 @@
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  * Represents a single card in the Uno Flip game.
- * A card has a colour, a type, and if it is a number card, a value.
+ * A card has a colour, a type, and if it is a number card, a value, on both its light and dark side.
  * Cards can be compared to other cards to determine if they can be legally played.
+ * Cards don't know which side is facing up, the game keeps one side for every card so flipping never
+ * touches the cards. Methods without a side read the light side.
+ * Cards are immutable and the ones in play are shared instances from the CardCatalog.
  *
  * @author Mark Bowerman
  * @version December 5, 2025
  */
 public class Card implements Serializable {
-    private CardColour lightColour;
-    private CardColour darkColour;
-    private CardType lightType;
-    private CardType darkType;
-    private CardSide side;
-    private int lightValue;
-    private int darkValue;
+    private final int id;
+    private final CardColour lightColour;
+    private final CardColour darkColour;
+    private final CardType lightType;
+    private final CardType darkType;
+    private final int lightValue;
+    private final int darkValue;
 
 
     /**
@@ -29,66 +33,84 @@ public class Card implements Serializable {
      * @param darkValue the numeric value of the card. -1 for non-number cards.
      */
     public Card(CardColour lightColour, CardColour darkColour, CardType lightType, CardType darkType, int lightValue, int darkValue) {
+        this(CardCatalog.idOf(CardCatalog.encode(lightColour, darkColour, lightType, darkType, lightValue, darkValue)),
+                lightColour, darkColour, lightType, darkType, lightValue, darkValue);
+    }
+
+    /**
+     * Constructs the shared card for a catalog face, only used by CardCatalog.
+     *
+     * @param id face id
+     */
+    Card(int id) {
+        this(id, CardCatalog.colour(id, CardSide.LIGHT), CardCatalog.colour(id, CardSide.DARK),
+                CardCatalog.type(id, CardSide.LIGHT), CardCatalog.type(id, CardSide.DARK),
+                CardCatalog.value(id, CardSide.LIGHT), CardCatalog.value(id, CardSide.DARK));
+    }
+
+    private Card(int id, CardColour lightColour, CardColour darkColour, CardType lightType, CardType darkType,
+                 int lightValue, int darkValue) {
+        this.id = id;
         this.lightColour = lightColour;
         this.darkColour = darkColour;
         this.lightType = lightType;
         this.darkType = darkType;
         this.lightValue = lightValue;
         this.darkValue = darkValue;
-        this.side = CardSide.LIGHT;
     }
 
     /**
-     * Returns a deep copy of card to be used in a snapshot.
-     * @return the copied card
+     * Gets the catalog id of the face of this card.
+     *
+     * @return face id, -1 if the face is not part of the deck
      */
-    public Card deepCopy() {
-        Card copy = new Card(lightColour, darkColour, lightType, darkType, lightValue, darkValue);
-        copy.side = this.side;
-        return copy;
+    public int getId() {
+        return id;
     }
 
-    /**
-     * flips colour and type of card.
-     */
-    public void flipCard() {
-        this.side = (this.side == CardSide.LIGHT) ? CardSide.DARK : CardSide.LIGHT;
+    /** The light colour of this card (RED, BLUE, GREEN, YELLOW, or WILD). */
+    public CardColour getColour(){
+        return lightColour;
     }
 
     /**
-     * Returns card current side, used for UI card styling function.
+     * The colour of this card on a side.
      *
-     * @return LIGHT or DARK.
+     * @param side side facing up
+     * @return the colour on that side
      */
-    public CardSide getSide() {
-        return side;
+    public CardColour getColour(CardSide side){
+        return (side == CardSide.LIGHT) ? lightColour : darkColour;
     }
-    
-    /** The colour of this card (RED, BLUE, GREEN, YELLOW, or WILD). */
-    public CardColour getColour(){
-        return (this.side == CardSide.LIGHT) ? lightColour : darkColour;
+
+    /** The light type of this card (NUMBER, REVERSE, SKIP, DRAW_ONE, WILD, WILD_DRAW_TWO).*/
+    public CardType getType(){
+        return lightType;
     }
 
     /**
-     * Sets the colour of the card when using a wild card.
-     * @param colour the colour to set the card to.
+     * The type of this card on a side.
+     *
+     * @param side side facing up
+     * @return the type on that side
      */
-    public void setColour(CardColour colour) {
-        if (this.side == CardSide.LIGHT){
-            this.lightColour = colour;
-        } else {
-            this.darkColour = colour;
-        }
-    }
-    
-    /** The type of this card (NUMBER, REVERSE, SKIP, DRAW_ONE, WILD, WILD_DRAW_TWO).*/
-    public CardType getType(){
-        return (this.side == CardSide.LIGHT) ?  lightType : darkType;
+    public CardType getType(CardSide side){
+        return (side == CardSide.LIGHT) ? lightType : darkType;
     }
-    
-    /** The numeric value of this card, returns -1 for non-number cards. */
+
+    /** The light numeric value of this card, returns -1 for non-number cards. */
     public int getValue(){
-        return (this.side == CardSide.LIGHT) ? lightValue : darkValue;
+        return lightValue;
+    }
+
+    /**
+     * The numeric value of this card on a side.
+     *
+     * @param side side facing up
+     * @return the value on that side
+     */
+    public int getValue(CardSide side){
+        return (side == CardSide.LIGHT) ? lightValue : darkValue;
     }
 
     /**
@@ -98,17 +120,55 @@ public class Card implements Serializable {
      * @return true if this card is a legal play on the other card, false otherwise.
      */
     public boolean matches(Card other){
+        return matches(other, (other == null) ? null : other.getColour());
+    }
+
+    /**
+     * Determines whether this card can be played on top of another card showing a colour, light side up.
+     * Used when the other card is a wild card and a colour was chosen for it.
+     * @param other the top card on the discard pile. May be null of no card has been played yet.
+     * @param otherColour the colour in play on the other card.
+     * @return true if this card is a legal play on the other card, false otherwise.
+     */
+    public boolean matches(Card other, CardColour otherColour){
+        return matches(other, otherColour, CardSide.LIGHT);
+    }
+
+    /**
+     * Determines whether this card can be played on top of another card showing a colour.
+     * @param other the top card on the discard pile. May be null of no card has been played yet.
+     * @param otherColour the colour in play on the other card.
+     * @param side side facing up.
+     * @return true if this card is a legal play on the other card, false otherwise.
+     */
+    public boolean matches(Card other, CardColour otherColour, CardSide side){
         //If no previous card it can be played
         if (other == null){
             return true;
         }
 
-        CardType type = this.getType();
-        CardColour colour = this.getColour();
-        int value = this.getValue();
+        //both in the catalog so look it up in the precomputed table
+        if (this.id >= 0 && other.id >= 0 && otherColour != null) {
+            return (MatchTable.playable(other.id, side, otherColour) >>> this.id & 1L) != 0;
+        }
+
+        return matchesByRule(other, otherColour, side);
+    }
+
+    /**
+     * Runs the match rules directly, used for cards outside the catalog and to build the MatchTable.
+     * @param other the top card on the discard pile.
+     * @param otherColour the colour in play on the other card.
+     * @param side side facing up.
+     * @return true if this card is a legal play on the other card, false otherwise.
+     */
+    boolean matchesByRule(Card other, CardColour otherColour, CardSide side){
+        CardType type = this.getType(side);
+        CardColour colour = this.getColour(side);
+        int value = this.getValue(side);
 
         //flip must match color
-        if (type == CardType.FLIP && colour == other.getColour()) {
+        if (type == CardType.FLIP && colour == otherColour) {
             return true;
         }
         //Wild always matches
@@ -116,16 +176,16 @@ public class Card implements Serializable {
             return true;
         }
         //Match by colour
-        if (colour == other.getColour()) {
+        if (colour == otherColour) {
             return true;
         }
         //if both are number compare value
-        if (type == CardType.NUMBER && other.getType() == CardType.NUMBER){
-            return value == other.getValue();
+        if (type == CardType.NUMBER && other.getType(side) == CardType.NUMBER){
+            return value == other.getValue(side);
         }
 
         //Match by type
-        if (type == other.getType()){
+        if (type == other.getType(side)){
             return true;
         }
 
@@ -133,15 +193,24 @@ public class Card implements Serializable {
     }
 
     /**
-     * Returns a string representation of the card for display purposes.
-     * Number cards include their numeric value, other cards show their type.
+     * Returns a string representation of the light side of the card for display purposes.
      * @return a string describing the card ("RED 5" or "BLUE SKIP")
      */
     @Override
     public String toString(){
-        CardType type = this.getType();
-        CardColour colour = this.getColour();
-        int value = this.getValue();
+        return toString(CardSide.LIGHT);
+    }
+
+    /**
+     * Returns a string representation of a side of the card for display purposes.
+     * Number cards include their numeric value, other cards show their type.
+     * @param side side facing up
+     * @return a string describing the card ("RED 5" or "BLUE SKIP")
+     */
+    public String toString(CardSide side){
+        CardType type = this.getType(side);
+        CardColour colour = this.getColour(side);
+        int value = this.getValue(side);
 
         if (type == CardType.NUMBER){
             return colour + " " + value;
@@ -158,13 +227,28 @@ public class Card implements Serializable {
         if (!(obj instanceof Card)) { //not instance of Card
             return false;
         }
+        Card other = (Card) obj;
 
-        //comparing colour and type
-        if (this.getColour() == ((Card) obj).getColour()) {
-            return this.getType() == ((Card) obj).getType();
+        //comparing colour and type of both sides
+        if (this.lightColour == other.lightColour && this.darkColour == other.darkColour) {
+            return this.lightType == other.lightType && this.darkType == other.darkType;
         }
 
         return false;
 
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lightColour, darkColour, lightType, darkType);
+    }
+
+    /**
+     * Swaps a deserialized catalog card for the shared instance.
+     *
+     * @return the shared card
+     */
+    private Object readResolve() {
+        return (id >= 0) ? CardCatalog.card(id) : this;
+    }
 }
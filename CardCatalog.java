@@ -0,0 +1,207 @@
+import java.util.Arrays;
+
+/**
+ * Fixed catalog of every distinct card face in the UNO Flip deck. Each face has a small int id and is
+ * packed into a single int code holding its light and dark colour, type and value.
+ * Cards handed out by the catalog are shared, immutable instances so decks, hands and discard piles
+ * only hold references and copying or flipping them never creates new cards.
+ *
+ * Code layout (low to high bits): light colour (4), dark colour (4), light type (4), dark type (4),
+ * light value (7), dark value (7).
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public final class CardCatalog {
+    private static final CardColour[] COLOURS = CardColour.values();
+    private static final CardType[] TYPES = CardType.values();
+
+    private static final int FIELD_BITS = 4;
+    private static final int FIELD_MASK = 0xF;
+    private static final int VALUE_BITS = 7;
+    private static final int VALUE_MASK = 0x7F;
+    private static final int LIGHT_VALUE_SHIFT = 16;
+    private static final int DARK_VALUE_SHIFT = LIGHT_VALUE_SHIFT + VALUE_BITS;
+
+    /** Number of distinct faces. */
+    public static final int FACE_COUNT;
+    /** Number of cards in a standard deck. */
+    public static final int DECK_SIZE;
+
+    private static final int[] CODES; //packed face for each id
+    private static final int[] STANDARD_DECK; //face id of every card in a fresh deck
+    private static final Card[] CARDS; //shared card for each id
+
+    static {
+        int[] codes = new int[64];
+        int[] deck = new int[128];
+        int faces = 0;
+        int size = 0;
+
+        // create cards of each colour
+        for (int j = 0 ; j <= 3 ; j++) {
+            CardColour light = COLOURS[j];
+            CardColour dark = COLOURS[j + 5];
+
+            //numbers 0-9
+            for (int value = 0 ; value <= 9 ; value++) {
+                codes[faces] = encode(light, dark, CardType.NUMBER, CardType.NUMBER, value, value);
+                deck[size++] = faces++;
+            }
+            //reverse, skip and draw one
+            codes[faces] = encode(light, dark, CardType.REVERSE, CardType.REVERSE, 20, 20);
+            deck[size++] = faces++;
+            codes[faces] = encode(light, dark, CardType.SKIP, CardType.SKIP_EVERYONE, 20, 30);
+            deck[size++] = faces++;
+            codes[faces] = encode(light, dark, CardType.DRAW_ONE, CardType.DRAW_FIVE, 10, 20);
+            deck[size++] = faces++;
+        }
+
+        //four of each wild card
+        int wild = faces++;
+        codes[wild] = encode(CardColour.WILD, CardColour.WILD, CardType.WILD, CardType.WILD, 40, 40);
+        int wildDraw = faces++;
+        codes[wildDraw] = encode(CardColour.WILD, CardColour.WILD, CardType.WILD_DRAW_TWO, CardType.WILD_DRAW_COLOR, 50, 60);
+        for (int i = 0 ; i <= 3 ; i++) {
+            deck[size++] = wild;
+            deck[size++] = wildDraw;
+        }
+
+        //two of each flip card
+        int firstFlip = faces;
+        for (int j = 0 ; j <= 3 ; j++) {
+            codes[faces++] = encode(COLOURS[j], COLOURS[j + 5], CardType.FLIP, CardType.FLIP, 20, 20);
+        }
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0 ; j <= 3 ; j++) {
+                deck[size++] = firstFlip + j;
+            }
+        }
+
+        FACE_COUNT = faces;
+        DECK_SIZE = size;
+        CODES = Arrays.copyOf(codes, faces);
+        STANDARD_DECK = Arrays.copyOf(deck, size);
+
+        CARDS = new Card[faces];
+        for (int id = 0; id < faces; id++) {
+            CARDS[id] = new Card(id);
+        }
+    }
+
+    /**
+     * Not instantiable, all methods are static.
+     */
+    private CardCatalog() {
+    }
+
+    /**
+     * Packs a face into an int code.
+     *
+     * @param lightColour the light colour of card
+     * @param darkColour the dark colour of card
+     * @param lightType the light type of card
+     * @param darkType the dark type of card
+     * @param lightValue the light value of card, 0-127
+     * @param darkValue the dark value of card, 0-127
+     * @return the packed code
+     */
+    public static int encode(CardColour lightColour, CardColour darkColour, CardType lightType, CardType darkType, int lightValue, int darkValue) {
+        return lightColour.ordinal()
+                | darkColour.ordinal() << FIELD_BITS
+                | lightType.ordinal() << (FIELD_BITS * 2)
+                | darkType.ordinal() << (FIELD_BITS * 3)
+                | (lightValue & VALUE_MASK) << LIGHT_VALUE_SHIFT
+                | (darkValue & VALUE_MASK) << DARK_VALUE_SHIFT;
+    }
+
+    /**
+     * Finds the id of a packed face.
+     *
+     * @param code packed face
+     * @return the id or -1 if the face is not in the deck
+     */
+    public static int idOf(int code) {
+        for (int id = 0; id < FACE_COUNT; id++) {
+            if (CODES[id] == code) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the shared card for a face.
+     *
+     * @param id face id
+     * @return the card
+     */
+    public static Card card(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * Gets the packed code of a face.
+     *
+     * @param id face id
+     * @return packed code
+     */
+    public static int code(int id) {
+        return CODES[id];
+    }
+
+    /**
+     * Gets the colour of a face on a side.
+     *
+     * @param id face id
+     * @param side side facing up
+     * @return the colour
+     */
+    public static CardColour colour(int id, CardSide side) {
+        int shift = (side == CardSide.LIGHT) ? 0 : FIELD_BITS;
+        return COLOURS[(CODES[id] >>> shift) & FIELD_MASK];
+    }
+
+    /**
+     * Gets the type of a face on a side.
+     *
+     * @param id face id
+     * @param side side facing up
+     * @return the type
+     */
+    public static CardType type(int id, CardSide side) {
+        int shift = (side == CardSide.LIGHT) ? FIELD_BITS * 2 : FIELD_BITS * 3;
+        return TYPES[(CODES[id] >>> shift) & FIELD_MASK];
+    }
+
+    /**
+     * Gets the value of a face on a side.
+     *
+     * @param id face id
+     * @param side side facing up
+     * @return the value
+     */
+    public static int value(int id, CardSide side) {
+        int shift = (side == CardSide.LIGHT) ? LIGHT_VALUE_SHIFT : DARK_VALUE_SHIFT;
+        return (CODES[id] >>> shift) & VALUE_MASK;
+    }
+
+    /**
+     * Gets the shared card at a position of a fresh, unshuffled deck.
+     *
+     * @param index position in the deck, 0 to DECK_SIZE - 1
+     * @return the card
+     */
+    public static Card standardCard(int index) {
+        return CARDS[STANDARD_DECK[index]];
+    }
+
+    /**
+     * Gets the face id of every card in a fresh deck, duplicates included.
+     *
+     * @return new array of face ids
+     */
+    public static int[] standardDeck() {
+        return STANDARD_DECK.clone();
+    }
+}
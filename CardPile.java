@@ -0,0 +1,256 @@
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EmptyStackException;
+import java.util.RandomAccess;
+import java.util.random.RandomGenerator;
+
+/**
+ * Pile of cards backed by an array with a cursor to the top card, used for the deck and the discard pile.
+ * Unlike java.util.Stack nothing is synchronized since every table is only used by one thread,
+ * and clearing the pile keeps its array so refilling it doesn't allocate.
+ * Copies share the array with the original until one of them changes, so snapshots only pay for
+ * the piles that change after them.
+ * Index 0 is the bottom of the pile and size() - 1 is the top.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class CardPile extends AbstractList<Card> implements RandomAccess, Serializable {
+    private Card[] cards;
+    private int size; //cursor one past the top card
+    private boolean shared; //true if a copy may still be reading the same array
+
+    /**
+     * Creates an empty pile with room for a full deck.
+     */
+    public CardPile() {
+        this(CardCatalog.DECK_SIZE);
+    }
+
+    /**
+     * Creates an empty pile.
+     *
+     * @param capacity number of cards it can hold before growing
+     */
+    public CardPile(int capacity) {
+        this.cards = new Card[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    /**
+     * Creates a pile holding the same cards as another pile. Takes constant time, the array is only
+     * copied when either pile changes.
+     *
+     * @param other pile to copy, cards are immutable so only references are shared
+     */
+    public CardPile(CardPile other) {
+        this.cards = other.cards;
+        this.size = other.size;
+        this.shared = true;
+        other.shared = true;
+    }
+
+    /**
+     * Makes this pile hold the same cards as another pile. Takes constant time like the copy constructor.
+     *
+     * @param other pile to copy
+     */
+    public void replaceWith(CardPile other) {
+        this.cards = other.cards;
+        this.size = other.size;
+        this.shared = true;
+        other.shared = true;
+        modCount++;
+    }
+
+    /**
+     * Grows the array if it can't hold more cards, and takes its own copy of the array if it is shared.
+     * Has to be called before anything is written to the array.
+     *
+     * @param needed number of cards the pile has to hold
+     */
+    private void ensureCapacity(int needed) {
+        if (needed > cards.length) {
+            cards = Arrays.copyOf(cards, Math.max(needed, cards.length * 2));
+            shared = false;
+        } else if (shared) {
+            cards = cards.clone();
+            shared = false;
+        }
+    }
+
+    /**
+     * Puts a card on top of the pile.
+     *
+     * @param card card to add
+     * @return the card added
+     */
+    public Card push(Card card) {
+        ensureCapacity(size + 1);
+        cards[size++] = card;
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Takes the top card off the pile.
+     *
+     * @return the top card
+     * @throws EmptyStackException if the pile is empty
+     */
+    public Card pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        ensureCapacity(size);
+        Card card = cards[--size];
+        cards[size] = null;
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Gets the top card without removing it.
+     *
+     * @return the top card
+     * @throws EmptyStackException if the pile is empty
+     */
+    public Card peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return cards[size - 1];
+    }
+
+    /**
+     * Takes up to count cards off the top of the pile, top card first.
+     *
+     * @param count number of cards to take
+     * @param into collection the cards are added to
+     * @return number of cards taken, less than count if the pile ran out
+     */
+    public int pop(int count, Collection<? super Card> into) {
+        int taken = Math.min(count, size);
+        ensureCapacity(size);
+        for (int i = 0; i < taken; i++) {
+            into.add(cards[--size]);
+            cards[size] = null;
+        }
+        modCount++;
+        return taken;
+    }
+
+    /**
+     * Shuffles the pile in place with Fisher-Yates.
+     *
+     * @param random random used to pick the swaps
+     */
+    public void shuffle(RandomGenerator random) {
+        ensureCapacity(size);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+
+    @Override
+    public boolean add(Card card) {
+        push(card);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Card> more) {
+        if (more instanceof CardPile) { //copy the array directly
+            CardPile other = (CardPile) more;
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.cards, 0, cards, size, other.size);
+            size += other.size;
+            modCount++;
+            return other.size > 0;
+        }
+        ensureCapacity(size + more.size());
+        for (Card card : more) {
+            cards[size++] = card;
+        }
+        modCount++;
+        return !more.isEmpty();
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return cards[index];
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = get(index);
+        ensureCapacity(size);
+        cards[index] = card;
+        return old;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(cards, index, cards, index + 1, size - index);
+        cards[index] = card;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card old = get(index);
+        ensureCapacity(size);
+        System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+        cards[--size] = null;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Estimates the memory the pile holds on to, counting its array even if a copy shares it.
+     *
+     * @return estimated bytes
+     */
+    public long estimatedBytes() {
+        return 32 + 16 + 4L * cards.length; //object, array header and one reference per slot
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every card but keeps the array so the pile can be refilled without allocating,
+     * unless a copy is still using it.
+     */
+    @Override
+    public void clear() {
+        if (shared) {
+            cards = new Card[cards.length];
+            shared = false;
+        } else {
+            Arrays.fill(cards, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+}
@@ -0,0 +1,101 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardPileTest {
+    private CardPile pile;
+    private Card red5;
+    private Card blueSkip;
+
+    @BeforeEach
+    void setUp() {
+        pile = new CardPile(1);
+        red5 = new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 5, 5);
+        blueSkip = new Card(CardColour.BLUE, CardColour.PURPLE, CardType.SKIP, CardType.SKIP_EVERYONE, 20, 30);
+    }
+
+    @Test
+    void testPushPopOrder() {
+        pile.push(red5);
+        pile.push(blueSkip); //grows past the starting capacity
+        assertEquals(2, pile.size());
+        assertSame(blueSkip, pile.peek());
+        assertSame(blueSkip, pile.pop());
+        assertSame(red5, pile.pop());
+        assertTrue(pile.isEmpty());
+    }
+
+    @Test
+    void testPopEmptyThrows() {
+        assertThrows(EmptyStackException.class, () -> pile.pop());
+        assertThrows(EmptyStackException.class, () -> pile.peek());
+    }
+
+    @Test
+    void testBatchPopStopsWhenEmpty() {
+        pile.push(red5);
+        pile.push(blueSkip);
+        List<Card> hand = new ArrayList<>();
+
+        assertEquals(2, pile.pop(5, hand), "Should only take the cards that are there.");
+        assertEquals(List.of(blueSkip, red5), hand);
+    }
+
+    @Test
+    void testShuffleKeepsCards() {
+        for (int i = 0; i < CardCatalog.DECK_SIZE; i++) {
+            pile.push(CardCatalog.standardCard(i));
+        }
+        List<Card> before = new ArrayList<>(pile);
+        pile.shuffle(new Random(3));
+
+        assertEquals(before.size(), pile.size());
+        assertNotEquals(before, new ArrayList<>(pile), "Shuffling should change card order.");
+        int[] counts = new int[CardCatalog.FACE_COUNT]; //same cards in a different order
+        for (int i = 0; i < before.size(); i++) {
+            counts[before.get(i).getId()]++;
+            counts[pile.get(i).getId()]--;
+        }
+        assertArrayEquals(new int[CardCatalog.FACE_COUNT], counts);
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        pile.push(red5);
+        CardPile copy = new CardPile(pile);
+        copy.push(blueSkip);
+
+        assertEquals(1, pile.size());
+        assertEquals(2, copy.size());
+        assertSame(red5, copy.get(0));
+    }
+
+    @Test
+    void testOriginalChangeKeepsCopy() {
+        pile.push(red5);
+        pile.push(blueSkip);
+        CardPile copy = new CardPile(pile);
+
+        pile.pop();
+        pile.shuffle(new Random(1));
+        pile.clear();
+
+        assertEquals(List.of(red5, blueSkip), copy, "Copy should still see the cards from when it was made.");
+    }
+
+    @Test
+    void testRemoveAndInsertByIndex() {
+        pile.push(red5);
+        pile.push(blueSkip);
+        pile.add(0, blueSkip);
+
+        assertSame(red5, pile.remove(1));
+        assertEquals(List.of(blueSkip, blueSkip), pile);
+    }
+}
@@ -1,4 +1,22 @@
 public enum CardSide {
     LIGHT,
     DARK;
+
+    /**
+     * Gets the side facing up after a flip card is played.
+     *
+     * @return the other side
+     */
+    public CardSide flip() {
+        return (this == LIGHT) ? DARK : LIGHT;
+    }
+
+    /**
+     * Gets the first colour of the side, picked for a wild card when there is nothing better.
+     *
+     * @return RED or BROWN
+     */
+    public CardColour defaultColour() {
+        return (this == LIGHT) ? CardColour.RED : CardColour.BROWN;
+    }
 }
@@ -28,9 +28,24 @@ public class CardTest {
     }
 
     @Test
-    void testSetColour(){
-        red5.setColour(CardColour.GREEN);
-        assertEquals(CardColour.GREEN, red5.getColour());
+    void testCatalogCardsShared(){
+        Card card = CardCatalog.card(red5.getId());
+        assertEquals(red5, card);
+        assertSame(card, CardCatalog.card(red5.getId()), "Catalog should always give back the same shared card.");
+    }
+
+    @Test
+    void testSideGetters(){
+        assertEquals(CardColour.BROWN, red5.getColour(CardSide.DARK));
+        assertEquals(CardType.SKIP_EVERYONE, redSkip.getType(CardSide.DARK));
+        assertEquals(30, redSkip.getValue(CardSide.DARK));
+        assertEquals(CardType.SKIP, redSkip.getType(), "No side should read the light side.");
+    }
+
+    @Test
+    void testMatches_DarkSide(){
+        assertTrue(red5.matches(wild, CardColour.BROWN, CardSide.DARK), "Dark side should match the dark colour.");
+        assertFalse(red5.matches(wild, CardColour.RED, CardSide.DARK), "Light colour is not in play on the dark side.");
     }
 
     @Test
@@ -76,6 +91,11 @@ public class CardTest {
         assertEquals("RED SKIP", redSkip.toString());
     }
 
+    @Test
+    void testToString_DarkSide(){
+        assertEquals("BROWN SKIP_EVERYONE", redSkip.toString(CardSide.DARK));
+    }
+
     @Test
     void testToString_WildCard(){
         assertEquals("WILD WILD", wild.toString());
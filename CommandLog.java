@@ -0,0 +1,253 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Undo and redo history made of the commands a GameEngine recorded, instead of a copy of the game per state.
+ * The game marks each state it can be resumed from, undo reverts the commands back to the previous mark
+ * and redo applies them again up to the next one. Recording a new command drops anything that could be redone.
+ * The history is bounded by a number of states and an estimated memory budget, once either is passed the oldest
+ * states are dropped so a long session keeps the same footprint.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public class CommandLog implements CommandRecorder, Serializable {
+    public static final int DEFAULT_MAX_STATES = 500;
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+    private final int maxStates;
+    private final long maxBytes;
+
+    private final List<GameCommand> commands = new ArrayList<>();
+    private final List<Mark> marks = new ArrayList<>(); //sorted by position
+    private int cursor = 0; //number of commands currently applied
+    private long bytes = 0; //estimated memory held by the commands
+
+    /**
+     * State the game can be resumed from after the commands before position were applied.
+     */
+    private static class Mark implements Serializable {
+        private int position;
+        private GameState state;
+
+        Mark(int position, GameState state) {
+            this.position = position;
+            this.state = state;
+        }
+    }
+
+    /**
+     * Constructs a history with the default limits.
+     */
+    public CommandLog() {
+        this(DEFAULT_MAX_STATES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructs a history that keeps at most maxStates states and tries to stay under maxBytes.
+     * The current state and the one before it are always kept so the last move can be undone.
+     *
+     * @param maxStates most states kept, at least 2
+     * @param maxBytes estimated memory budget for the commands
+     */
+    public CommandLog(int maxStates, long maxBytes) {
+        if (maxStates < 2) {
+            throw new IllegalArgumentException("History needs at least 2 states: " + maxStates);
+        }
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Adds a command the engine just applied. Anything that could be redone is dropped.
+     *
+     * @param command the command
+     */
+    @Override
+    public void record(GameCommand command) {
+        if (cursor < commands.size()) {
+            List<GameCommand> undone = commands.subList(cursor, commands.size());
+            for (GameCommand c : undone) {
+                bytes -= c.estimatedBytes();
+            }
+            undone.clear();
+            while (!marks.isEmpty() && marks.get(marks.size() - 1).position > cursor) {
+                marks.remove(marks.size() - 1);
+            }
+        }
+        commands.add(command);
+        bytes += command.estimatedBytes();
+        cursor++;
+    }
+
+    /**
+     * Marks the current point as a state undo and redo can stop at.
+     * A second mark at the same point replaces the state of the first.
+     *
+     * @param state game state to resume from
+     */
+    public void mark(GameState state) {
+        int index = findMark(cursor);
+        if (index >= 0) {
+            marks.get(index).state = state;
+        } else {
+            marks.add(-index - 1, new Mark(cursor, state));
+        }
+
+        //drop the oldest states while over a limit, never the two undo needs next
+        while (marks.size() > 2 && marks.get(1).position < cursor
+                && (marks.size() > maxStates || bytes > maxBytes)) {
+            dropOldest();
+        }
+    }
+
+    /**
+     * Drops the oldest state and every command before the state after it, they can never be undone.
+     */
+    private void dropOldest() {
+        marks.remove(0);
+        int dropped = marks.get(0).position;
+
+        List<GameCommand> old = commands.subList(0, dropped);
+        for (GameCommand c : old) {
+            bytes -= c.estimatedBytes();
+        }
+        old.clear();
+
+        for (Mark m : marks) {
+            m.position -= dropped;
+        }
+        cursor -= dropped;
+    }
+
+    /**
+     * Gets the commands applied since the last marked state, used to journal them before the next mark.
+     *
+     * @return copy of the commands, oldest first
+     */
+    public List<GameCommand> commandsSinceMark() {
+        int from = 0;
+        for (Mark m : marks) {
+            if (m.position <= cursor) {
+                from = m.position;
+            }
+        }
+        return List.copyOf(commands.subList(from, cursor));
+    }
+
+    /**
+     * Finds the mark at a position.
+     *
+     * @param position command position
+     * @return index of the mark, or -(insertion point) - 1 if there isn't one
+     */
+    private int findMark(int position) {
+        int index = marks.size() - 1;
+        while (index >= 0 && marks.get(index).position > position) {
+            index--;
+        }
+        if (index >= 0 && marks.get(index).position == position) {
+            return index;
+        }
+        return -(index + 1) - 1;
+    }
+
+    /**
+     * Checks if there is a marked state to go back to.
+     *
+     * @return true if undo() can be called
+     */
+    public boolean canUndo() {
+        return !marks.isEmpty() && marks.get(0).position < cursor;
+    }
+
+    /**
+     * Checks if there is an undone state to go forward to.
+     *
+     * @return true if redo() can be called
+     */
+    public boolean canRedo() {
+        return !marks.isEmpty() && marks.get(marks.size() - 1).position > cursor;
+    }
+
+    /**
+     * Reverts the commands back to the previous marked state.
+     *
+     * @param engine engine the commands were recorded from
+     * @param current state the game is in now, so redo can come back to it
+     * @return state to resume from, null if there is nothing to undo
+     */
+    public GameState undo(GameEngine engine, GameState current) {
+        if (!canUndo()) {
+            return null;
+        }
+        if (findMark(cursor) < 0) { //remember where we are for redo
+            mark(current);
+        }
+
+        int index = findMark(cursor) - 1;
+        Mark target = marks.get(index);
+        while (cursor > target.position) {
+            commands.get(--cursor).revert(engine);
+        }
+        return target.state;
+    }
+
+    /**
+     * Applies the undone commands up to the next marked state.
+     *
+     * @param engine engine the commands were recorded from
+     * @return state to resume from, null if there is nothing to redo
+     */
+    public GameState redo(GameEngine engine) {
+        if (!canRedo()) {
+            return null;
+        }
+
+        int index = findMark(cursor);
+        Mark target = marks.get((index >= 0) ? index + 1 : -index - 1);
+        while (cursor < target.position) {
+            commands.get(cursor++).apply(engine);
+        }
+        return target.state;
+    }
+
+    /**
+     * Removes all history.
+     */
+    public void clear() {
+        commands.clear();
+        marks.clear();
+        cursor = 0;
+        bytes = 0;
+    }
+
+    /**
+     * Gets the number of states undo and redo can stop at.
+     *
+     * @return number of marked states
+     */
+    public int getStateCount() {
+        return marks.size();
+    }
+
+    /**
+     * Estimates the memory the history holds on to. Checkpoints can share card arrays with each other and
+     * the game, so this is an upper bound.
+     *
+     * @return estimated bytes
+     */
+    public long getMemoryUse() {
+        return bytes;
+    }
+
+    /**
+     * Gets the number of commands recorded, undone ones included.
+     *
+     * @return number of commands
+     */
+    public int size() {
+        return commands.size();
+    }
+}
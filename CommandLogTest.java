@@ -0,0 +1,166 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class CommandLogTest {
+    private GameEngine engine;
+    private CommandLog log;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3")), 42L);
+        log = new CommandLog();
+        engine.setCommandLog(log);
+    }
+
+    /**
+     * Describes every part of the game undo has to put back.
+     */
+    private static String describe(GameEngine engine) {
+        StringBuilder sb = new StringBuilder();
+        for (Player p : engine.getPlayers()) {
+            sb.append(p.getScore()).append(p.gethand()).append('|');
+        }
+        sb.append(engine.getDeck().getCards()).append('|')
+                .append(engine.getDiscardPile()).append('|')
+                .append(engine.getCurrentPlayerIndex()).append(engine.getDirection()).append(engine.getSide())
+                .append(engine.flags()).append(',').append(engine.getRoundCounter()).append(',').append(engine.getGameCounter());
+        return sb.toString();
+    }
+
+    @Test
+    void testNothingToUndo() {
+        assertFalse(log.canUndo());
+        assertFalse(log.canRedo());
+        assertNull(log.undo(engine, GameState.NEW_ROUND));
+        assertNull(log.redo(engine));
+    }
+
+    @Test
+    void testUndoAndRedoWholeGame() {
+        log = new CommandLog(Integer.MAX_VALUE, Long.MAX_VALUE); //keep every state
+        engine.setCommandLog(log);
+        GameLoop loop = new GameLoop(engine);
+        List<String> states = new ArrayList<>();
+        boolean playing = true;
+        while (playing) {
+            states.add(describe(engine));
+            log.mark(loop.getState());
+            playing = loop.step();
+        }
+        states.add(describe(engine));
+
+        for (int i = states.size() - 2; i >= 0; i--) { //back to the start one state at a time
+            assertNotNull(log.undo(engine, loop.getState()));
+            assertEquals(states.get(i), describe(engine), "Undo to state " + i);
+        }
+        assertFalse(log.canUndo());
+
+        for (int i = 1; i < states.size(); i++) {
+            assertNotNull(log.redo(engine));
+            assertEquals(states.get(i), describe(engine), "Redo to state " + i);
+        }
+        assertFalse(log.canRedo());
+    }
+
+    @Test
+    void testUndoReturnsMarkedState() {
+        engine.startRound();
+        log.mark(GameState.HANDLE_INITIAL_HAND);
+        String dealt = describe(engine);
+
+        engine.setWildDrawLoop(true);
+        engine.drawForColour();
+        log.mark(GameState.HANDLE_AFTER_DRAW);
+        engine.nextTurn();
+
+        assertEquals(GameState.HANDLE_AFTER_DRAW, log.undo(engine, GameState.HANDLE_INITIAL_HAND));
+        assertEquals(GameState.HANDLE_INITIAL_HAND, log.undo(engine, GameState.HANDLE_AFTER_DRAW));
+        assertEquals(dealt, describe(engine));
+        assertEquals(GameState.HANDLE_AFTER_DRAW, log.redo(engine));
+        assertEquals(GameState.HANDLE_INITIAL_HAND, log.redo(engine), "Redo should come back to where undo started.");
+    }
+
+    @Test
+    void testNewMoveDropsRedo() {
+        engine.startRound();
+        log.mark(GameState.HANDLE_INITIAL_HAND);
+        engine.nextTurn();
+        log.mark(GameState.HANDLE_INITIAL_HAND);
+
+        log.undo(engine, GameState.HANDLE_INITIAL_HAND);
+        assertTrue(log.canRedo());
+        engine.skipTurn(2);
+        assertFalse(log.canRedo());
+        assertTrue(log.canUndo());
+    }
+
+    /**
+     * Plays a whole game marking every step.
+     */
+    private static void playMarked(GameEngine engine, CommandLog log) {
+        GameLoop loop = new GameLoop(engine);
+        boolean playing = true;
+        while (playing) {
+            log.mark(loop.getState());
+            playing = loop.step();
+        }
+        log.mark(loop.getState());
+    }
+
+    @Test
+    void testHistoryKeepsMaxStates() {
+        log = new CommandLog(10, Long.MAX_VALUE);
+        engine.setCommandLog(log);
+        playMarked(engine, log);
+
+        assertEquals(10, log.getStateCount());
+        int undos = 0;
+        while (log.undo(engine, GameState.HANDLE_INITIAL_HAND) != null) {
+            undos++;
+        }
+        assertEquals(9, undos, "Undo should stop at the oldest state kept.");
+    }
+
+    @Test
+    void testHistoryStaysUnderMemoryBudget() {
+        long budget = 64 * 1024;
+        log = new CommandLog(Integer.MAX_VALUE, budget);
+        engine.setCommandLog(log);
+        playMarked(engine, log);
+
+        assertTrue(log.getMemoryUse() <= budget, "Memory use " + log.getMemoryUse() + " over budget.");
+        assertTrue(log.getStateCount() > 2);
+        assertTrue(log.canUndo());
+    }
+
+    @Test
+    void testMemoryUseMatchesCommandsKept() {
+        engine.startRound();
+        log.mark(GameState.HANDLE_INITIAL_HAND);
+        long dealt = log.getMemoryUse();
+        assertTrue(dealt > 0);
+
+        engine.setWildDrawLoop(true);
+        engine.drawForColour();
+        log.mark(GameState.HANDLE_AFTER_DRAW);
+        long drawn = log.getMemoryUse();
+        assertTrue(drawn > dealt);
+
+        log.undo(engine, GameState.HANDLE_AFTER_DRAW);
+        engine.nextTurn(); //drops the undone draw
+        assertTrue(log.getMemoryUse() < drawn);
+
+        log.clear();
+        assertEquals(0, log.getMemoryUse());
+    }
+
+    @Test
+    void testNothingRecordedWithoutLog() {
+        engine.setCommandLog(null);
+        engine.startRound();
+        engine.nextTurn();
+        assertEquals(0, log.size());
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Interface for anything a GameEngine records its changes in, e.g. a CommandLog for undo and redo
+ * or a TableSync sending the changes to remote players.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public interface CommandRecorder {
+    /**
+     * Called with each change just after the engine made it.
+     *
+     * @param command the change
+     */
+    void record(GameCommand command);
+}
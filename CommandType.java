@@ -0,0 +1,17 @@
+/**
+ * Enum for every kind of change a GameCommand can make to a game, see GameCommand for what each one holds.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public enum CommandType {
+    DRAW,
+    PLAY,
+    FLIP,
+    REVERSE,
+    TURN,
+    FLAGS,
+    SCORE,
+    ROUND,
+    CHECKPOINT
+}
@@ -1,8 +1,8 @@
 import javax.swing.*;
 import java.awt.event.*;
 import java.io.*;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Stack;
 
 /**
  * The Controller class manages the state and flow of the GUI UNO game.
@@ -20,9 +20,16 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
 
     private boolean gameOver;
 
-    //undo and redo stacks
-    private Stack<Snapshot> undoStack = new Stack<>();
-    private Stack<Snapshot> redoStack = new Stack<>();
+    //undo and redo history, the engine records every change instead of copying the game each state
+    private final CommandLog history = new CommandLog();
+
+    //saves are written on a background thread, autosaving every few turns
+    private static final int AUTOSAVE_TURNS = 10;
+    private final transient SaveService saves = new SaveService(Path.of("saves"), AUTOSAVE_TURNS, SwingUtilities::invokeLater);
+
+    //every state is also appended to a journal so the game can be recovered after a crash
+    private static final int JOURNAL_CHECKPOINT_EVERY = 50;
+    private transient GameJournal journal;
 
     /**
      * Constructs a Controller that handles a view and model of UNO
@@ -40,7 +47,7 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
         int result = JOptionPane.showOptionDialog(null, promptAi, "Load Save", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, null);
         if (result == JOptionPane.YES_OPTION) {
 
-            String filename = JOptionPane.showInputDialog(null, "Enter the name of the save file");
+            String filename = JOptionPane.showInputDialog(null, "Enter the name of the save file (" + GameJournal.EXTENSION + " to recover a game)");
             loadGame(filename);
 
         } else {
@@ -48,9 +55,11 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
             gameManager = new GameManager(players);
             gameManager.setView(view);
             gameManager.setListener(this);
+            gameManager.setCommandLog(history);
             gameManager.initializeControls();
             gameManager.initialPlayers();
             view.subscribe(gameManager);
+            openJournal();
 
             gameManager.startGame();
             gameManager.setGameState(GameState.HANDLE_INITIAL_HAND); //saving initial game snapshot
@@ -66,38 +75,39 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
      * For enabling and disabling the undo and redo buttons for when the user can use them.
      */
     private void updateStackButtons() {
-        view.updateRedoButton(!redoStack.isEmpty());
-        view.updateUndoButton(!undoStack.isEmpty());
+        view.updateRedoButton(history.canRedo());
+        view.updateUndoButton(history.canUndo());
     }
 
     /**
-     * Method used to verify the undo state about to pop is not the current one.
+     * Returns the game manager. FOR TEST PURPOSES ONLY
      *
-     * @param snapshot Current state about to pop from undo state.
-     * @return True is they're the same state.
+     * @return the game manager.
      */
-    private Boolean checkState(Snapshot snapshot) {
-        GameManager snapshotCopy = snapshot.getGameManagerCopy();
-        return gameManager.equals(snapshotCopy);
+    public GameManager getGameManager() {
+        return gameManager;
     }
 
     /**
-     * Returns the game manager. FOR TEST PURPOSES ONLY
+     * Gets the estimated memory the undo and redo history is holding on to.
      *
-     * @return the game manager.
+     * @return estimated bytes, kept under CommandLog.DEFAULT_MAX_BYTES
      */
-    public GameManager getGameManager() {
-        return gameManager;
+    public long getHistoryMemoryUse() {
+        return history.getMemoryUse();
     }
 
     /**
-     * Push a snapshot to the undo stack. Should be called before any player action that changes the game.
+     * Marks the current point in the history as a state undo and redo can stop at.
      * Interface implementation for StateListener, called everything state change.
      */
     @Override
     public void saveSnapshotForUndo(GameState state) {
-        undoStack.push(new Snapshot(gameManager, state)); //create copy and add to stack
-        redoStack.clear(); //clear redo when a new move is made
+        writeJournal(state, false); //commands since the last mark
+        history.mark(state); //changes since the last mark were already recorded by the engine
+        if (state == GameState.HANDLE_INITIAL_HAND) { //a new turn
+            saves.turnTaken(gameManager.getEngine(), state, view);
+        }
 
         this.updateStackButtons(); //updates view of buttons
     }
@@ -106,17 +116,10 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
      * Draw a card.
      */
     public void draw() {
-        Player player = gameManager.getCurrentPlayer();
-
         if (gameManager.getWildDrawLoop()) { //if player plays draw colour card
-            CardColour loopColour = gameManager.getDrawLoopColour(); //colour must draw
-
-            Deck deck = gameManager.getDeck(); //getting deck
-            Card drawCard = deck.drawCard(); //drawing card from deck
+            gameManager.drawForColour(); //drawing card from deck to player hand
 
-            player.addCardtoHand(drawCard); //adding to player hand
-            if (drawCard.getColour() == loopColour) {
-                gameManager.setWildDrawLoop(false); //exit draw loop
+            if (!gameManager.getWildDrawLoop()) { //engine exits draw loop once colour drawn
                 gameManager.setPlayButton(true); //enable play card button
                 gameManager.setButtonBool(false); //disable draw button
 
@@ -132,77 +135,50 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
             gameManager.drawCard();
             gameManager.setButtonBool(false); //disable draw for user after draw card
             gameManager.setGameState(GameState.HANDLE_AFTER_DRAW); //saving game snapshot
-            gameManager.handleAfterDraw(); //continues game logic after draw card
+            gameManager.queueState(GameState.HANDLE_AFTER_DRAW); //continues game logic after draw card
 
         }
     }
 
     /**
-     * Undo a move. Saves the current game state to the redo stack and pops from undo stack. Then reattaches and updates
-     * the GUI.
+     * Undo a move. Reverts the changes the engine recorded back to the previous state, then updates the GUI
+     * and continues from that state.
      */
     public void undo() {
-        if(!undoStack.isEmpty()){
-
-            Boolean sameState = checkState(undoStack.peek()); //check if it is not the current state
-            redoStack.push(new Snapshot(gameManager, gameManager.getGameState())); //save current state for redo
-
-            if (sameState) { //if current state, we just pop it from undo and do nothing with it
-                undoStack.pop();
-            }
-
-            Snapshot prev = undoStack.pop();
-            gameManager = prev.getGameManagerCopy();
-            gameManager.setView(view); //reattach GUI
-            gameManager.updateControls(); //update play and draw so not null
-            gameManager.updateAll(); //update GUI
-
+        GameState prev = history.undo(gameManager.getEngine(), gameManager.getGameState());
+        if (prev != null) {
+            writeJournal(prev, true); //game went backwards so the journal needs all of it
             this.updateStackButtons(); //updates view of buttons
 
             System.out.println("(undo)current player: " + gameManager.getCurrentPlayer().getName());
-            prev.executeState(); //executes game logic
+            gameManager.resumeState(prev); //executes game logic
         }
         //should probably add an else in case there is nothing to undo
     }
 
     /**
-     * Redo a move. Saves the current game state to the undo stack and pops from redo stack. Then reattaches and updates
-     * the GUI.
+     * Redo a move. Applies the undone changes again up to the next state, then updates the GUI
+     * and continues from that state.
      */
     public void redo() {
-        if(!redoStack.isEmpty()){
-            undoStack.push(new Snapshot(gameManager, gameManager.getGameState())); //save current state for undo
-            Snapshot prev = redoStack.pop();
-            gameManager = prev.getGameManagerCopy();
-            gameManager.setView(view); //reattach GUI
-            gameManager.updateControls(); //update play and draw so not null
-            gameManager.updateAll(); //update GUI
-
+        GameState next = history.redo(gameManager.getEngine());
+        if (next != null) {
+            writeJournal(next, true);
             this.updateStackButtons(); //updates view of buttons
 
             System.out.println("(redo)current player: " + gameManager.getCurrentPlayer().getName());
-            prev.executeState(); //executes game logic
+            gameManager.resumeState(next); //executes game logic
         }
         //should probably add an else in case there is nothing to redo
     }
 
     /**
-     * Saves the current game state as a snapshot to a file in the saves folder
+     * Saves the current game to a file in the saves folder. The game is copied right away and written
+     * on a background thread, the view is told once it is written.
      * @param filename the name of the file to be saved
      */
     public void saveGame(String filename){
-
-        File saveDir = new File("saves");
-        if(!saveDir.exists()){ //make sure saves folder exists otherwise create it
-            saveDir.mkdir();
-        }
-
-        Snapshot snap = new Snapshot(gameManager,  gameManager.getGameState());
-        try(ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream("saves/" + filename))){
-            out.writeObject(snap);
-        } catch(IOException e){
-            e.printStackTrace();
-        }
+        saves.save(filename, gameManager.getEngine(), gameManager.getGameState(), view);
     }
 
     /**
@@ -210,27 +186,72 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
      * @param filename the name of the file to be loaded from
      */
     public void loadGame(String filename){
-        try(ObjectInputStream in = new ObjectInputStream(new FileInputStream("saves/" + filename))){
-            Snapshot snap = (Snapshot) in.readObject();
+        try {
+            Snapshot snap;
+            if (filename.endsWith(GameJournal.EXTENSION)) { //rebuild a game that didn't exit cleanly
+                snap = GameJournal.recover(Path.of("saves", filename));
+            } else {
+                snap = saves.load(filename);
+            }
             gameManager = snap.getGameManagerCopy();
             gameManager.setView(view); //reattach GUI
+            gameManager.setListener(this);
+            view.subscribe(gameManager);
             view.addControlButtons();
             gameManager.updateControls(); //update play and draw so not null
-            gameManager.updateAll(); //update GUI
 
-            //clear stacks after loading
-            undoStack.clear();
-            redoStack.clear();
+            //start a new history after loading
+            history.clear();
+            gameManager.setCommandLog(history);
+            openJournal();
+            writeJournal(snap.getGameState(), true);
 
             this.updateStackButtons(); //updates view of buttons, might or might not need this....
 
-            snap.executeState(); //executes game logic
+            gameManager.resumeState(snap.getGameState()); //update GUI and executes game logic
 
-        } catch (IOException | ClassNotFoundException e){
+        } catch (IOException e){
             e.printStackTrace();
         }
     }
 
+    /**
+     * Opens the journal for the current game, closing the journal of the previous one.
+     */
+    private void openJournal() {
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+            journal = new GameJournal(Path.of("saves", GameJournal.fileName(gameManager.getSeed())), JOURNAL_CHECKPOINT_EVERY);
+        } catch (IOException e) {
+            e.printStackTrace();
+            journal = null; //keep playing without a journal
+        }
+    }
+
+    /**
+     * Appends the current state to the journal.
+     *
+     * @param state state the game continues from
+     * @param full true to write the whole game, needed after undo, redo and loading
+     */
+    private void writeJournal(GameState state, boolean full) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (full) {
+                journal.checkpoint(gameManager.getEngine(), state);
+            } else {
+                journal.append(gameManager.getEngine(), state, history.commandsSinceMark());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            journal = null; //keep playing without a journal
+        }
+    }
+
     /**
      * Returns the controllers view
      *
@@ -326,6 +347,14 @@ public class Controller implements MouseListener, MouseMotionListener, ActionLis
         JButton button = (JButton) event.getSource();
 
         if (button.getText().equals("Quit")) {
+            saves.shutdown(2000); //finish writing saves first
+            if (journal != null) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
             System.exit(0);
 
         } else if (button.getText().equals("Play")) { //play card
@@ -1,7 +1,6 @@
 import java.io.Serializable;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * Class represents a standard UNO deck used in the game.
@@ -11,31 +10,68 @@ import java.util.Stack;
  * @version December 5, 2025
  */
 public class Deck implements Serializable {
-    private final Stack<Card> cards;
+    private final CardPile cards;
+    private GameRandom random; //owned by this deck so games never share one
 
     /**
-     * Initialize standard deck.
+     * Initialize standard deck with a new random seed.
      */
     public Deck(){
-        this.cards = new Stack<>();
+        this(new GameRandom());
+    }
+
+    /**
+     * Initialize standard deck shuffled with its own random, the same seed always deals the same cards.
+     *
+     * @param random random used to shuffle
+     */
+    public Deck(GameRandom random){
+        this.cards = new CardPile(CardCatalog.DECK_SIZE);
+        this.random = random;
         initializeStandardUnoDeck();
     }
 
+    /**
+     * Copies the cards and random state of another deck.
+     *
+     * @param other deck to copy
+     */
+    private Deck(Deck other){
+        this.cards = new CardPile(other.cards); //cards are immutable so copy references
+        this.random = other.random.copy(); //copy shuffles the same way as the original would
+    }
+
+    /**
+     * Creates a deck holding cards already in order, used to load a saved game.
+     *
+     * @param cards cards bottom to top, kept by the deck
+     * @param random random for later shuffles
+     */
+    Deck(CardPile cards, GameRandom random){
+        this.cards = cards;
+        this.random = random;
+    }
+
     /**
      * Returns a deep copy of deck to be used in a snapshot.
      * @return the copied deck
      */
     public Deck deepCopy(){
-        Deck copy = new Deck();
-        copy.cards.clear(); //remove cards added by constructor
-        for (Card card : this.cards) { //copy over cards from deck to copied deck
-            copy.cards.push(card.deepCopy());
-        }
-        return copy;
+        return new Deck(this);
+    }
+
+    /**
+     * Sets the cards and random to those of a copy of this deck, used to undo changes.
+     *
+     * @param other copy of this deck
+     */
+    void restore(Deck other){
+        this.cards.replaceWith(other.cards);
+        this.random = other.random.copy(); //keep the copy's random untouched for a second undo
     }
 
     /**
-     * Clears deck and re-initialize it for a new game.
+     * Clears deck and re-initialize it for a new game, reusing the same array.
      */
     public void newDeck() {
         this.cards.clear();
@@ -43,57 +79,11 @@ public class Deck implements Serializable {
     }
 
     /**
-     * Create a standard UNO deck.
+     * Create a standard UNO deck from the shared catalog cards.
      */
     private void initializeStandardUnoDeck(){
-        // create cards of each colour
-        for (int j = 0 ; j <= 3 ; j++) {
-            //create coloured cards of each value and type
-            for (int i = 0 ; i <= 12 ; i++) {
-                int type;
-                int value;
-                if (i <= 9) {
-                    //set type to number
-                    type = 0;
-                    //set value to 0-9
-                    value = i;
-                    //for numbers only
-                    cards.add(new Card(CardColour.values()[j], CardColour.values()[j + 5], CardType.values()[type], CardType.values()[type],value, value));
-                }
-                else {
-                    //set type to reverse, skip, or draw one
-                    type = i - 9;
-                    //set value to 10 for draw one and 20 for reverse and skip
-                    if(type == 3) { //draw one
-                        value = 10;
-                        cards.add(new Card(CardColour.values()[j], CardColour.values()[j + 5], CardType.values()[type], CardType.DRAW_FIVE, value, 20));
-                    }
-                    else { //reverse and skip
-                        value = 20;
-                        if (type == 1) { //reverse
-                            cards.add(new Card(CardColour.values()[j], CardColour.values()[j + 5], CardType.values()[type], CardType.values()[type], value, value));
-                        } else { //skip
-                            cards.add(new Card(CardColour.values()[j], CardColour.values()[j + 5], CardType.values()[type], CardType.SKIP_EVERYONE, value, 30));
-                        }
-                    }
-                }
-
-                //cards.add(new Card(CardColour.values()[j], CardType.values()[type], value));
-            }
-        }
-
-        //create four of each wild card
-        for (int i = 0 ; i <= 3 ; i++) {
-            cards.add(new Card(CardColour.WILD, CardColour.WILD, CardType.WILD, CardType.WILD, 40, 40));
-            cards.add(new Card(CardColour.WILD, CardColour.WILD, CardType.WILD_DRAW_TWO, CardType.WILD_DRAW_COLOR, 50, 60));
-        }
-
-        //adding flip cards
-        for (int i = 0; i < 2; i++) {
-            cards.add(new Card(CardColour.RED, CardColour.BROWN, CardType.FLIP, CardType.FLIP, 20, 20));
-            cards.add(new Card(CardColour.BLUE, CardColour.PURPLE, CardType.FLIP, CardType.FLIP, 20, 20));
-            cards.add(new Card(CardColour.GREEN, CardColour.TEAL, CardType.FLIP, CardType.FLIP, 20, 20));
-            cards.add(new Card(CardColour.YELLOW, CardColour.ORANGE, CardType.FLIP, CardType.FLIP, 20, 20));
+        for (int i = 0; i < CardCatalog.DECK_SIZE; i++) {
+            cards.push(CardCatalog.standardCard(i));
         }
 
         //shuffle the deck
@@ -104,7 +94,25 @@ public class Deck implements Serializable {
      * Shuffles the deck.
      */
     public void shuffle(){
-        Collections.shuffle(cards);
+        cards.shuffle(random);
+    }
+
+    /**
+     * Gets the seed the deck shuffles with, a new deck with the same seed deals the same cards.
+     *
+     * @return the seed
+     */
+    public long getSeed(){
+        return random.getSeed();
+    }
+
+    /**
+     * Gets the random used for shuffles, used to save the game.
+     *
+     * @return the random
+     */
+    GameRandom getRandom(){
+        return random;
     }
 
     /**
@@ -116,6 +124,37 @@ public class Deck implements Serializable {
         return cards.pop();
     }
 
+    /**
+     * Takes a number of cards off the top of the deck.
+     *
+     * @param count number of cards to draw
+     * @param into where the drawn cards go, such as a player hand
+     * @return number of cards drawn, less than count if the deck ran out
+     */
+    public int drawCards(int count, Collection<? super Card> into){
+        return cards.pop(count, into);
+    }
+
+    /**
+     * Shuffles every card of the discard pile except its top card back into the deck,
+     * used when the deck runs out of cards.
+     *
+     * @param discardPile discard pile to take the cards from, keeps only its top card
+     * @return number of cards moved into the deck
+     */
+    public int recycle(CardPile discardPile){
+        if (discardPile.size() <= 1) { //nothing under the top card
+            return 0;
+        }
+        Card top = discardPile.pop();
+        int moved = discardPile.size();
+        cards.addAll(discardPile);
+        discardPile.clear();
+        discardPile.push(top);
+        shuffle();
+        return moved;
+    }
+
     /**
      * Gets the top card of the deck without removing it.
      *
@@ -162,11 +201,11 @@ public class Deck implements Serializable {
     }
 
     /**
-     * Returns the full stack of cards in the deck.
+     * Returns the full pile of cards in the deck, the last card is the top of the deck.
      *
-     * @return the stack of cards
+     * @return the pile of cards
      */
-    public Stack<Card> getCards(){
+    public CardPile getCards(){
         return cards;
     }
 }
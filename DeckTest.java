@@ -3,7 +3,6 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -86,9 +85,29 @@ public class DeckTest {
     }
 
     @Test
-    void testGetCards_ReturnsStackReference() {
-        Stack<Card> cards = deck.getCards();
+    void testGetCards_ReturnsPileReference() {
+        CardPile cards = deck.getCards();
         assertNotNull(cards, "getCards() should never return null.");
-        assertEquals(deck.size(), cards.size(), "Returned stack size should match deck size.");
+        assertEquals(deck.size(), cards.size(), "Returned pile size should match deck size.");
+        assertSame(deck.peekCard(), cards.peek(), "Top of the pile should be the top of the deck.");
+    }
+
+    @Test
+    void testDrawCards_TakesFromTop() {
+        Card top = deck.peekCard();
+        int initialSize = deck.size();
+        List<Card> hand = new ArrayList<>();
+
+        assertEquals(5, deck.drawCards(5, hand));
+        assertEquals(initialSize - 5, deck.size());
+        assertSame(top, hand.get(0), "First card drawn should be the old top card.");
+    }
+
+    @Test
+    void testNewDeck_RefillsAfterDrawing() {
+        int initialSize = deck.size();
+        deck.drawCards(10, new ArrayList<>());
+        deck.newDeck();
+        assertEquals(initialSize, deck.size(), "New deck should have every card again.");
     }
 }
@@ -0,0 +1,77 @@
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameView over a GameEngine from the seat of its current player. Reads straight through to the engine,
+ * so it always shows the game as it is now and costs nothing to make.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public class EngineView implements GameView {
+    private final GameEngine engine;
+
+    /**
+     * Constructs a view of a game.
+     *
+     * @param engine the game
+     */
+    public EngineView(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public List<Card> getHand() {
+        return Collections.unmodifiableList(engine.getCurrentPlayer().gethand());
+    }
+
+    @Override
+    public Card getTopDiscard() {
+        return engine.getDiscardPile().isEmpty() ? null : engine.topDiscard();
+    }
+
+    @Override
+    public CardColour getActiveColour() {
+        return engine.getActiveColour();
+    }
+
+    @Override
+    public CardSide getSide() {
+        return engine.getSide();
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return engine.getPlayers().size();
+    }
+
+    @Override
+    public int getHandSize(int player) {
+        return engine.getPlayers().get(player).gethand().size();
+    }
+
+    @Override
+    public int getColourCount(CardColour colour) {
+        return engine.getCurrentPlayer().gethand().getColourCount(engine.getSide(), colour);
+    }
+
+    @Override
+    public int getScore(int player) {
+        return engine.getPlayers().get(player).getScore();
+    }
+
+    @Override
+    public int getCurrentPlayerIndex() {
+        return engine.getCurrentPlayerIndex();
+    }
+
+    @Override
+    public int getDirection() {
+        return engine.getDirection();
+    }
+
+    @Override
+    public int getDeckSize() {
+        return engine.getDeck().size();
+    }
+}
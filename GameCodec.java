@@ -0,0 +1,440 @@
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary save format for a game. Only the game itself is written, no GUI, listener or Java class names,
+ * so a save is a few hundred bytes and old saves still load after classes change.
+ * Cards are written as their catalog id and numbers as varints (7 bits per byte, high bit set if more follow).
+ *
+ * Version 1 layout:
+ * magic "UNOF", version, game state ordinal + 1 (0 for none),
+ * seed and the 4 random state words (8 bytes each),
+ * current player, direction (0 clockwise, 1 reversed), side ordinal, turn flags (see GameEngine.flags()),
+ * round counter, game counter,
+ * player count then for each player: 1 if AI else 0, name, score, hand,
+ * deck, discard pile.
+ * A pile is its size then every card bottom to top. A card is its id + 1, or 0 followed by both colours,
+ * both types and both values for a card that isn't in the catalog.
+ * Strings are a byte count then UTF-8.
+ * The same encoding is used for GameCommands in the game journal, see writeCommand().
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public final class GameCodec {
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'U', 'N', 'O', 'F'};
+
+    private static final CardColour[] COLOURS = CardColour.values();
+    private static final CardType[] TYPES = CardType.values();
+    private static final CardSide[] SIDES = CardSide.values();
+    private static final GameState[] STATES = GameState.values();
+    private static final CommandType[] COMMAND_TYPES = CommandType.values();
+
+    private byte[] buf;
+    private int pos;
+
+    /**
+     * Creates a codec to write into, one per save.
+     */
+    GameCodec() {
+        this(new byte[256]);
+    }
+
+    /**
+     * Creates a codec to read bytes, one per load.
+     *
+     * @param data bytes to read
+     */
+    GameCodec(byte[] data) {
+        this(data, 0);
+    }
+
+    /**
+     * Creates a codec to read bytes from a position, used for records in the game journal.
+     *
+     * @param data bytes to read
+     * @param offset position of the first byte to read
+     */
+    GameCodec(byte[] data, int offset) {
+        this.buf = data;
+        this.pos = offset;
+    }
+
+    /* *************************************************************** */
+    //Saving
+
+    /**
+     * Encodes a game and the state it should continue from.
+     *
+     * @param engine the game
+     * @param state state to continue from, may be null
+     * @return the encoded game
+     */
+    public static byte[] encode(GameEngine engine, GameState state) {
+        GameCodec out = new GameCodec();
+        out.writeBytes(MAGIC);
+        out.writeVarint(VERSION);
+        out.writeGame(engine, state);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes an encoded game to a stream.
+     *
+     * @param engine the game
+     * @param state state to continue from, may be null
+     * @param stream stream to write to, not closed
+     * @throws IOException if the stream can't be written
+     */
+    public static void write(GameEngine engine, GameState state, OutputStream stream) throws IOException {
+        stream.write(encode(engine, state));
+    }
+
+    /**
+     * Writes a game without the magic and version.
+     *
+     * @param engine the game
+     * @param state state to continue from, may be null
+     */
+    void writeGame(GameEngine engine, GameState state) {
+        writeState(state);
+
+        GameRandom random = engine.getDeck().getRandom();
+        writeLong(random.getSeed());
+        for (int i = 0; i < 4; i++) {
+            writeLong(random.state(i));
+        }
+
+        writeVarint(engine.getCurrentPlayerIndex());
+        writeVarint((engine.getDirection() == 1) ? 0 : 1);
+        writeVarint(engine.getSide().ordinal());
+        writeVarint(engine.flags());
+        writeVarint(engine.getRoundCounter());
+        writeVarint(engine.getGameCounter());
+
+        writeVarint(engine.getPlayers().size());
+        for (Player p : engine.getPlayers()) {
+            writeVarint((p instanceof AiPlayer) ? 1 : 0);
+            writeString(p.getName());
+            writeVarint(p.getScore());
+            writePile(p.gethand());
+        }
+
+        writePile(engine.getDeck().getCards());
+        writePile(engine.getDiscardPile());
+    }
+
+    /**
+     * Writes a command as its type ordinal, player + 1, value and previous value.
+     * A checkpoint is followed by the game after it, written by writeGame().
+     *
+     * @param command the command
+     */
+    void writeCommand(GameCommand command) {
+        writeVarint(command.getType().ordinal());
+        writeVarint(command.getPlayer() + 1);
+        writeVarint(command.getValue());
+        writeVarint(command.getPrevious());
+        if (command.getType() == CommandType.CHECKPOINT) {
+            writeGame(command.getAfter(), null);
+        }
+    }
+
+    /**
+     * Writes a game state as its ordinal + 1, 0 for null.
+     *
+     * @param state the state, may be null
+     */
+    void writeState(GameState state) {
+        writeVarint((state == null) ? 0 : state.ordinal() + 1);
+    }
+
+    /**
+     * Gets the bytes written so far.
+     *
+     * @return copy of the bytes
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, pos);
+    }
+
+    void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[pos++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    void writeString(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writePile(List<Card> pile) {
+        writeVarint(pile.size());
+        for (Card c : pile) {
+            writeCard(c);
+        }
+    }
+
+    void writeCard(Card card) {
+        if (card.getId() >= 0) {
+            writeVarint(card.getId() + 1);
+            return;
+        }
+        writeVarint(0); //not in the catalog, write every field
+        for (CardSide side : SIDES) {
+            writeVarint(card.getColour(side).ordinal());
+            writeVarint(card.getType(side).ordinal());
+            writeVarint(card.getValue(side));
+        }
+    }
+
+    /**
+     * Grows the buffer to fit more bytes.
+     *
+     * @param more number of bytes about to be written
+     */
+    private void ensureCapacity(int more) {
+        if (pos + more > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(pos + more, buf.length * 2));
+        }
+    }
+
+    /* *************************************************************** */
+    //Loading
+
+    /**
+     * Decodes a game saved by encode().
+     *
+     * @param data the encoded game
+     * @return snapshot of the game and the state it continues from
+     * @throws IOException if the data isn't a save or comes from a newer version
+     */
+    public static Snapshot decode(byte[] data) throws IOException {
+        GameCodec in = new GameCodec(data);
+        for (byte b : MAGIC) {
+            if (in.readByte() != b) {
+                throw new IOException("Not a saved game");
+            }
+        }
+        int version = in.readVarint();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+
+        GameState state = in.readState();
+        return new Snapshot(new GameManager(in.readGame()), state);
+    }
+
+    /**
+     * Reads an encoded game from a stream.
+     *
+     * @param stream stream to read to the end, not closed
+     * @return snapshot of the game and the state it continues from
+     * @throws IOException if the stream can't be read or doesn't hold a save
+     */
+    public static Snapshot read(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        stream.transferTo(bytes);
+        return decode(bytes.toByteArray());
+    }
+
+    /**
+     * Reads a game written by writeGame(), after its state has been read with readState().
+     *
+     * @return the game
+     * @throws IOException if the bytes aren't a game
+     */
+    GameEngine readGame() throws IOException {
+        long seed = readLong();
+        GameRandom random = new GameRandom(seed, readLong(), readLong(), readLong(), readLong());
+
+        int currentPlayer = readVarint();
+        int direction = (readVarint() == 0) ? 1 : -1;
+        CardSide side = element(SIDES, readVarint());
+        int flags = readVarint();
+        if (!GameEngine.isValidFlags(flags)) {
+            throw new IOException("Invalid flags in save: " + flags);
+        }
+        int rounds = readVarint();
+        int games = readVarint();
+
+        int playerCount = readVarint();
+        if (playerCount < 1 || playerCount > GameEngine.MAX_PLAYERS || currentPlayer < 0 || currentPlayer >= playerCount) {
+            throw new IOException("Invalid players: " + currentPlayer + " of " + playerCount);
+        }
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            boolean ai = readVarint() == 1;
+            String name = readString();
+            Player p = ai ? new AiPlayer(name) : new Player(name);
+            p.addScore(readVarint());
+            readPile(p.gethand());
+            players.add(p);
+        }
+
+        CardPile deckCards = new CardPile(CardCatalog.DECK_SIZE);
+        readPile(deckCards);
+        CardPile discardPile = new CardPile(CardCatalog.DECK_SIZE);
+        readPile(discardPile);
+        if (discardPile.isEmpty()) { //only possible before the first deal
+            for (Player p : players) {
+                if (!p.gethand().isEmpty()) {
+                    throw new IOException("Cards dealt with nothing on the discard pile");
+                }
+            }
+        }
+
+        GameEngine engine = new GameEngine(players, new Deck(deckCards, random), discardPile);
+        engine.restoreTurn(currentPlayer, direction, side, flags, rounds, games);
+        return engine;
+    }
+
+    /**
+     * Reads a command written by writeCommand().
+     *
+     * @return the command, a checkpoint only holds the game after it
+     * @throws IOException if the bytes aren't a command
+     */
+    GameCommand readCommand() throws IOException {
+        CommandType type = element(COMMAND_TYPES, readVarint());
+        int player = readVarint() - 1;
+        int value = readVarint();
+        int previous = readVarint();
+        if (type == CommandType.CHECKPOINT) {
+            readState(); //always null, written by writeGame()
+            return GameCommand.checkpoint(null, readGame());
+        }
+        return new GameCommand(type, player, value, previous);
+    }
+
+    /**
+     * Reads a game state written by writeState().
+     *
+     * @return the state, may be null
+     * @throws IOException if there is no state for the ordinal
+     */
+    GameState readState() throws IOException {
+        int code = readVarint();
+        return (code == 0) ? null : element(STATES, code - 1);
+    }
+
+    /**
+     * Gets the position of the next byte to read.
+     *
+     * @return the position
+     */
+    int position() {
+        return pos;
+    }
+
+    /**
+     * Checks if everything has been read.
+     *
+     * @return true if there are no bytes left
+     */
+    boolean isFinished() {
+        return pos >= buf.length;
+    }
+
+    int readByte() throws IOException {
+        if (pos >= buf.length) {
+            throw new EOFException("Save ends early");
+        }
+        return buf[pos++];
+    }
+
+    int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    private long readLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
+    String readString() throws IOException {
+        int length = readVarint();
+        if (length < 0 || length > buf.length - pos) {
+            throw new EOFException("Save ends early");
+        }
+        String s = new String(buf, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return s;
+    }
+
+    private void readPile(List<Card> into) throws IOException {
+        int size = readVarint();
+        for (int i = 0; i < size; i++) {
+            into.add(readCard());
+        }
+    }
+
+    Card readCard() throws IOException {
+        int id = readVarint() - 1;
+        if (id >= 0) {
+            if (id >= CardCatalog.FACE_COUNT) {
+                throw new IOException("Unknown card id: " + id);
+            }
+            return CardCatalog.card(id);
+        }
+        CardColour lightColour = element(COLOURS, readVarint());
+        CardType lightType = element(TYPES, readVarint());
+        int lightValue = readVarint();
+        CardColour darkColour = element(COLOURS, readVarint());
+        CardType darkType = element(TYPES, readVarint());
+        int darkValue = readVarint();
+        return new Card(lightColour, darkColour, lightType, darkType, lightValue, darkValue);
+    }
+
+    /**
+     * Gets an enum constant by ordinal, checking it exists.
+     *
+     * @param values every constant of the enum
+     * @param ordinal ordinal read from the save
+     * @return the constant
+     * @throws IOException if there is no constant for the ordinal
+     */
+    private <T> T element(T[] values, int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Invalid ordinal in save: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,158 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.*;
+import java.util.*;
+
+public class GameCodecTest {
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(Arrays.asList(new Player("Alice"), new AiPlayer("AI 1"), new AiPlayer("Zo\u00eb")), 7L);
+        engine.startRound();
+    }
+
+    /**
+     * Describes every part of the game a save has to keep.
+     */
+    private static String describe(GameEngine engine) {
+        StringBuilder sb = new StringBuilder();
+        for (Player p : engine.getPlayers()) {
+            sb.append(p.getClass().getName()).append(p.getName()).append(p.getScore()).append(p.gethand()).append('|');
+        }
+        sb.append(engine.getDeck().getCards()).append('|')
+                .append(engine.getDiscardPile()).append('|')
+                .append(engine.getCurrentPlayerIndex()).append(engine.getDirection()).append(engine.getSide())
+                .append(engine.flags()).append(',').append(engine.getRoundCounter()).append(',').append(engine.getGameCounter())
+                .append(',').append(engine.getSeed());
+        return sb.toString();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        engine.getPlayers().get(1).addScore(123);
+        engine.skipTurn(1);
+        engine.flipSide();
+        engine.reverseDirection();
+        engine.setWildDrawLoop(true);
+
+        Snapshot snap = GameCodec.decode(GameCodec.encode(engine, GameState.HANDLE_AFTER_DRAW));
+        assertEquals(describe(engine), describe(snap.getGameManagerCopy().getEngine()));
+        assertEquals(GameState.HANDLE_AFTER_DRAW, snap.getGameState());
+    }
+
+    @Test
+    void testLoadedGameShufflesTheSame() throws IOException {
+        GameEngine loaded = GameCodec.decode(GameCodec.encode(engine, null)).getGameManagerCopy().getEngine();
+        engine.resetRound();
+        engine.startRound();
+        loaded.resetRound();
+        loaded.startRound();
+        assertEquals(describe(engine), describe(loaded));
+    }
+
+    @Test
+    void testSaveIsSmall() {
+        byte[] save = GameCodec.encode(engine, GameState.HANDLE_INITIAL_HAND);
+        assertTrue(save.length < 200, "Save is " + save.length + " bytes.");
+    }
+
+    @Test
+    void testCustomCardRoundTrip() throws IOException {
+        Card custom = new Card(CardColour.RED, CardColour.TEAL, CardType.NUMBER, CardType.SKIP, 42, 20);
+        engine.getPlayers().get(0).addCardtoHand(custom);
+
+        GameEngine loaded = GameCodec.decode(GameCodec.encode(engine, null)).getGameManagerCopy().getEngine();
+        List<Card> hand = loaded.getPlayers().get(0).gethand();
+        Card card = hand.get(hand.size() - 1);
+        assertEquals(custom, card);
+        assertEquals(42, card.getValue(CardSide.LIGHT));
+        assertEquals(20, card.getValue(CardSide.DARK));
+    }
+
+    @Test
+    void testStreamRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameCodec.write(engine, GameState.NEW_ROUND, out);
+        Snapshot snap = GameCodec.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(describe(engine), describe(snap.getGameManagerCopy().getEngine()));
+    }
+
+    @Test
+    void testRejectsBadData() {
+        byte[] save = GameCodec.encode(engine, null);
+        assertThrows(IOException.class, () -> GameCodec.decode(new byte[]{1, 2, 3, 4, 5}));
+        assertThrows(IOException.class, () -> GameCodec.decode(Arrays.copyOf(save, save.length - 1)));
+
+        byte[] newer = save.clone();
+        newer[4] = (byte) (GameCodec.VERSION + 1);
+        assertThrows(IOException.class, () -> GameCodec.decode(newer));
+    }
+
+    /**
+     * Finds where the flags are in a save of the test game.
+     */
+    private int flagsAt(byte[] save) {
+        int flags = engine.flags();
+        engine.setFlags(flags ^ 1);
+        byte[] changed = GameCodec.encode(engine, null);
+        engine.setFlags(flags);
+        int at = 0;
+        while (save[at] == changed[at]) {
+            at++; //first byte that differs holds the flags
+        }
+        return at;
+    }
+
+    /**
+     * Replaces one byte of a save with other bytes.
+     */
+    private static byte[] replace(byte[] save, int at, byte... with) {
+        byte[] out = new byte[save.length - 1 + with.length];
+        System.arraycopy(save, 0, out, 0, at);
+        System.arraycopy(with, 0, out, at, with.length);
+        System.arraycopy(save, at + 1, out, at + with.length, save.length - at - 1);
+        return out;
+    }
+
+    @Test
+    void testRejectsCorruptFlags() {
+        byte[] save = GameCodec.encode(engine, null);
+        int at = flagsAt(save);
+
+        byte[] badColour = save.clone();
+        badColour[at] = 15 << 3; //wild draw colour code past the last colour
+        assertThrows(IOException.class, () -> GameCodec.decode(badColour));
+
+        byte[] highBits = replace(save, at, (byte) 0x80, (byte) 0x10); //flags 1 << 11
+        assertThrows(IOException.class, () -> GameCodec.decode(highBits));
+    }
+
+    @Test
+    void testRejectsNegativeCurrentPlayer() {
+        engine.restoreTurn(-1, engine.getDirection(), engine.getSide(), engine.flags(),
+                engine.getRoundCounter(), engine.getGameCounter());
+        assertThrows(IOException.class, () -> GameCodec.decode(GameCodec.encode(engine, null)));
+    }
+
+    @Test
+    void testRejectsTooManyPlayers() {
+        byte[] save = GameCodec.encode(engine, null);
+        int at = flagsAt(save) + 3; //player count follows the flags, rounds and games
+        assertEquals(3, save[at]);
+        byte[] huge = replace(save, at, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07);
+        assertThrows(IOException.class, () -> GameCodec.decode(huge)); //not OutOfMemoryError
+        byte[] five = replace(save, at, (byte) 5);
+        assertThrows(IOException.class, () -> GameCodec.decode(five));
+    }
+
+    @Test
+    void testRejectsDealtGameWithoutDiscard() throws IOException {
+        GameEngine fresh = new GameEngine(Arrays.asList(new Player("Alice"), new Player("Bob")), 3L);
+        assertTrue(GameCodec.decode(GameCodec.encode(fresh, null)).getGameManagerCopy().getEngine().getDiscardPile().isEmpty(),
+                "Nothing dealt yet is fine.");
+        engine.getDiscardPile().clear();
+        assertThrows(IOException.class, () -> GameCodec.decode(GameCodec.encode(engine, null)));
+    }
+}
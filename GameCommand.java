@@ -0,0 +1,162 @@
+import java.io.Serializable;
+
+/**
+ * One change made to a GameEngine that can be applied again or reverted, recorded in a CommandLog for undo and redo.
+ * Most commands only hold a few ints. Changes that can't be undone by a simple inverse, like a shuffle, are kept
+ * as a checkpoint holding the engine before and after, which share their card arrays with the game.
+ *
+ * DRAW: player drew value cards from the deck.
+ * PLAY: player played the card at hand index value.
+ * FLIP: side facing up changed.
+ * REVERSE: direction of play changed.
+ * TURN: current player went from previous to value.
+ * FLAGS: turn flags and wild colours went from previous to value, see GameEngine.flags().
+ * SCORE: player scored value points.
+ * ROUND: round counter went up by one.
+ * CHECKPOINT: engine went from before to after.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public final class GameCommand implements Serializable {
+    private final CommandType type;
+    private final int player;
+    private final int value;
+    private final int previous;
+    private final GameEngine before;
+    private final GameEngine after;
+
+    /**
+     * Constructs a command that only holds ints.
+     *
+     * @param type kind of change
+     * @param player player index, -1 if not needed
+     * @param value new value, count or index for the type
+     * @param previous old value for the type
+     */
+    public GameCommand(CommandType type, int player, int value, int previous) {
+        this(type, player, value, previous, null, null);
+    }
+
+    private GameCommand(CommandType type, int player, int value, int previous, GameEngine before, GameEngine after) {
+        this.type = type;
+        this.player = player;
+        this.value = value;
+        this.previous = previous;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Constructs a checkpoint command.
+     *
+     * @param before copy of the engine before the change
+     * @param after copy of the engine after the change
+     * @return the command
+     */
+    public static GameCommand checkpoint(GameEngine before, GameEngine after) {
+        return new GameCommand(CommandType.CHECKPOINT, -1, 0, 0, before, after);
+    }
+
+    /**
+     * Makes the change again on an engine in the state it was in before the command.
+     *
+     * @param engine engine to change
+     */
+    public void apply(GameEngine engine) {
+        switch (type) {
+            case DRAW -> engine.moveToHand(player, value);
+            case PLAY -> engine.moveToDiscard(player, value);
+            case FLIP -> engine.flipSide();
+            case REVERSE -> engine.reverseDirection();
+            case TURN -> engine.setTurn(value);
+            case FLAGS -> engine.setFlags(value);
+            case SCORE -> engine.getPlayers().get(player).addScore(value);
+            case ROUND -> engine.addRounds(1);
+            case CHECKPOINT -> engine.restore(after);
+        }
+    }
+
+    /**
+     * Undoes the change on an engine in the state it was in after the command.
+     *
+     * @param engine engine to change
+     */
+    public void revert(GameEngine engine) {
+        switch (type) {
+            case DRAW -> engine.moveToDeck(player, value);
+            case PLAY -> engine.moveFromDiscard(player, value);
+            case FLIP -> engine.flipSide();
+            case REVERSE -> engine.reverseDirection();
+            case TURN -> engine.setTurn(previous);
+            case FLAGS -> engine.setFlags(previous);
+            case SCORE -> engine.getPlayers().get(player).addScore(-value);
+            case ROUND -> engine.addRounds(-1);
+            case CHECKPOINT -> engine.restore(before);
+        }
+    }
+
+    /**
+     * Estimates the memory the command holds on to. Checkpoint copies may share arrays with each other
+     * and the game, so this is an upper bound.
+     *
+     * @return estimated bytes
+     */
+    public long estimatedBytes() {
+        long bytes = 40; //header, four ints and two references
+        if (type == CommandType.CHECKPOINT) {
+            bytes += before.estimatedBytes() + after.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the kind of change.
+     *
+     * @return command type
+     */
+    public CommandType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the player index.
+     *
+     * @return player index, -1 if not needed
+     */
+    int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the new value, count or index for the type.
+     *
+     * @return the value
+     */
+    int getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the old value for the type.
+     *
+     * @return the previous value
+     */
+    int getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the copy of the engine after a checkpoint.
+     *
+     * @return the engine copy, null if not a checkpoint
+     */
+    GameEngine getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(player=" + player + ", value=" + value + ", previous=" + previous + ")";
+    }
+}
@@ -0,0 +1,898 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless implementation of the UNO Flip rules. Keeps track of the players, deck, discard pile and turn order
+ * and applies the effect of every card played. Does not create any UI, so it can be driven by GameManager
+ * for the GUI or by a loop for simulations.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public class GameEngine implements UnoEngine, Serializable {
+    public static final int HAND_SIZE = 7;
+    public static final int WINNING_SCORE = 500;
+    public static final int MAX_PLAYERS = 4;
+
+    private final List<Player> players;
+    private final Deck deck;
+    private final CardPile discardPile;
+    private int currentPlayerIndex;
+    private int direction;
+    private CardSide side; //side facing up for every card in the game
+    private boolean drawCard = false; //true once current player drew this turn
+
+    private boolean wildDraw = false; //Used for draw colour loop, true if card played
+    private CardColour wildDrawColour; //for colour of card in draw loop
+    private boolean chooseColour = false; //true while wild card on discard is waiting for a colour
+    private CardColour wildColour; //colour chosen for the wild card on top of discard pile
+
+    private int roundCounter = 0;
+    private int gameCounter = 1;
+
+    private transient CommandRecorder log; //null unless something wants the changes, e.g. for undo and redo
+    private transient MoveLog moves; //null unless something wants the game replayed
+
+    /**
+     * Constructs a GameEngine with a list of players.
+     *
+     * @param players the players that are participating in the game
+     */
+    public GameEngine(List<Player> players) {
+        this(players, new Deck());
+    }
+
+    /**
+     * Constructs a GameEngine with a list of players and the seed used to shuffle its deck.
+     * The same seed with the same moves always plays out the same game.
+     *
+     * @param players the players that are participating in the game
+     * @param seed seed for the deck shuffles
+     */
+    public GameEngine(List<Player> players, long seed) {
+        this(players, new Deck(new GameRandom(seed)));
+    }
+
+    /**
+     * Constructs a GameEngine with a list of players and an existing deck.
+     *
+     * @param players the players that are participating in the game
+     * @param deck the deck to draw from
+     */
+    private GameEngine(List<Player> players, Deck deck) {
+        this(players, deck, new CardPile(CardCatalog.DECK_SIZE));
+    }
+
+    /**
+     * Constructs a GameEngine with a list of players, an existing deck and an existing discard pile.
+     *
+     * @param players the players that are participating in the game
+     * @param deck the deck to draw from
+     * @param discardPile the discard pile
+     */
+    GameEngine(List<Player> players, Deck deck, CardPile discardPile) {
+        this.players = new ArrayList<>(players);
+        this.deck = deck;
+        this.discardPile = discardPile;
+        this.currentPlayerIndex = 0;
+        this.direction = 1;
+        this.side = CardSide.LIGHT;
+    }
+
+    /**
+     * Returns a copy of the engine to be used in a snapshot. The deck, discard pile and hands share their
+     * arrays with this engine until one side changes them, so the copy takes constant time per player and
+     * only the piles that change afterwards get copied.
+     *
+     * @return the copied engine
+     */
+    public GameEngine deepCopy() {
+        //create new players list
+        List<Player> playersCopy = new ArrayList<>();
+        for (Player p : this.players) {
+            playersCopy.add(p.deepCopy()); //copy each player
+        }
+
+        GameEngine copy = new GameEngine(playersCopy, this.deck.deepCopy(), new CardPile(this.discardPile));
+
+        //copy other fields
+        copy.currentPlayerIndex = this.currentPlayerIndex;
+        copy.direction = this.direction;
+        copy.side = this.side;
+        copy.drawCard = this.drawCard;
+        copy.wildDraw = this.wildDraw;
+        copy.wildDrawColour = this.wildDrawColour;
+        copy.chooseColour = this.chooseColour;
+        copy.wildColour = this.wildColour;
+        copy.roundCounter = this.roundCounter;
+        copy.gameCounter = this.gameCounter;
+
+        return copy;
+    }
+
+    /* *************************************************************** */
+    //Start of round
+
+    @Override
+    public void startRound() {
+        checkpoint(this::dealRound);
+    }
+
+    /**
+     * Shuffles, deals every hand and turns over the first card.
+     */
+    private void dealRound() {
+        deck.shuffle();
+        dealInitialHands();
+        Card firstCard = deck.drawCard();
+        //no wild cards as first card
+        while (firstCard.getType(side) != CardType.NUMBER) {
+            deck.addCard(firstCard);
+            deck.shuffle();
+            firstCard = deck.drawCard();
+        }
+        discardPile.push(firstCard);
+    }
+
+    /**
+     * Deals 7 cards from the deck to each player
+     */
+    private void dealInitialHands() {
+        for (int i = 0; i < players.size(); i++) {
+            dealCards(i, HAND_SIZE);
+        }
+    }
+
+    /**
+     * Gives a player cards from the deck, recycling the discard pile if the deck runs out part way.
+     *
+     * @param player index of the player drawing
+     * @param count number of cards to draw
+     */
+    private void dealCards(int player, int count) {
+        int drawn = players.get(player).drawCards(deck, count);
+        record(CommandType.DRAW, player, drawn, 0);
+        if (drawn < count && recycle()) {
+            record(CommandType.DRAW, player, players.get(player).drawCards(deck, count - drawn), 0);
+        }
+    }
+
+    /**
+     * Shuffles the discard pile under the top card back into the deck.
+     *
+     * @return false if there was nothing under the top card
+     */
+    private boolean recycle() {
+        if (discardPile.size() <= 1) {
+            return false;
+        }
+        checkpoint(() -> deck.recycle(discardPile));
+        return true;
+    }
+
+    /**
+     * Takes the top card of the deck, recycling the discard pile first if the deck is empty.
+     *
+     * @return the card, null if there are no cards left in the deck or under the top discard
+     */
+    private Card drawFromDeck() {
+        if (deck.isEmpty()) {
+            recycle();
+        }
+        if (deck.isEmpty()) {
+            return null;
+        }
+        record(CommandType.DRAW, currentPlayerIndex, 1, 0);
+        return deck.drawCard();
+    }
+
+    /* *************************************************************** */
+    //Playing cards
+
+    @Override
+    public boolean canPlay() {
+        return getCurrentPlayer().hasPlayableCard(topDiscard(), getActiveColour(), side);
+    }
+
+    @Override
+    public boolean checkValidMove(Card card) {
+        return card.matches(topDiscard(), getActiveColour(), side);
+    }
+
+    /**
+     * Gets the colour in play, the colour chosen for a wild card or the colour of the top discard.
+     *
+     * @return colour cards have to match
+     */
+    public CardColour getActiveColour() {
+        Card top = topDiscard();
+        if (wildColour != null && isWild(top, side)) {
+            return wildColour;
+        }
+        return top.getColour(side);
+    }
+
+    @Override
+    public CardSide getSide() {
+        return side;
+    }
+
+    @Override
+    public MoveResult playCard(int index) {
+        List<Card> hand = getCurrentPlayer().gethand();
+        if (chooseColour || wildDraw || index < 0 || index >= hand.size()) {
+            return MoveResult.INVALID;
+        }
+
+        Card card = hand.get(index);
+        if (!checkValidMove(card)) {
+            return MoveResult.INVALID;
+        }
+
+        recordMove(Move.play(index));
+        hand.remove(index); //remove card played from hand
+        discardPile.push(card);
+        record(CommandType.PLAY, currentPlayerIndex, index, 0);
+        int flags = flags();
+        wildColour = null; //colour of previous wild no longer in play
+        recordFlags(flags);
+
+        if (checkWinner()) { //don't want to go through extra logic if winner
+            return MoveResult.ROUND_OVER;
+        }
+
+        if (card.getType(side) == CardType.FLIP) {
+            handleFlipCard();
+            return MoveResult.NEXT_TURN;
+        }
+
+        if (isWild(card, side)) { //wild requires a colour before its effect
+            flags = flags();
+            chooseColour = true;
+            recordFlags(flags);
+            return MoveResult.CHOOSE_COLOUR;
+        }
+
+        handleActionCard(card);
+        return MoveResult.NEXT_TURN;
+    }
+
+    /**
+     * Checks if a card needs a colour chosen when it is played.
+     *
+     * @param card card to check
+     * @param side side facing up
+     * @return true for WILD, WILD_DRAW_TWO and WILD_DRAW_COLOR
+     */
+    public static boolean isWild(Card card, CardSide side) {
+        CardType type = card.getType(side);
+        return type == CardType.WILD || type == CardType.WILD_DRAW_TWO || type == CardType.WILD_DRAW_COLOR;
+    }
+
+    /**
+     * Flips deck, discard pile and all player hands then moves to next player.
+     * Every card reads the side from the game so only the side has to change.
+     */
+    private void handleFlipCard() {
+        side = side.flip();
+        record(CommandType.FLIP, -1, 0, 0);
+        nextTurn();
+    }
+
+    /**
+     * Handles special action cards(Reverse, Skip, Draw One, Draw Five, Skip Everyone) after card has been played.
+     *
+     * @param card the action card played
+     */
+    private void handleActionCard(Card card) {
+        switch (card.getType(side)) {
+            //case for regular card
+            case NUMBER -> nextTurn();
+            //case for reverse card
+            case REVERSE -> {
+                direction *= -1;
+                record(CommandType.REVERSE, -1, 0, 0);
+                nextTurn();
+            }
+            //case for skip card
+            case SKIP -> {
+                skipTurn(1);
+                nextTurn();
+            }
+            //case for draw_one card
+            case DRAW_ONE -> {
+                skipTurn(1);
+                dealCards(currentPlayerIndex, 1);
+                nextTurn();
+            }
+            //case for draw_five card
+            case DRAW_FIVE -> {
+                skipTurn(1);
+                dealCards(currentPlayerIndex, 5);
+                nextTurn();
+            }
+            //case for skipping everyone
+            case SKIP_EVERYONE -> {
+                skipTurn(players.size() - 1);
+                nextTurn();
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public MoveResult chooseColour(CardColour colour) {
+        if (!chooseColour) {
+            throw new IllegalStateException("No wild card waiting for a colour");
+        }
+        if (!isValidWildColour(colour)) {
+            throw new IllegalArgumentException("Invalid colour for this side: " + colour);
+        }
+
+        recordMove(Move.colour(colour));
+        int flags = flags();
+        chooseColour = false;
+        Card card = topDiscard();
+        wildColour = colour; //set colour of wild card
+        recordFlags(flags);
+
+        //case for wild draw two cards
+        if (card.getType(side) == CardType.WILD_DRAW_TWO) {
+            skipTurn(1);
+            dealCards(currentPlayerIndex, 2);
+            nextTurn();
+
+        } else if (card.getType(side) == CardType.WILD_DRAW_COLOR) {
+            //next player has to draw until they get the colour
+            skipTurn(1);
+            flags = flags();
+            wildDrawColour = colour;
+            wildDraw = true;
+            recordFlags(flags);
+            return MoveResult.DRAW_COLOUR;
+
+        } else {
+            nextTurn();
+        }
+
+        return MoveResult.NEXT_TURN;
+    }
+
+    @Override
+    public boolean isValidWildColour(CardColour colour) {
+        if (colour == null || colour == CardColour.WILD) {
+            return false;
+        }
+        //8 different colors between both sides
+        if (side == CardSide.LIGHT) {
+            return colour.ordinal() < CardColour.WILD.ordinal();
+        }
+        return colour.ordinal() > CardColour.WILD.ordinal();
+    }
+
+    /**
+     * Checks if a wild card on the discard pile is waiting for a colour.
+     *
+     * @return true if chooseColour() has to be called
+     */
+    public boolean isChoosingColour() {
+        return chooseColour;
+    }
+
+    /* *************************************************************** */
+    //Drawing cards
+
+    @Override
+    public Card drawCard() {
+        if (drawCard || wildDraw || chooseColour || canPlay()) {
+            return null;
+        }
+        recordMove(Move.draw());
+        int flags = flags();
+        drawCard = true;
+        recordFlags(flags);
+        Card card = drawFromDeck();
+        getCurrentPlayer().addCardtoHand(card);
+        return card;
+    }
+
+    @Override
+    public Card drawForColour() {
+        if (!wildDraw) {
+            return null;
+        }
+        Card card = drawFromDeck();
+        getCurrentPlayer().addCardtoHand(card);
+
+        if (card == null || card.getColour(side) == wildDrawColour) { //exit draw loop, or nothing left to draw
+            setWildDrawLoop(false);
+        }
+        return card;
+    }
+
+    @Override
+    public boolean getWildDrawLoop() {
+        return wildDraw;
+    }
+
+    /**
+     * Let you set if we're in draw colour loop or not.
+     *
+     * @param bool False if exiting draw colour loop.
+     */
+    public void setWildDrawLoop(boolean bool) {
+        int flags = flags();
+        wildDraw = bool;
+        recordFlags(flags);
+    }
+
+    @Override
+    public CardColour getDrawLoopColour() {
+        return wildDrawColour;
+    }
+
+    /* *************************************************************** */
+    //Turn order
+
+    @Override
+    public void nextTurn() {
+        skipTurn(1);
+    }
+
+    @Override
+    public void skipTurn(int skip) {
+        int flags = flags();
+        int from = currentPlayerIndex;
+        drawCard = false;
+
+        for (int i = 0; i < skip; i++) {
+            currentPlayerIndex = (currentPlayerIndex + direction + players.size()) % players.size();
+        }
+
+        recordFlags(flags);
+        if (currentPlayerIndex != from) {
+            record(CommandType.TURN, -1, currentPlayerIndex, from);
+        }
+    }
+
+    /**
+     * Gets the direction of play.
+     *
+     * @return 1 for clockwise and -1 when reversed
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /* *************************************************************** */
+    //Universal getters
+
+    @Override
+    public Player getCurrentPlayer() {
+        return players.get(currentPlayerIndex);
+    }
+
+    @Override
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    @Override
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    @Override
+    public Deck getDeck() {
+        return deck;
+    }
+
+    @Override
+    public CardPile getDiscardPile() {
+        return discardPile;
+    }
+
+    @Override
+    public Card topDiscard() {
+        return discardPile.peek();
+    }
+
+    /**
+     * Gets the seed the game was dealt with, saved with the game and in every snapshot.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return deck.getSeed();
+    }
+
+    @Override
+    public int getRoundCounter() {
+        return roundCounter;
+    }
+
+    @Override
+    public int getGameCounter() {
+        return gameCounter;
+    }
+
+    /* *************************************************************** */
+    //Round winner and game winner
+
+    @Override
+    public Player getRoundWinner() {
+        for (Player p : players) {
+            if (p.gethand().isEmpty()) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Updates the winner's score by adding the total points
+     * from all other players' hands
+     */
+    public void updatePlayerScore() {
+        Player winner = getRoundWinner();
+        if (winner == null) return;
+
+        int totalPoints = 0;
+        //add up total points value
+        for (Player p : players) {
+            if (p != winner) {
+                totalPoints += p.gethandValue(side);
+            }
+        }
+
+        winner.addScore(totalPoints);
+        record(CommandType.SCORE, players.indexOf(winner), totalPoints, 0);
+    }
+
+    @Override
+    public boolean checkWinner() {
+        if (checkEmptyHand()) { //verifies if a player has an empty hand
+            roundCounter++; //round over so increment
+            record(CommandType.ROUND, -1, 1, 0);
+            updatePlayerScore();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean checkEmptyHand() {
+        //check every player's hand
+        for (Player p : players) {
+            if (p.gethand().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        Player winner = getRoundWinner();
+        return winner != null && winner.getScore() >= WINNING_SCORE;
+    }
+
+    @Override
+    public void newGame() {
+        checkpoint(this::clearScores);
+    }
+
+    /**
+     * Resets every score and counts a new game.
+     */
+    private void clearScores() {
+        for (Player p : players) {
+            p.resetScore();
+        }
+        gameCounter++; //new game so increment
+        roundCounter = 0; //restart round counter
+    }
+
+    @Override
+    public void resetRound() {
+        checkpoint(this::clearRound);
+    }
+
+    /**
+     * Takes back every card, puts the light side up and clears the turn flags.
+     */
+    private void clearRound() {
+        deck.newDeck(); //refresh deck
+        discardPile.clear();
+        side = CardSide.LIGHT; //new round starts light side up
+
+        //clear player hands
+        for (Player player : players) {
+            player.clearHand();
+        }
+
+        drawCard = false;
+        wildDraw = false;
+        wildDrawColour = null;
+        chooseColour = false;
+        wildColour = null;
+    }
+
+    /* *************************************************************** */
+    //Command log for undo and redo
+
+    /**
+     * Sets the log every change to the game is recorded in, so it can be undone and redone or sent to remote players.
+     * Nothing is recorded without a log, so simulations don't allocate a command per move.
+     *
+     * @param log the log, null to stop recording
+     */
+    public void setCommandLog(CommandRecorder log) {
+        this.log = log;
+    }
+
+    /**
+     * Sets the log every decision made in the game is recorded in, so GameReplay can play the game again.
+     * Forced draws in the draw colour loop aren't decisions and aren't recorded.
+     *
+     * @param moves the log, null to stop recording
+     */
+    public void setMoveLog(MoveLog moves) {
+        this.moves = moves;
+    }
+
+    /**
+     * Records a decision if there is a move log.
+     *
+     * @param move the decision
+     */
+    private void recordMove(Move move) {
+        if (moves != null) {
+            moves.record(move);
+        }
+    }
+
+    /**
+     * Records a change if there is a log.
+     *
+     * @param type kind of change
+     * @param player player index, -1 if not needed
+     * @param value new value, count or index for the type
+     * @param previous old value for the type
+     */
+    private void record(CommandType type, int player, int value, int previous) {
+        if (log != null && (type != CommandType.DRAW || value > 0)) {
+            log.record(new GameCommand(type, player, value, previous));
+        }
+    }
+
+    /**
+     * Records a change to the turn flags if there is a log and they changed.
+     *
+     * @param before flags() before the change
+     */
+    private void recordFlags(int before) {
+        if (log != null) {
+            int after = flags();
+            if (after != before) {
+                log.record(new GameCommand(CommandType.FLAGS, -1, after, before));
+            }
+        }
+    }
+
+    /**
+     * Makes a change that has no simple inverse, like a shuffle, and records it as copies of the engine
+     * before and after. The copies share their card arrays with the game so only piles changed later get copied.
+     *
+     * @param change the change to make
+     */
+    private void checkpoint(Runnable change) {
+        if (log == null) {
+            change.run();
+            return;
+        }
+
+        CommandRecorder active = log;
+        GameEngine before = deepCopy();
+        log = null; //the checkpoint covers everything changed inside it
+        try {
+            change.run();
+        } finally {
+            log = active;
+        }
+        log.record(GameCommand.checkpoint(before, deepCopy()));
+    }
+
+    /**
+     * Estimates the memory a copy of the engine holds on to, used to keep the undo history under its budget.
+     *
+     * @return estimated bytes
+     */
+    long estimatedBytes() {
+        long bytes = 128 + 56; //engine fields, deck and its random
+        for (Player p : players) {
+            bytes += 48 + p.estimatedBytes();
+        }
+        return bytes + deck.getCards().estimatedBytes() + discardPile.estimatedBytes();
+    }
+
+    /**
+     * Packs the turn flags and wild colours into an int for FLAGS commands.
+     * drawCard, wildDraw and chooseColour are bits 0 to 2, wildDrawColour and wildColour are ordinal + 1
+     * (0 for null) from bit 3 and bit 7.
+     *
+     * @return the packed flags
+     */
+    int flags() {
+        return (drawCard ? 1 : 0)
+                | (wildDraw ? 2 : 0)
+                | (chooseColour ? 4 : 0)
+                | (colourCode(wildDrawColour) << 3)
+                | (colourCode(wildColour) << 7);
+    }
+
+    /**
+     * Sets the turn flags and wild colours from flags().
+     *
+     * @param flags the packed flags
+     */
+    void setFlags(int flags) {
+        drawCard = (flags & 1) != 0;
+        wildDraw = (flags & 2) != 0;
+        chooseColour = (flags & 4) != 0;
+        wildDrawColour = colourFromCode((flags >>> 3) & 0xF);
+        wildColour = colourFromCode((flags >>> 7) & 0xF);
+    }
+
+    /**
+     * Checks that flags read from outside the game could have come from flags(): no bits above wildColour
+     * and both colour codes naming a colour or null.
+     *
+     * @param flags the packed flags
+     * @return true if setFlags() can take them
+     */
+    static boolean isValidFlags(int flags) {
+        int colours = CardColour.values().length;
+        return (flags >>> 11) == 0 && ((flags >>> 3) & 0xF) <= colours && ((flags >>> 7) & 0xF) <= colours;
+    }
+
+    /**
+     * Gets the code of a colour in flags().
+     *
+     * @param colour colour, may be null
+     * @return ordinal + 1, 0 for null
+     */
+    static int colourCode(CardColour colour) {
+        return (colour == null) ? 0 : colour.ordinal() + 1;
+    }
+
+    /**
+     * Gets the colour for a code from colourCode().
+     *
+     * @param code the code
+     * @return the colour, null for 0
+     */
+    static CardColour colourFromCode(int code) {
+        return (code == 0) ? null : CardColour.values()[code - 1];
+    }
+
+    /**
+     * Moves cards from the top of the deck to the end of a hand.
+     *
+     * @param player player index
+     * @param count number of cards
+     */
+    void moveToHand(int player, int count) {
+        players.get(player).drawCards(deck, count);
+    }
+
+    /**
+     * Moves the last cards of a hand back onto the deck, the last card drawn goes back first.
+     *
+     * @param player player index
+     * @param count number of cards
+     */
+    void moveToDeck(int player, int count) {
+        List<Card> hand = players.get(player).gethand();
+        for (int i = 0; i < count; i++) {
+            deck.addCard(hand.remove(hand.size() - 1));
+        }
+    }
+
+    /**
+     * Moves a card from a hand to the top of the discard pile.
+     *
+     * @param player player index
+     * @param index index of the card in the hand
+     */
+    void moveToDiscard(int player, int index) {
+        discardPile.push(players.get(player).gethand().remove(index));
+    }
+
+    /**
+     * Moves the top discard back into a hand.
+     *
+     * @param player player index
+     * @param index index the card goes back to
+     */
+    void moveFromDiscard(int player, int index) {
+        players.get(player).gethand().add(index, discardPile.pop());
+    }
+
+    /**
+     * Turns over every card in the game.
+     */
+    void flipSide() {
+        side = side.flip();
+    }
+
+    /**
+     * Reverses the direction of play.
+     */
+    void reverseDirection() {
+        direction *= -1;
+    }
+
+    /**
+     * Sets whose turn it is.
+     *
+     * @param index player index
+     */
+    void setTurn(int index) {
+        currentPlayerIndex = index;
+    }
+
+    /**
+     * Changes the round counter.
+     *
+     * @param rounds rounds to add, negative to take away
+     */
+    void addRounds(int rounds) {
+        roundCounter += rounds;
+    }
+
+    /**
+     * Sets the turn, side and counters of a game being loaded.
+     *
+     * @param currentPlayer index of the player whose turn it is
+     * @param direction 1 for clockwise and -1 when reversed
+     * @param side side facing up
+     * @param flags turn flags from flags()
+     * @param rounds round counter
+     * @param games game counter
+     */
+    void restoreTurn(int currentPlayer, int direction, CardSide side, int flags, int rounds, int games) {
+        this.currentPlayerIndex = currentPlayer;
+        this.direction = direction;
+        this.side = side;
+        setFlags(flags);
+        this.roundCounter = rounds;
+        this.gameCounter = games;
+    }
+
+    /**
+     * Sets this engine to the state of a copy made by deepCopy(), keeping the same player objects.
+     *
+     * @param other copy to restore, it shares its card arrays with this engine afterwards
+     */
+    void restore(GameEngine other) {
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).restore(other.players.get(i));
+        }
+        deck.restore(other.deck);
+        discardPile.replaceWith(other.discardPile);
+
+        currentPlayerIndex = other.currentPlayerIndex;
+        direction = other.direction;
+        side = other.side;
+        drawCard = other.drawCard;
+        wildDraw = other.wildDraw;
+        wildDrawColour = other.wildDrawColour;
+        chooseColour = other.chooseColour;
+        wildColour = other.wildColour;
+        roundCounter = other.roundCounter;
+        gameCounter = other.gameCounter;
+    }
+}
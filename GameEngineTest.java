@@ -0,0 +1,152 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class GameEngineTest {
+    private Player p1, p2, p3;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        p1 = new Player("Bob");
+        p2 = new Player("Jill");
+        p3 = new Player("Sam");
+        engine = new GameEngine(Arrays.asList(p1, p2, p3));
+        engine.startRound();
+    }
+
+    /**
+     * Replaces the top discard and the current player hand with the given cards.
+     */
+    private void setTable(Card top, Card... hand) {
+        engine.getDiscardPile().push(top);
+        engine.getCurrentPlayer().clearHand();
+        engine.getCurrentPlayer().gethand().addAll(Arrays.asList(hand));
+    }
+
+    @Test
+    void testStartRoundDealsHands() {
+        for (Player p : engine.getPlayers()) {
+            assertEquals(7, p.gethand().size(), "Each player should start with 7 cards.");
+        }
+        assertEquals(CardType.NUMBER, engine.topDiscard().getType(), "First discard should be a number card.");
+    }
+
+    @Test
+    void testPlayNumberCardNextTurn() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 7, 7),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+
+        assertEquals(MoveResult.NEXT_TURN, engine.playCard(0));
+        assertEquals(1, engine.getCurrentPlayerIndex());
+        assertEquals(7, engine.topDiscard().getValue());
+    }
+
+    @Test
+    void testInvalidMoveKeepsCard() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1),
+                new Card(CardColour.GREEN, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 2, 2));
+
+        assertEquals(MoveResult.INVALID, engine.playCard(0));
+        assertEquals(2, p1.gethand().size());
+        assertEquals(0, engine.getCurrentPlayerIndex());
+    }
+
+    @Test
+    void testReverseChangesDirection() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.RED, CardColour.BROWN, CardType.REVERSE, CardType.REVERSE, 20, 20),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+
+        engine.playCard(0);
+        assertEquals(-1, engine.getDirection());
+        assertEquals(2, engine.getCurrentPlayerIndex(), "Reverse should pass the turn backwards.");
+    }
+
+    @Test
+    void testFlipTurnsOverEveryCard() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.RED, CardColour.BROWN, CardType.FLIP, CardType.FLIP, 20, 20),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+        Card inHand = p2.gethand().get(0);
+
+        assertEquals(MoveResult.NEXT_TURN, engine.playCard(0));
+        assertEquals(CardSide.DARK, engine.getSide());
+        assertEquals(CardColour.BROWN, engine.getActiveColour());
+        assertSame(inHand, p2.gethand().get(0), "Flipping should not replace the cards.");
+        assertEquals(CardSide.DARK, engine.deepCopy().getSide(), "Copies should keep the side.");
+        assertTrue(engine.isValidWildColour(CardColour.PURPLE));
+    }
+
+    @Test
+    void testWildWaitsForColour() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.WILD, CardColour.WILD, CardType.WILD_DRAW_TWO, CardType.WILD_DRAW_COLOR, 50, 60),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+
+        assertEquals(MoveResult.CHOOSE_COLOUR, engine.playCard(0));
+        assertFalse(engine.isValidWildColour(CardColour.PURPLE), "Dark colours can't be chosen on the light side.");
+        assertEquals(MoveResult.NEXT_TURN, engine.chooseColour(CardColour.BLUE));
+        assertEquals(CardColour.BLUE, engine.getActiveColour());
+        assertEquals(9, p2.gethand().size(), "Next player should draw two.");
+        assertEquals(2, engine.getCurrentPlayerIndex(), "Next player should lose their turn.");
+    }
+
+    @Test
+    void testDrawRecyclesDiscardPile() {
+        Card top = new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3);
+        setTable(top, new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+        engine.getDeck().getCards().clear();
+        int underTop = engine.getDiscardPile().size() - 1;
+
+        assertNotNull(engine.drawCard(), "Empty deck should be refilled from the discard pile.");
+        assertEquals(underTop - 1, engine.getDeck().size());
+        assertEquals(1, engine.getDiscardPile().size());
+        assertSame(top, engine.topDiscard(), "Top discard should stay in play.");
+    }
+
+    @Test
+    void testDrawWithNoCardsLeft() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+        engine.getDeck().getCards().clear();
+        Card top = engine.getDiscardPile().pop();
+        engine.getDiscardPile().clear();
+        engine.getDiscardPile().push(top);
+
+        assertNull(engine.drawCard(), "Nothing to draw when only the top discard is left.");
+        assertEquals(1, p1.gethand().size());
+    }
+
+    @Test
+    void testCopyUnchangedByLaterMoves() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.RED, CardColour.BROWN, CardType.DRAW_ONE, CardType.DRAW_FIVE, 10, 20),
+                new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+        GameEngine copy = engine.deepCopy();
+        int deckSize = engine.getDeck().size();
+        int discardSize = engine.getDiscardPile().size();
+
+        engine.playCard(0);
+        assertEquals(2, copy.getCurrentPlayer().gethand().size(), "Copied hand should keep the played card.");
+        assertEquals(7, copy.getPlayers().get(1).gethand().size(), "Copied hand should not get the drawn card.");
+        assertEquals(deckSize, copy.getDeck().size());
+        assertEquals(discardSize, copy.getDiscardPile().size());
+        assertEquals(8, p2.gethand().size());
+    }
+
+    @Test
+    void testWinnerScoresRound() {
+        setTable(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3),
+                new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 7, 7));
+        int points = p2.gethandValue() + p3.gethandValue();
+
+        assertEquals(MoveResult.ROUND_OVER, engine.playCard(0));
+        assertEquals(p1, engine.getRoundWinner());
+        assertEquals(points, p1.getScore());
+        assertEquals(1, engine.getRoundCounter());
+    }
+}
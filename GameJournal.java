@@ -0,0 +1,254 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of a game, one small record per saved state instead of rewriting a whole save.
+ * Most records hold the commands the engine recorded since the last state, a full checkpoint of the game is
+ * written every few records so recovery only replays a short tail. After a crash the game is rebuilt from
+ * the last checkpoint plus the records after it, a record cut off part way is ignored.
+ *
+ * File layout: magic "UNOJ" and version, then records. A record is its length as a varint, the payload and
+ * a CRC32 of the payload (4 bytes). The payload is 0 then a game written by GameCodec.writeGame() for a
+ * checkpoint, or 1, the game state, the command count and the commands written by GameCodec.writeCommand().
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public class GameJournal implements AutoCloseable {
+    public static final String EXTENSION = ".journal";
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'U', 'N', 'O', 'J'};
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+
+    private static final int CHECKPOINT = 0;
+    private static final int COMMANDS = 1;
+    private static final int SYNC_EVERY = 8; //records between forcing the file to disk
+
+    private final FileChannel channel;
+    private final int checkpointEvery;
+    private int sinceCheckpoint; //records since the last checkpoint
+    private int sinceSync = 0; //records since the file was forced to disk
+
+    /**
+     * Opens a journal to append to, creating it if missing. A record cut off by a crash is removed first.
+     * The first record appended is always a checkpoint.
+     *
+     * @param file the journal file
+     * @param checkpointEvery records between checkpoints, bounds how much recovery replays
+     * @throws IOException if the file can't be opened
+     */
+    public GameJournal(Path file, int checkpointEvery) throws IOException {
+        if (checkpointEvery < 1) {
+            throw new IllegalArgumentException("Records between checkpoints must be at least 1: " + checkpointEvery);
+        }
+        this.checkpointEvery = checkpointEvery;
+        this.sinceCheckpoint = checkpointEvery;
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).put(MAGIC).put((byte) VERSION).flip();
+            channel.write(header);
+        } else {
+            channel.truncate(validLength(Files.readAllBytes(file)));
+        }
+        channel.position(channel.size());
+    }
+
+    /**
+     * Gets the journal file name for a game.
+     *
+     * @param seed seed the game was dealt with
+     * @return file name in the saves folder
+     */
+    public static String fileName(long seed) {
+        return "game-" + Long.toHexString(seed) + EXTENSION;
+    }
+
+    /**
+     * Appends the commands recorded since the last state, or a checkpoint if one is due.
+     *
+     * @param engine the game, already changed by the commands
+     * @param state state the game continues from
+     * @param commands commands recorded since the last state appended
+     * @throws IOException if the journal can't be written
+     */
+    public void append(GameEngine engine, GameState state, List<GameCommand> commands) throws IOException {
+        if (sinceCheckpoint >= checkpointEvery) {
+            checkpoint(engine, state);
+            return;
+        }
+
+        GameCodec out = new GameCodec();
+        out.writeVarint(COMMANDS);
+        out.writeState(state);
+        out.writeVarint(commands.size());
+        for (GameCommand c : commands) {
+            out.writeCommand(c);
+        }
+        writeRecord(out.toByteArray());
+        sinceCheckpoint++;
+    }
+
+    /**
+     * Appends a full copy of the game, needed whenever the game didn't just move forward, e.g. after undo.
+     *
+     * @param engine the game
+     * @param state state the game continues from
+     * @throws IOException if the journal can't be written
+     */
+    public void checkpoint(GameEngine engine, GameState state) throws IOException {
+        GameCodec out = new GameCodec();
+        out.writeVarint(CHECKPOINT);
+        out.writeGame(engine, state);
+        writeRecord(out.toByteArray());
+        sinceCheckpoint = 0;
+        sync(); //a checkpoint is what recovery starts from
+    }
+
+    /**
+     * Writes a record with its length and checksum, forcing the file to disk every few records.
+     *
+     * @param payload the record
+     * @throws IOException if the journal can't be written
+     */
+    private void writeRecord(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        GameCodec length = new GameCodec();
+        length.writeVarint(payload.length);
+        byte[] prefix = length.toByteArray();
+
+        ByteBuffer record = ByteBuffer.allocate(prefix.length + payload.length + 4);
+        record.put(prefix).put(payload).putInt((int) crc.getValue()).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+
+        if (++sinceSync >= SYNC_EVERY) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces every record written so far to disk.
+     *
+     * @throws IOException if the file can't be forced
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+        sinceSync = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    /* *************************************************************** */
+    //Recovery
+
+    /**
+     * Rebuilds a game from its journal: the last checkpoint, then every complete record after it.
+     *
+     * @param file the journal file
+     * @return snapshot of the game and the state it continues from
+     * @throws IOException if the file can't be read or has no complete checkpoint
+     */
+    public static Snapshot recover(Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        int end = validLength(data);
+
+        //find the last checkpoint, records can only be read front to back
+        int checkpoint = -1;
+        int pos = HEADER_SIZE;
+        while (pos < end) {
+            GameCodec in = new GameCodec(data, pos);
+            int length = in.readVarint();
+            if (data[in.position()] == CHECKPOINT) {
+                checkpoint = pos;
+            }
+            pos = in.position() + length + 4;
+        }
+        if (checkpoint < 0) {
+            throw new IOException("Journal has no checkpoint: " + file);
+        }
+
+        GameEngine engine = null;
+        GameState state = null;
+        pos = checkpoint;
+        while (pos < end) {
+            GameCodec in = new GameCodec(data, pos);
+            int length = in.readVarint();
+            pos = in.position() + length + 4;
+
+            int kind = in.readVarint();
+            state = in.readState();
+            if (kind == CHECKPOINT) {
+                engine = in.readGame();
+            } else {
+                int count = in.readVarint();
+                for (int i = 0; i < count; i++) {
+                    in.readCommand().apply(engine);
+                }
+            }
+        }
+        return new Snapshot(new GameManager(engine), state);
+    }
+
+    /**
+     * Finds where the complete records end, anything after is a record cut off by a crash.
+     *
+     * @param data the whole journal file
+     * @return length of the journal to keep
+     * @throws IOException if the data isn't a journal
+     */
+    private static int validLength(byte[] data) throws IOException {
+        if (data.length < HEADER_SIZE) {
+            throw new IOException("Not a game journal");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                throw new IOException("Not a game journal");
+            }
+        }
+        if (data[MAGIC.length] < 1 || data[MAGIC.length] > VERSION) {
+            throw new IOException("Unsupported journal version: " + data[MAGIC.length]);
+        }
+
+        int pos = HEADER_SIZE;
+        while (pos < data.length) {
+            GameCodec in = new GameCodec(data, pos);
+            int length;
+            try {
+                length = in.readVarint();
+            } catch (IOException e) {
+                break; //length cut off
+            }
+            int payload = in.position();
+            if (length <= 0 || (long) payload + length + 4 > data.length) {
+                break; //record cut off
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(data, payload, length);
+            int stored = ByteBuffer.wrap(data, payload + length, 4).getInt();
+            if (stored != (int) crc.getValue()) {
+                break; //torn write
+            }
+            pos = payload + length + 4;
+        }
+        return pos;
+    }
+}
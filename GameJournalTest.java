@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class GameJournalTest {
+    private Path file;
+    private GameEngine engine;
+    private CommandLog log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("game", GameJournal.EXTENSION);
+        Files.delete(file); //journal creates it
+        engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3")), 11L);
+        log = new CommandLog();
+        engine.setCommandLog(log);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Plays steps of a game, journaling every state the way the Controller does.
+     */
+    private static void playJournaled(GameLoop loop, CommandLog log, GameJournal journal, int steps) throws IOException {
+        for (int i = 0; i < steps && !loop.isGameOver(); i++) {
+            loop.step();
+            journal.append(loop.getEngine(), loop.getState(), log.commandsSinceMark());
+            log.mark(loop.getState());
+        }
+    }
+
+    private static byte[] recovered(Path file) throws IOException {
+        Snapshot snap = GameJournal.recover(file);
+        return GameCodec.encode(snap.getGameManagerCopy().getEngine(), snap.getGameState());
+    }
+
+    @Test
+    void testRecoverWholeGame() throws IOException {
+        GameLoop loop = new GameLoop(engine);
+        try (GameJournal journal = new GameJournal(file, 20)) {
+            playJournaled(loop, log, journal, Integer.MAX_VALUE);
+        }
+        assertArrayEquals(GameCodec.encode(engine, loop.getState()), recovered(file));
+    }
+
+    @Test
+    void testRecoverMidGame() throws IOException {
+        GameLoop loop = new GameLoop(engine);
+        try (GameJournal journal = new GameJournal(file, 7)) {
+            playJournaled(loop, log, journal, 123);
+            assertArrayEquals(GameCodec.encode(engine, loop.getState()), recovered(file),
+                    "Records written before a crash should be enough, even without close().");
+        }
+    }
+
+    @Test
+    void testCutOffRecordIgnored() throws IOException {
+        GameLoop loop = new GameLoop(engine);
+        byte[] before;
+        try (GameJournal journal = new GameJournal(file, 10)) {
+            playJournaled(loop, log, journal, 30);
+            before = GameCodec.encode(engine, loop.getState());
+            playJournaled(loop, log, journal, 1);
+        }
+
+        byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length - 2)); //crash part way through the last record
+        assertArrayEquals(before, recovered(file));
+
+        try (GameJournal journal = new GameJournal(file, 10)) { //reopening drops the cut off record
+            journal.checkpoint(engine, loop.getState());
+        }
+        assertArrayEquals(GameCodec.encode(engine, loop.getState()), recovered(file));
+    }
+
+    @Test
+    void testCheckpointAfterUndo() throws IOException {
+        GameLoop loop = new GameLoop(engine);
+        GameState state;
+        try (GameJournal journal = new GameJournal(file, 100)) {
+            playJournaled(loop, log, journal, 40);
+            log.undo(engine, loop.getState());
+            state = log.undo(engine, loop.getState());
+            journal.checkpoint(engine, state); //game went backwards
+        }
+        assertArrayEquals(GameCodec.encode(engine, state), recovered(file));
+    }
+
+    @Test
+    void testRejectsBadFiles() throws IOException {
+        Files.write(file, new byte[]{'N', 'O', 'P', 'E', 1});
+        assertThrows(IOException.class, () -> GameJournal.recover(file));
+
+        Files.delete(file);
+        new GameJournal(file, 5).close(); //header only
+        assertThrows(IOException.class, () -> GameJournal.recover(file));
+    }
+}
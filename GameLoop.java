@@ -0,0 +1,359 @@
+/**
+ * Headless driver for a GameEngine where every seat is an AiPlayer, or where every decision is read
+ * from a MoveLog recorded earlier so a game can be played again.
+ * Advances the game one GameState at a time in a loop so the stack depth stays the same
+ * no matter how many turns, rounds or games are played.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public class GameLoop {
+    /** Turns after which a round with every card stuck in hands is given up and dealt again. */
+    public static final int MAX_ROUND_TURNS = 1000;
+
+    private final GameEngine engine;
+    private final GameView view; //what the AI sees of the engine
+    private final MoveLog script; //decisions to replay or received from players, null when the AI decides
+    private final boolean aiSeats; //true if AiPlayer seats decide for themselves even with a script
+    private int nextMove = 0; //index of the next move in the script
+    private GameState state;
+    private boolean gameOver;
+
+    private int turns = 0; //turns taken across all rounds
+    private int rounds = 0; //rounds finished
+    private int roundTurns = 0; //turns taken this round
+    private int stalledRounds = 0; //rounds given up without a winner
+
+    /**
+     * Constructs a loop that will play a game from the start of the first round.
+     *
+     * @param engine the engine to drive, every player must be an AiPlayer
+     */
+    public GameLoop(GameEngine engine) {
+        for (Player p : engine.getPlayers()) {
+            if (!(p instanceof AiPlayer)) {
+                throw new IllegalArgumentException(p.getName() + " is not an AI player");
+            }
+        }
+        this.engine = engine;
+        this.view = new EngineView(engine);
+        this.script = null;
+        this.aiSeats = true;
+        this.state = GameState.NEW_ROUND;
+        this.gameOver = false;
+    }
+
+    /**
+     * Constructs a loop that replays the decisions in a MoveLog from the start of the first round.
+     * The engine has to be dealt from the same seed with the same seating as the game the log was recorded in.
+     *
+     * @param engine the engine to drive, players can be of any kind
+     * @param script the decisions to replay in order
+     */
+    public GameLoop(GameEngine engine, MoveLog script) {
+        this(engine, script, false);
+    }
+
+    /**
+     * Constructs a loop that reads decisions from a MoveLog from the start of the first round.
+     * Moves can be added to the log while the game is played, the loop waits when it runs out.
+     *
+     * @param engine the engine to drive, players can be of any kind
+     * @param script the decisions in order
+     * @param aiSeats true if AiPlayer seats decide for themselves and only the other seats read from the script
+     */
+    public GameLoop(GameEngine engine, MoveLog script, boolean aiSeats) {
+        this.engine = engine;
+        this.view = new EngineView(engine);
+        this.script = script;
+        this.aiSeats = aiSeats;
+        this.state = GameState.NEW_ROUND;
+        this.gameOver = false;
+    }
+
+    /**
+     * Constructs a copy of a loop driving a copy of its engine.
+     *
+     * @param other the loop to copy
+     */
+    private GameLoop(GameLoop other) {
+        this.engine = other.engine.deepCopy();
+        this.view = new EngineView(engine);
+        this.script = other.script;
+        this.aiSeats = other.aiSeats;
+        this.nextMove = other.nextMove;
+        this.state = other.state;
+        this.gameOver = other.gameOver;
+        this.turns = other.turns;
+        this.rounds = other.rounds;
+        this.roundTurns = other.roundTurns;
+        this.stalledRounds = other.stalledRounds;
+    }
+
+    /**
+     * Returns a copy of the loop and its game that can be stepped on its own, used as a replay checkpoint.
+     *
+     * @return the copied loop
+     */
+    public GameLoop copy() {
+        return new GameLoop(this);
+    }
+
+    /**
+     * Plays until a player reaches the winning score.
+     */
+    public void runGame() {
+        while (step()) {
+            //keep stepping
+        }
+    }
+
+    /**
+     * Runs the logic of the current game state once and moves to the next state.
+     *
+     * @return false once the game is over, or while waiting for a move the script doesn't have yet
+     */
+    public boolean step() {
+        if (gameOver || isOutOfMoves()) {
+            return false;
+        }
+
+        switch (state) {
+            case NEW_ROUND -> {
+                engine.startRound();
+                roundTurns = 0;
+                state = GameState.HANDLE_INITIAL_HAND;
+            }
+            case HANDLE_INITIAL_HAND -> {
+                if (engine.isChoosingColour()) { //wild played last step, colour arrived since
+                    endMove(engine.chooseColour(chooseColour()));
+                } else if (engine.getWildDrawLoop()) { //draw colour, one card per step
+                    engine.drawForColour();
+                    if (!engine.getWildDrawLoop()) {
+                        state = GameState.HANDLE_AFTER_DRAW;
+                    }
+                } else if (engine.canPlay()) {
+                    play();
+                } else { //must draw
+                    if (fromScript()) {
+                        nextMove(MoveType.DRAW);
+                    }
+                    engine.drawCard();
+                    state = GameState.HANDLE_AFTER_DRAW;
+                }
+            }
+            case HANDLE_AFTER_DRAW -> {
+                if (engine.isChoosingColour()) {
+                    endMove(engine.chooseColour(chooseColour()));
+                } else if (engine.canPlay()) {
+                    play();
+                } else { //nothing to play so turn is over
+                    engine.nextTurn();
+                    endTurn();
+                }
+            }
+        }
+
+        return !gameOver;
+    }
+
+    /**
+     * Gets the kind of decision the next step needs from the current player.
+     *
+     * @return the move type, null if the next step needs no decision
+     */
+    public MoveType getExpectedMove() {
+        if (gameOver || state == GameState.NEW_ROUND) {
+            return null;
+        }
+        if (engine.isChoosingColour()) {
+            return MoveType.COLOUR;
+        }
+        if (state == GameState.HANDLE_INITIAL_HAND && !engine.getWildDrawLoop()) {
+            return engine.canPlay() ? MoveType.PLAY : MoveType.DRAW;
+        }
+        if (state == GameState.HANDLE_AFTER_DRAW && engine.canPlay()) {
+            return MoveType.PLAY;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the current decision comes from the script rather than the AI.
+     *
+     * @return true if the script decides for the current player
+     */
+    private boolean fromScript() {
+        return script != null && !(aiSeats && engine.getCurrentPlayer() instanceof AiPlayer);
+    }
+
+    /**
+     * Takes the next move from the script.
+     *
+     * @param type kind of move the game is waiting for
+     * @return the move
+     */
+    private Move nextMove(MoveType type) {
+        if (nextMove >= script.size()) {
+            throw new IllegalStateException("Move log ended while waiting for " + type);
+        }
+        Move move = script.get(nextMove);
+        if (move.getType() != type) {
+            throw new IllegalStateException("Move " + nextMove + " is " + move + " but the game is waiting for " + type);
+        }
+        nextMove++;
+        return move;
+    }
+
+    /**
+     * Current player plays its chosen card and the loop moves to the state the engine asks for.
+     * The card and colour come from the script when it decides, otherwise from the AI.
+     * If the script has the card but not yet the colour, the colour is chosen on a later step.
+     */
+    private void play() {
+        int index;
+        if (fromScript()) {
+            index = nextMove(MoveType.PLAY).getIndex();
+        } else {
+            index = getCurrentAi().chooseMove(view, MoveType.PLAY).getIndex();
+        }
+
+        MoveResult result = engine.playCard(index);
+        if (result == MoveResult.CHOOSE_COLOUR) {
+            if (isOutOfMoves()) {
+                return; //wait for the colour
+            }
+            result = engine.chooseColour(chooseColour());
+        }
+        endMove(result);
+    }
+
+    /**
+     * Moves to the state the engine asks for after a card is played.
+     *
+     * @param result result of the move
+     */
+    private void endMove(MoveResult result) {
+        switch (result) {
+            case NEXT_TURN, DRAW_COLOUR -> endTurn();
+            case ROUND_OVER -> {
+                turns++;
+                rounds++;
+                if (engine.isGameOver()) {
+                    gameOver = true;
+                } else {
+                    engine.resetRound();
+                    state = GameState.NEW_ROUND;
+                }
+            }
+            default -> throw new IllegalStateException("Invalid move: " + result);
+        }
+    }
+
+    /**
+     * Moves to the next turn. Once the deck and discard pile are recycled the same few cards can go back and forth
+     * forever, so a round that goes on too long is dealt again without a winner.
+     */
+    private void endTurn() {
+        turns++;
+        roundTurns++;
+        if (roundTurns >= MAX_ROUND_TURNS) {
+            stalledRounds++;
+            engine.resetRound();
+            state = GameState.NEW_ROUND;
+        } else {
+            state = GameState.HANDLE_INITIAL_HAND;
+        }
+    }
+
+    /**
+     * Gets the colour for the wild card just played, from the script when it decides.
+     * Otherwise gets the colour the AI wants, falls back to the first colour of the side
+     * if the AI's strategy picks a colour that isn't valid.
+     *
+     * @return a colour, valid on the current side unless the script has a bad move
+     */
+    private CardColour chooseColour() {
+        if (fromScript()) {
+            return nextMove(MoveType.COLOUR).getColour();
+        }
+        CardColour colour = getCurrentAi().chooseMove(view, MoveType.COLOUR).getColour();
+        if (engine.isValidWildColour(colour)) {
+            return colour;
+        }
+        return engine.getSide().defaultColour();
+    }
+
+    /**
+     * Gets the current player as an AiPlayer.
+     *
+     * @return the current AI player
+     */
+    private AiPlayer getCurrentAi() {
+        return (AiPlayer) engine.getCurrentPlayer();
+    }
+
+    /**
+     * Gets the state the loop will run next.
+     *
+     * @return next game state
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Checks if a player has reached the winning score.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Checks if the loop is waiting for a move its script doesn't have yet, e.g. a replay whose log
+     * ended before the game did or a player that hasn't moved yet.
+     *
+     * @return true if the next step needs a move the script doesn't have
+     */
+    public boolean isOutOfMoves() {
+        return script != null && nextMove >= script.size() && fromScript() && getExpectedMove() != null;
+    }
+
+    /**
+     * Gets the number of turns taken so far.
+     *
+     * @return turns taken
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of rounds finished so far.
+     *
+     * @return rounds finished
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the number of rounds given up after MAX_ROUND_TURNS without a winner.
+     *
+     * @return rounds dealt again
+     */
+    public int getStalledRounds() {
+        return stalledRounds;
+    }
+
+    /**
+     * Gets the engine being driven.
+     *
+     * @return the game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class GameLoopTest {
+    private AiPlayer ai1, ai2;
+    private GameEngine engine;
+    private GameLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        ai1 = new AiPlayer("AI 1");
+        ai2 = new AiPlayer("AI 2");
+        engine = new GameEngine(Arrays.asList(ai1, ai2));
+        loop = new GameLoop(engine);
+    }
+
+    @Test
+    void testFirstStepStartsRound() {
+        assertEquals(GameState.NEW_ROUND, loop.getState());
+        assertTrue(loop.step());
+        assertEquals(GameState.HANDLE_INITIAL_HAND, loop.getState());
+        assertEquals(7, ai1.gethand().size());
+        assertNotNull(engine.topDiscard());
+    }
+
+    @Test
+    void testStepPlaysAiCard() {
+        loop.step(); //start round
+        engine.getDiscardPile().push(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3));
+        ai1.clearHand();
+        ai1.addCardtoHand(new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+        ai1.addCardtoHand(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 7, 7));
+
+        loop.step();
+        assertEquals(7, engine.topDiscard().getValue(), "AI should play its only playable card.");
+        assertEquals(1, engine.getCurrentPlayerIndex());
+        assertEquals(1, loop.getTurns());
+    }
+
+    @Test
+    void testStepDrawsWhenNothingToPlay() {
+        loop.step(); //start round
+        engine.getDiscardPile().push(new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 3, 3));
+        ai1.clearHand();
+        ai1.addCardtoHand(new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 1, 1));
+
+        loop.step();
+        assertEquals(GameState.HANDLE_AFTER_DRAW, loop.getState());
+        assertEquals(2, ai1.gethand().size());
+    }
+
+    @Test
+    void testLongGamesDontRunOutOfCards() {
+        for (long seed = 0; seed < 200; seed++) { //long games empty the deck many times
+            List<Player> table = Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3"), new AiPlayer("AI 4"));
+            GameLoop game = new GameLoop(new GameEngine(table, seed));
+            game.runGame();
+            assertTrue(game.isGameOver(), "Game " + seed + " should finish.");
+        }
+    }
+
+    @Test
+    void testSameSeedPlaysSameGame() {
+        int[][] scores = new int[2][];
+        for (int run = 0; run < 2; run++) {
+            List<Player> table = Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3"));
+            GameLoop game = new GameLoop(new GameEngine(table, 1234L));
+            game.runGame();
+            scores[run] = new int[]{game.getTurns(), table.get(0).getScore(), table.get(1).getScore(), table.get(2).getScore()};
+        }
+        assertArrayEquals(scores[0], scores[1], "Games with the same seed should play out the same.");
+    }
+
+    @Test
+    void testHumanPlayerNotSupported() {
+        GameEngine humanEngine = new GameEngine(Arrays.asList(new Player("Bob"), new AiPlayer("AI")));
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(humanEngine));
+    }
+}
@@ -8,24 +8,18 @@ import java.util.List;
 /**
  *
  * The GameManager class manages the state and flow of the UI-based UNO game.
- * Implemented to support up to 0 AI players.
+ * All game rules are handled by the GameEngine, GameManager adapts it to the Swing view
+ * by asking the user for input and updating the UI after every move.
  *
  * @author Aidan Cartier, Mark Bowerman
  * @version December 5, 2025
  */
 public class GameManager implements Serializable {
-    private final List<Player> players;
+    private final GameEngine engine;
     private int playerCount;
-    private final Deck deck;
-    private final Stack<Card> discardPile;
-    private int currentPlayerIndex;
-    private int direction;
     private UnoView view;
-    private boolean drawCard = false;
 
     private final Map<JButton, Integer> prevCardZ; //used for tracking button prev z
-    private boolean wildDraw = false; //Used for draw colour loop, true if card played
-    private CardColour wildDrawColour; //for colour of card in draw loop
 
     private JButton hoveredButton = null;
     private JButton selectedCard = null;
@@ -33,10 +27,10 @@ public class GameManager implements Serializable {
     private JButton draw;
 
     private int sequence = 0; //for debugging
-    private int roundCounter = 0;
-    private int gameCounter = 1;
     private GameState gameState;
     private StateListener stateListener;
+    private GameState pendingState = null; //next state the turn loop will run
+    private boolean running = false; //true while the turn loop is running
 
     //all new variables for new code
     private boolean gameStarted = false;
@@ -47,14 +41,17 @@ public class GameManager implements Serializable {
      * @param players the players that are participating in the game
      */
     public GameManager(List<Player> players) {
-        this.players = new ArrayList<>(players);
-        this.deck = new Deck();
-        this.discardPile = new Stack<>();
-        this.currentPlayerIndex = 0;
-        this.direction = 1;
-        prevCardZ = new HashMap<>();
+        this(new GameEngine(players));
+    }
 
-        //initialPlayers(); //getting players
+    /**
+     * Constructs a GameManager around an existing rules engine.
+     *
+     * @param engine the engine holding the game rules and state
+     */
+    public GameManager(GameEngine engine) {
+        this.engine = engine;
+        prevCardZ = new HashMap<>();
     }
 
     /* *************************************************************** */
@@ -96,7 +93,7 @@ public class GameManager implements Serializable {
             //got to seq 5 for AI
             drawCard();
             setGameState(GameState.HANDLE_AFTER_DRAW); //saving game snapshot
-            handleAfterDraw();
+            queueState(GameState.HANDLE_AFTER_DRAW);
 
         } else if (!canPlay() && !(player instanceof AiPlayer)) { //player can't play
             //go to seq 5
@@ -113,14 +110,12 @@ public class GameManager implements Serializable {
      * @param player current player playing, would be AI.
      */
     private void aiPlay(Player player) {
-        //updates AI hand and which card it wants to play
-        ((AiPlayer) player).updateUIHand(view, this.topDiscard()); //create separate method
-
-        selectedCard = ((AiPlayer) player).tryToPlay(); //returns JButton/card AI wants to play
+        //AI decides from the game itself, no need for the hand buttons
+        int index = ((AiPlayer) player).chooseMove(new EngineView(engine), MoveType.PLAY).getIndex();
 
-        System.out.println("card played by ai: " + player.gethand().get((int)selectedCard.getClientProperty("index")).toString());
+        System.out.println("card played by ai: " + player.gethand().get(index).toString(engine.getSide()));
 
-        playCard(); //play card AI selected
+        handleMoveResult(engine.playCard(index)); //play card AI chose
     }
 
     /**
@@ -129,8 +124,10 @@ public class GameManager implements Serializable {
     public void handleAfterDraw() {
         //setGameState(GameState.HANDLE_AFTER_DRAW); //saving game snapshot
 
-        displayHand(); //updates player UI hand
         Player player = getCurrentPlayer();
+        if (!(player instanceof AiPlayer)) {
+            displayHand(); //updates player UI hand, the AI doesn't need it to play
+        }
 
         if (canPlay() && player instanceof AiPlayer) {
             //go to seq 3
@@ -160,39 +157,10 @@ public class GameManager implements Serializable {
      * @return the copied GameManager
      */
     public GameManager deepCopy() {
-
-        //create new players list
-        List<Player> playersCopy = new ArrayList<>();
-        for (Player p : this.players) {
-            playersCopy.add(p.deepCopy()); //deep copy each player
-        }
-
-        GameManager copy = new GameManager(playersCopy);
+        GameManager copy = new GameManager(engine.deepCopy());
         copy.setListener(this.stateListener); //setting the copy listener to the controller
         copy.gameState = this.gameState; //preserve its game state without notify Controller to create another snapshot
-
-        //copy the deck manually as deck is final
-        copy.deck.newDeck(); //reset deck first
-        copy.deck.getCards().clear(); // remove default cards
-        for (Card c : this.deck.getCards()) {
-            copy.deck.getCards().add(c.deepCopy()); //deep copy of each card
-        }
-
-        //copy discard pile
-        copy.discardPile.clear();
-        for (Card c : this.discardPile) {
-            copy.discardPile.push(c.deepCopy()); //deep copy of each card
-        }
-
-        //copy other fields
-        copy.currentPlayerIndex = this.currentPlayerIndex;
-        copy.direction = this.direction;
-        copy.drawCard = this.drawCard;
-        copy.wildDraw = this.wildDraw;
-        copy.wildDrawColour = this.wildDrawColour;
         copy.sequence = this.sequence;
-        copy.roundCounter = this.roundCounter;
-        copy.gameCounter = this.gameCounter;
 
         // UI elements are left null
         copy.view = null;
@@ -226,6 +194,27 @@ public class GameManager implements Serializable {
         stateListener.saveSnapshotForUndo(state); //calls to save a snapshot
     }
 
+    /**
+     * Continues the game from a state after undo or redo changed the engine, without saving it to the history again.
+     *
+     * @param state state to continue from
+     */
+    public void resumeState(GameState state) {
+        this.gameState = state;
+        resetVars();
+        updateAll(); //update GUI
+        queueState(state);
+    }
+
+    /**
+     * Sets the log the engine records every change in for undo and redo.
+     *
+     * @param log the history, null to stop recording
+     */
+    public void setCommandLog(CommandLog log) {
+        engine.setCommandLog(log);
+    }
+
     /**
      * Get the current state of the game.
      *
@@ -244,13 +233,52 @@ public class GameManager implements Serializable {
         this.stateListener = stateListener;
     }
 
+    /**
+     * Runs the logic of a game state through an iterative loop instead of calling it directly.
+     * If the loop is already running (an AI turn finishing and starting the next one) the state is
+     * queued and picked up once the current state returns, so the stack never grows between turns.
+     * The loop stops once a state doesn't queue another one, e.g. waiting on a user to press a button.
+     *
+     * @param state the state to run next
+     */
+    public void queueState(GameState state) {
+        if (pendingState == null) { //first state queued wins, e.g. a new round over the next turn
+            pendingState = state;
+        }
+
+        if (running) { //outer loop will run it
+            return;
+        }
+
+        running = true;
+        try {
+            while (pendingState != null) {
+                GameState next = pendingState;
+                pendingState = null;
+                next.runState(this);
+            }
+        } finally {
+            running = false;
+            pendingState = null;
+        }
+    }
+
+    /**
+     * Gets the rules engine the GUI is adapting.
+     *
+     * @return the game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
     @Override
     public boolean equals(Object other) {
 
         if (other instanceof GameManager otherGm) { //using pattern variable
 
             //checking current player index
-            if (!(this.currentPlayerIndex == otherGm.getCurrentPlayerIndex())) {
+            if (!(this.getCurrentPlayerIndex() == otherGm.getCurrentPlayerIndex())) {
                 return false;
             }
 
@@ -286,21 +314,12 @@ public class GameManager implements Serializable {
      * Initialize and start game (shuffle, deal initial hands, set up discard)
      */
     public void startGame() {
-        deck.shuffle();
-        dealInitialHands();
-        Card firstCard = deck.drawCard();
-        //no wild cards as first card
-        while (firstCard.getType() != CardType.NUMBER) {
-            deck.addCard(firstCard);
-            deck.shuffle();
-            firstCard = deck.drawCard();
-        }
-        discardPile.push(firstCard);
+        engine.startRound();
 
         updateAll();
 
         //setGameState(GameState.HANDLE_INITIAL_HAND); //saving game snapshot
-        handleInitialHand(); //for start of players hand
+        queueState(GameState.HANDLE_INITIAL_HAND); //for start of players hand
     }
 
     /**
@@ -315,20 +334,6 @@ public class GameManager implements Serializable {
         view.repaint();
     }
 
-    /**
-     * Deals 7 cards from the deck to each player
-     */
-    private void dealInitialHands() {
-        //deal all players their cards
-        for (Player p : players) {
-            for (int i = 0; i < 7; i++) {
-                p.drawCard(deck);
-            }
-        }
-
-
-    }
-
     /**
      *Set view.
      *
@@ -352,10 +357,10 @@ public class GameManager implements Serializable {
 
             int result = JOptionPane.showOptionDialog(null, promptAi, "Is This Player AI?", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, null);
             if (result == JOptionPane.YES_OPTION) {
-                players.add(new AiPlayer(name));
+                getPlayers().add(new AiPlayer(name));
                 System.out.println("added AI player" + " state: " + getSeq());
             } else {
-                players.add(new Player(name));
+                getPlayers().add(new Player(name));
                 System.out.println("added normal player" + " state: " + getSeq());
             }
 
@@ -388,7 +393,7 @@ public class GameManager implements Serializable {
      * @return True is player has a playable card.
      */
     private boolean canPlay() {
-        return getCurrentPlayer().hasPlayableCard(topDiscard());
+        return engine.canPlay();
     }
 
 
@@ -408,15 +413,6 @@ public class GameManager implements Serializable {
         play.setEnabled(bool);
     }
 
-    /**
-     * Puts card at top of stack in discard.
-     *
-     * @param card Card player played.
-     */
-    public void pushToDiscardPile(Card card) {
-        discardPile.push(card);
-    }
-
     /**
      * Attempt to play a card on behalf of the current player
      *
@@ -425,67 +421,28 @@ public class GameManager implements Serializable {
         if (selectedCard == null) {
             JOptionPane.showMessageDialog(null, "No card selected.");
         } else {
-            Player player = getCurrentPlayer();
-            Card card = player.gethand().get((int) selectedCard.getClientProperty("index")); //get card from button hidden index
-
-            if (card.getType() == CardType.FLIP) { //player plays flip card
-                player.gethand().remove(card); //remove card played from list
-                if (!checkWinner()) { //don't want to go through extra logic if winner
-                    handleFlipCard(card);
-                }
-
-            } else if (card.getType() == CardType.WILD || card.getType() == CardType.WILD_DRAW_TWO || card.getType() == CardType.WILD_DRAW_COLOR) {
-                //wild requires an input so controller has to take care of it
-                player.gethand().remove(card);
-                if (!checkWinner()) { //don't want to go through extra logic if winner
-                    handleWildCard(card);
-                }
-
-            } else {
-                //check if the move is valid
-                if (checkValidMove(card)) {
-                    player.gethand().remove(card); //remove card played from list, never implemented in game manager?
-                    pushToDiscardPile(card);
-                    if (!checkWinner()) { //don't want to go through extra logic if winner
-                        handleActionCard(card);
-                    }
-
-
-                }
-            }
+            int index = (int) selectedCard.getClientProperty("index"); //get card from button hidden index
+            handleMoveResult(engine.playCard(index));
         }
-
-
     }
 
     /**
-     * Flips deck, discard pile and all player hands.
+     * Continues the game flow in the UI based on what the engine says has to happen after a move.
+     *
+     * @param result outcome of the move from the engine
      */
-    private void handleFlipCard(Card cardHanded) {
-        if (checkValidMove(cardHanded)) {
-
-            pushToDiscardPile(cardHanded);
-
-            //flip deck
-            for (Card card : deck.getCards()) {
-                card.flipCard();
+    private void handleMoveResult(MoveResult result) {
+        switch (result) {
+            case CHOOSE_COLOUR -> handleWildCard();
+            case NEXT_TURN -> beginTurn();
+            case DRAW_COLOUR -> handleDrawColour();
+            case ROUND_OVER -> {
+                JOptionPane.showMessageDialog(null, "Game Over " + getRoundWinner().getName() + " Won");
+                restartGame();
             }
-
-            //flip discard pile
-            for (Card card : discardPile) {
-                card.flipCard();
-            }
-
-            //flip player hands
-            for (Player p : players) {
-                p.flipHand();
-            }
-
-            nextTurn();
-
+            default -> {
+            } //invalid move, nothing changes
         }
-
-
     }
 
     /**
@@ -495,159 +452,91 @@ public class GameManager implements Serializable {
      * @return true if the card can be played, false otherwise
      */
     public boolean checkValidMove(Card card) {
-        return card.matches(topDiscard());
+        return engine.checkValidMove(card);
 
     }
 
     /**
-     * Handles special action cards(Reverse, Skip, Draw One, Wild, Wild Draw Two) after card has been played.
-     *
-     * @param card the action card played
-     */
-    private void handleActionCard(Card card) {
-        switch (card.getType()) {
-            //case for regular card
-            case NUMBER -> nextTurn();
-            //case for reverse card
-            case REVERSE -> {
-                direction *= -1;
-                nextTurn();
-            }
-            //case for skip card
-            case SKIP -> {
-                skipTurn(1); //finishes current player turn?
-                nextTurn();
-            }
-            //case for draw_one card
-            case DRAW_ONE -> {
-                skipTurn(1);
-                getCurrentPlayer().drawCard(deck);
-                nextTurn();
-            }
-            //case for draw_five card
-            case DRAW_FIVE -> {
-                skipTurn(1);
-                getCurrentPlayer().drawCard(deck);
-                getCurrentPlayer().drawCard(deck);
-                getCurrentPlayer().drawCard(deck);
-                getCurrentPlayer().drawCard(deck);
-                getCurrentPlayer().drawCard(deck);
-                nextTurn();
-            }
-            //case for skipping everyone
-            case SKIP_EVERYONE -> {
-                for (int i = 0; i < players.size() - 1; i++) {
-                    skipTurn(1);
-                }
-                nextTurn();
-            }
-            default -> {
-            }
-        }
-    }
-
-    /**
-     * Handles logic for when a wild card is played. If wild card is played check if valid move
-     * then ask user for input on colour then push card to discard pile.
-     *
-     * @param card is the current card the player is trying to play.
+     * Handles logic for when a wild card is played. Asks the user (or the AI) for a colour
+     * then lets the engine apply the wild card.
      */
-    public void handleWildCard(Card card) {
-        if (checkValidMove(card)) { //check if valid move
+    public void handleWildCard() {
+        String input;
+        CardColour colour;
 
-            String input;
-            CardColour colour;
+        if (getCurrentPlayer() instanceof AiPlayer) { //AI choosing color for wild card
+            colour = ((AiPlayer) getCurrentPlayer()).chooseMove(new EngineView(engine), MoveType.COLOUR).getColour();
+            System.out.println("AI chose color: " + colour.toString());
 
-            if (getCurrentPlayer() instanceof AiPlayer) { //AI choosing color for wild card
-                colour = ((AiPlayer) getCurrentPlayer()).getWildColour();
-                System.out.println("AI chose color: " + colour.toString());
+        } else {
+            //loop to try until get a correct color
+            while (true) {
+                //8 different colors between both sides
+                if (engine.getSide() == CardSide.LIGHT) {
+                    input = JOptionPane.showInputDialog("choose a color (RED, BLUE, GREEN, YELLOW): ");
+                } else {
+                    input = JOptionPane.showInputDialog("choose a color (BROWN, PURPLE, TEAL, ORANGE): ");
+                }
+                try {
+                    colour = CardColour.valueOf(input.trim().toUpperCase()); //attempt to get object
 
-            } else {
-                //loop to try until get a correct color
-                while (true) {
-                    //8 different colors between both sides
-                    if (card.getSide().equals(CardSide.LIGHT)) {
-                        input = JOptionPane.showInputDialog("choose a color (RED, BLUE, GREEN, YELLOW): ");
+                    //error checking correct colour selected based on which side it is.
+                    if (engine.isValidWildColour(colour)) {
+                        break;
                     } else {
-                        input = JOptionPane.showInputDialog("choose a color (BROWN, PURPLE, TEAL, ORANGE): ");
-                    }
-                    try {
-                        colour = CardColour.valueOf(input.trim().toUpperCase()); //attempt to get object
-
-                        //error checking correct colour selected based on which side it is.
-                        if (card.getSide() == CardSide.LIGHT && colour.ordinal() < 4) {
-                            break;
-                        } else if (card.getSide() == CardSide.DARK && colour.ordinal() > 4) {
-                            break;
-                        } else {
-                            JOptionPane.showMessageDialog(null, "Invalid color.");
-                        }
-
-                    } catch (IllegalArgumentException e) {
-                        JOptionPane.showMessageDialog(null, "Invalid color");
+                        JOptionPane.showMessageDialog(null, "Invalid color.");
                     }
+
+                } catch (IllegalArgumentException e) {
+                    JOptionPane.showMessageDialog(null, "Invalid color");
                 }
             }
+        }
 
-            card.setColour(colour); //set colour of wild card
-            pushToDiscardPile(card); //add to top of discard pile
-
-            //nextTurn();
-
-            //case for wild draw two cards
-            if (card.getType() == CardType.WILD_DRAW_TWO) {
-                //System.out.println("draw two happened");
-                skipTurn(1);
-                getCurrentPlayer().drawCard(getDeck());
-                getCurrentPlayer().drawCard(getDeck());
-                nextTurn();
-            } else if (card.getType() == CardType.WILD_DRAW_COLOR) {
-                //Extra logic for draw color card
-                skipTurn(1);
-
-                //emulating nextTurn
-                updateAll();
+        handleMoveResult(engine.chooseColour(colour));
+    }
 
-                wildDrawColour = card.getColour(); //get root colour
-                wildDraw = true; //flag for loop
-                if (!(getCurrentPlayer() instanceof AiPlayer)) {
-                    play.setEnabled(false); //disabling play button
-                    draw.setEnabled(true); //allow user to draw card
-                    JOptionPane.showMessageDialog(null, "Player must draw color to continue");
+    /**
+     * Extra logic for the draw colour card, next player has to draw until they get the colour.
+     */
+    private void handleDrawColour() {
+        //emulating nextTurn
+        updateAll();
 
-                } else { //AI handle draw colour
-                    handleAiDrawColour();
+        if (!(getCurrentPlayer() instanceof AiPlayer)) {
+            play.setEnabled(false); //disabling play button
+            draw.setEnabled(true); //allow user to draw card
+            JOptionPane.showMessageDialog(null, "Player must draw color to continue");
 
-                }
+        } else { //AI handle draw colour
+            handleAiDrawColour();
 
-            } else {
-                nextTurn();
-            }
         }
-
     }
 
     /**
      * Method to handle the AI while drawing for a colour when a draw colour card is played.
      */
     private void handleAiDrawColour() {
-        while (wildDraw) {
-            Card card = deck.drawCard(); //draw card
-
-            getCurrentPlayer().addCardtoHand(card); //add card to hand
+        while (getWildDrawLoop()) {
+            engine.drawForColour(); //draw card and add to hand
 
             System.out.println("AI added card from draw colour loop");
+        }
 
-            if (card.getColour() == wildDrawColour) { //if equal to colour must draw
-                wildDraw = false;
-
-                System.out.println("AI drew colour");
+        System.out.println("AI drew colour");
 
-                setGameState(GameState.HANDLE_AFTER_DRAW); //saving game snapshot
-                handleAfterDraw(); //continue game logic
+        setGameState(GameState.HANDLE_AFTER_DRAW); //saving game snapshot
+        queueState(GameState.HANDLE_AFTER_DRAW); //continue game logic
+    }
 
-            }
-        }
+    /**
+     * Current player draws one card in the draw colour loop.
+     *
+     * @return the card drawn
+     */
+    public Card drawForColour() {
+        return engine.drawForColour();
     }
 
     /**
@@ -656,7 +545,7 @@ public class GameManager implements Serializable {
      * @return True if draw colour card played.
      */
     public boolean getWildDrawLoop() {
-        return wildDraw;
+        return engine.getWildDrawLoop();
     }
 
     /**
@@ -665,7 +554,7 @@ public class GameManager implements Serializable {
      * @param bool False if exiting draw colour loop.
      */
     public void setWildDrawLoop(boolean bool) {
-        wildDraw = bool;
+        engine.setWildDrawLoop(bool);
     }
 
     /**
@@ -674,7 +563,7 @@ public class GameManager implements Serializable {
      * @return CardColour of the draw colour card.
      */
     public CardColour getDrawLoopColour() {
-        return wildDrawColour;
+        return engine.getDrawLoopColour();
     }
 
     /**
@@ -685,11 +574,7 @@ public class GameManager implements Serializable {
     public void skipTurn(int skip) {
         System.out.println("skipTurn() called");
 
-        drawCard = false;
-
-        for (int i = 0; i < skip; i++) {
-            currentPlayerIndex = (currentPlayerIndex + direction + players.size()) % players.size();
-        }
+        engine.skipTurn(skip);
 
         updateDiscardPile(); //for UI
         updateCurrentPlayer(); //for UI
@@ -710,13 +595,17 @@ public class GameManager implements Serializable {
     public void nextTurn() {
         System.out.println("nextTurn() called");
 
-        currentPlayerIndex = (currentPlayerIndex + direction + players.size()) % players.size();
-        drawCard = false;
+        engine.nextTurn();
+        beginTurn();
+    }
 
+    /**
+     * Shows the player whose turn it is and starts their turn logic.
+     */
+    private void beginTurn() {
         updateAll();
         setGameState(GameState.HANDLE_INITIAL_HAND); //saving game snapshot
-        handleInitialHand(); //going back to seq 2
-
+        queueState(GameState.HANDLE_INITIAL_HAND); //going back to seq 2
     }
 
     /**
@@ -739,8 +628,8 @@ public class GameManager implements Serializable {
         discard.setEnabled(false);
         discard.setFocusPainted(false);
 
-        //set style
-        setCardStyle(discard, topCard);
+        //set style, wild cards show the colour chosen for them
+        setCardStyle(discard, topCard, engine.getActiveColour());
 
         discard.setBounds(
                 300,
@@ -760,7 +649,7 @@ public class GameManager implements Serializable {
         String name = getCurrentPlayer().getName(); //gets current player name
         view.currentPlayerDisplay(name);
         view.addUpdateScore(getCurrentPlayer().getScore());
-        view.addGameStats(roundCounter, gameCounter); //for round and game out for player to see
+        view.addGameStats(engine.getRoundCounter(), engine.getGameCounter()); //for round and game out for player to see
     }
 
 
@@ -783,15 +672,12 @@ public class GameManager implements Serializable {
      * Current player can draw one card from the deck
      */
     public void drawCard() {
-        Player p = getCurrentPlayer();
-        if (wildDraw) { //required for draw colour loop
+        if (getWildDrawLoop()) { //required for draw colour loop
             displayHand(); //only need to update UI hand
 
             //regular draw logic, only need to draw card and that's it
-        } else if (!drawCard && (!(getCurrentPlayer().hasPlayableCard(topDiscard())))) {
-            drawCard = true;
-            p.drawCard(deck);
-
+        } else {
+            engine.drawCard();
         }
 
     }
@@ -810,7 +696,7 @@ public class GameManager implements Serializable {
      * @return the current player
      */
     public Player getCurrentPlayer() {
-        return players.get(currentPlayerIndex);
+        return engine.getCurrentPlayer();
     }
 
     /**
@@ -819,7 +705,7 @@ public class GameManager implements Serializable {
      * @return the top discard card
      */
     public Card topDiscard() {
-        return discardPile.peek();
+        return engine.topDiscard();
     }
 
     /**
@@ -828,7 +714,7 @@ public class GameManager implements Serializable {
      * @return list of players
      */
     public List<Player> getPlayers() {
-        return players;
+        return engine.getPlayers();
     }
 
     /**
@@ -837,7 +723,16 @@ public class GameManager implements Serializable {
      * @return deck
      */
     public Deck getDeck() {
-        return deck;
+        return engine.getDeck();
+    }
+
+    /**
+     * Gets the seed the game was dealt with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return engine.getSeed();
     }
 
     /**
@@ -845,8 +740,8 @@ public class GameManager implements Serializable {
      *
      * @return the discard pile
      */
-    public Stack<Card> getDiscardPile() {
-        return discardPile;
+    public CardPile getDiscardPile() {
+        return engine.getDiscardPile();
     }
 
     /**
@@ -855,7 +750,7 @@ public class GameManager implements Serializable {
      * @return the index of the current player
      */
     public int getCurrentPlayerIndex() {
-        return currentPlayerIndex;
+        return engine.getCurrentPlayerIndex();
     }
 
     /**
@@ -898,12 +793,7 @@ public class GameManager implements Serializable {
      * @return player with zero cards
      */
     public Player getRoundWinner() {
-        for (Player p : players) {
-            if (p.gethand().isEmpty()) {
-                return p;
-            }
-        }
-        return null;
+        return engine.getRoundWinner();
     }
 
     /**
@@ -911,18 +801,7 @@ public class GameManager implements Serializable {
      * from all other players' hands
      */
     public void updatePlayerScore() {
-        Player winner = getRoundWinner();
-        if (winner == null) return;
-
-        int totalPoints = 0;
-        //add up total points value
-        for (Player p : players) {
-            if (p != winner) {
-                totalPoints += p.gethandValue();
-            }
-        }
-
-        winner.addScore(totalPoints);
+        engine.updatePlayerScore();
     }
 
     /**
@@ -932,15 +811,10 @@ public class GameManager implements Serializable {
      */
     public boolean checkWinner() {
 
-        if (checkEmptyHand()) { //verifies if a player has an empty hand
-            roundCounter++; //round over so increment
-            updatePlayerScore();
-
+        if (engine.checkWinner()) { //verifies if a player has an empty hand and scores the round
             JOptionPane.showMessageDialog(null, "Game Over " + getRoundWinner().getName() + " Won");
             restartGame();
 
-
-
             return true;
         }
 
@@ -952,23 +826,7 @@ public class GameManager implements Serializable {
      * @return true or false depending on if hand is empty
      */
     public boolean checkEmptyHand() {
-        //check every player's hand
-        for (Player p : players) {
-            if (p.gethand().isEmpty()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Reset all player scores.
-     */
-    private void resetPlayerScores() {
-        for (Player p : players) {
-            p.resetScore();
-        }
-
+        return engine.checkEmptyHand();
     }
 
     /**
@@ -976,7 +834,7 @@ public class GameManager implements Serializable {
      * after exceeding points.
      */
     private void restartGame() {
-        if(getRoundWinner().getScore() >= 500) {
+        if (engine.isGameOver()) {
 
             Object[] options = {"YES", "NO"};
             JPanel endPrompt = new JPanel();
@@ -984,10 +842,7 @@ public class GameManager implements Serializable {
 
             int result = JOptionPane.showOptionDialog(null, endPrompt, "Game System Administrator", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, null);
             if (result == JOptionPane.YES_OPTION) {
-                resetPlayerScores();
-
-                gameCounter++; //new game so increment
-                roundCounter = 0; //restart round counter
+                engine.newGame(); //reset scores, increment game and restart round counter
 
             } else { //no option
                 JOptionPane.showMessageDialog(null, "Game Over");
@@ -995,21 +850,15 @@ public class GameManager implements Serializable {
             }
         }
 
-        //refresh deck
-        Deck deck = getDeck();
-        deck.newDeck();
+        //refresh deck, discard pile and hands
+        engine.resetRound();
 
         //new flags
         resetVars();
 
-        //clear player hands
-        for (Player player : getPlayers()) {
-            player.clearHand();
-        }
-
         setGameState(GameState.NEW_ROUND); //saving snapshot before new round starts
 
-        startGame();
+        queueState(GameState.NEW_ROUND);
         System.out.println("updateView() called by: " + getCurrentPlayer().getName() + " in restartGame(); state: " + getSeq());
     }
 
@@ -1061,7 +910,8 @@ public class GameManager implements Serializable {
             view.addButtonCard(buttonCard);
 
             //setting style of card/JButton
-            setCardStyle(buttonCard, getCurrentPlayer().gethand().get(i));
+            Card card = getCurrentPlayer().gethand().get(i);
+            setCardStyle(buttonCard, card, card.getColour(engine.getSide()));
 
             playerCards.add(buttonCard); //add to JPanel
             playerCards.setComponentZOrder(buttonCard, i); //set z layer order by index
@@ -1081,11 +931,13 @@ public class GameManager implements Serializable {
      *
      * @param buttonCard is the button we're styling based on card
      * @param card used to grab styling attributes
+     * @param colour colour to show, differs from the card colour for a wild card with a chosen colour
      *
      */
-    private void setCardStyle(JButton buttonCard, Card card) {
+    private void setCardStyle(JButton buttonCard, Card card, CardColour colour) {
+        CardSide side = engine.getSide(); //side facing up for every card
         //set color
-        switch (card.getColour()) {
+        switch (colour) {
             case RED -> buttonCard.setBackground(new Color(156, 24, 9));
             case BLUE -> buttonCard.setBackground(new Color(80, 139, 235));
             case GREEN -> buttonCard.setBackground(new Color(29, 161, 31));
@@ -1096,8 +948,8 @@ public class GameManager implements Serializable {
             case ORANGE -> buttonCard.setBackground(new Color(199, 85, 14));
         }
 
-        if (card.getColour().equals(CardColour.WILD)) { //wild cards
-            if (card.getSide().equals(CardSide.LIGHT)) {
+        if (colour.equals(CardColour.WILD)) { //wild cards
+            if (side == CardSide.LIGHT) {
                 buttonCard.setBackground(Color.WHITE); //set background
                 buttonCard.setForeground(Color.BLACK); //setting style for text
                 buttonCard.setBorder(new LineBorder(Color.BLACK, 6)); //set border
@@ -1109,7 +961,7 @@ public class GameManager implements Serializable {
         } else { //anything that not wild cards
             buttonCard.setForeground(Color.WHITE); //setting style for text
 
-            if (card.getSide().equals(CardSide.LIGHT)) {
+            if (side == CardSide.LIGHT) {
                 buttonCard.setBorder(new LineBorder(Color.BLACK, 6)); //set border
             } else {
                 buttonCard.setBorder(new LineBorder(Color.WHITE, 6)); //set border
@@ -1117,14 +969,14 @@ public class GameManager implements Serializable {
         }
 
         //set card type/value
-        if (card.getType() == CardType.NUMBER) {
-            buttonCard.setText(String.valueOf(card.getValue()));
+        if (card.getType(side) == CardType.NUMBER) {
+            buttonCard.setText(String.valueOf(card.getValue(side)));
         } else { //everything that's not a number
-            buttonCard.setText(card.getType().toString().replace('_', ' '));
+            buttonCard.setText(card.getType(side).toString().replace('_', ' '));
         }
 
         //set font based on length
-        String text = card.getType().toString().replace('_', ' ');
+        String text = card.getType(side).toString().replace('_', ' ');
         buttonCard.setFont(
                 (text.length() > 8) ? new Font("Arial", Font.BOLD, 12) : new Font("Arial", Font.BOLD, 18)
         );
@@ -0,0 +1,134 @@
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Small, fast random generator (xoshiro256**) owned by a single game. It is not synchronized so games on
+ * different threads never contend on a shared random, and it keeps the seed it was created with so a game
+ * can be dealt again exactly the same way. Its state is serialized with the game and copied into snapshots.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public final class GameRandom implements RandomGenerator, Serializable {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Creates a generator with a new random seed.
+     */
+    public GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a generator that always gives the same numbers for the same seed.
+     *
+     * @param seed seed for the game
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        //spread the seed over the four state words with splitmix64, state can't be all zero
+        long x = seed;
+        s0 = mix(x += GOLDEN_GAMMA);
+        s1 = mix(x += GOLDEN_GAMMA);
+        s2 = mix(x += GOLDEN_GAMMA);
+        s3 = mix(x + GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a generator from a saved seed and state, see state().
+     *
+     * @param seed seed the generator was created with
+     * @param s0 state word 0
+     * @param s1 state word 1
+     * @param s2 state word 2
+     * @param s3 state word 3
+     */
+    GameRandom(long seed, long s0, long s1, long s2, long s3) {
+        this.seed = seed;
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /**
+     * Copies the seed and current state of another generator.
+     *
+     * @param other generator to copy
+     */
+    private GameRandom(GameRandom other) {
+        this.seed = other.seed;
+        this.s0 = other.s0;
+        this.s1 = other.s1;
+        this.s2 = other.s2;
+        this.s3 = other.s3;
+    }
+
+    /**
+     * Returns a copy that will give the same numbers as this generator from now on, used in snapshots.
+     *
+     * @return the copy
+     */
+    public GameRandom copy() {
+        return new GameRandom(this);
+    }
+
+    /**
+     * Gets the seed the generator was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets one of the four words of the current state, used to save the game.
+     *
+     * @param word 0 to 3
+     * @return the state word
+     */
+    long state(int word) {
+        return switch (word) {
+            case 0 -> s0;
+            case 1 -> s1;
+            case 2 -> s2;
+            case 3 -> s3;
+            default -> throw new IndexOutOfBoundsException("State word: " + word);
+        };
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    /**
+     * Scrambles a value with the splitmix64 finalizer.
+     *
+     * @param z value to scramble
+     * @return scrambled value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
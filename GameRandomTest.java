@@ -0,0 +1,44 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    void testSameSeedSameNumbers() {
+        GameRandom a = new GameRandom(42);
+        GameRandom b = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+        assertEquals(42, a.getSeed());
+    }
+
+    @Test
+    void testDifferentSeedsDiffer() {
+        assertNotEquals(new GameRandom(1).nextLong(), new GameRandom(2).nextLong());
+    }
+
+    @Test
+    void testCopyContinuesFromSameState() {
+        GameRandom random = new GameRandom(7);
+        random.nextLong(); //move away from the seeded state
+        GameRandom copy = random.copy();
+
+        assertEquals(random.nextInt(68), copy.nextInt(68));
+        assertEquals(random.nextLong(), copy.nextLong());
+        assertEquals(7, copy.getSeed());
+    }
+
+    @Test
+    void testSameSeedDealsSameDeck() {
+        Deck first = new Deck(new GameRandom(99));
+        Deck second = new Deck(new GameRandom(99));
+        assertEquals(first.getCards(), second.getCards());
+
+        first.shuffle();
+        Deck copy = first.deepCopy();
+        first.shuffle();
+        copy.shuffle();
+        assertEquals(first.getCards(), copy.getCards(), "Copied deck should shuffle the same way.");
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Plays a recorded game again from its seed, its seating and the MoveLog of the decisions made in it.
+ * Shuffles come from the seed, so the same moves always rebuild the same game turn for turn.
+ * A copy of the game is kept every few turns so seeking back only replays from the nearest copy
+ * instead of the start of the game.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public class GameReplay {
+    public static final int CHECKPOINT_TURNS = 50;
+
+    private final TreeMap<Integer, GameLoop> checkpoints = new TreeMap<>(); //turn to copy of the loop at its start
+    private final int checkpointTurns;
+    private GameLoop loop;
+
+    /**
+     * Constructs a replay at the start of the game.
+     *
+     * @param players new players in the seats of the recorded game
+     * @param seed seed the recorded game was dealt with
+     * @param moves decisions made in the recorded game
+     */
+    public GameReplay(List<Player> players, long seed, MoveLog moves) {
+        this(players, seed, moves, CHECKPOINT_TURNS);
+    }
+
+    /**
+     * Constructs a replay at the start of the game.
+     *
+     * @param players new players in the seats of the recorded game
+     * @param seed seed the recorded game was dealt with
+     * @param moves decisions made in the recorded game
+     * @param checkpointTurns turns between copies kept for seeking back
+     */
+    public GameReplay(List<Player> players, long seed, MoveLog moves, int checkpointTurns) {
+        if (checkpointTurns < 1) {
+            throw new IllegalArgumentException("Turns between checkpoints must be at least 1: " + checkpointTurns);
+        }
+        this.checkpointTurns = checkpointTurns;
+        this.loop = new GameLoop(new GameEngine(players, seed), moves);
+        checkpoints.put(0, loop.copy());
+    }
+
+    /**
+     * Replays the next game state.
+     *
+     * @return false once the game is over or the moves ran out
+     */
+    public boolean step() {
+        int before = loop.getTurns();
+        boolean more = loop.step();
+        int turn = loop.getTurns();
+        if (turn != before && turn % checkpointTurns == 0 && !checkpoints.containsKey(turn)) {
+            checkpoints.put(turn, loop.copy());
+        }
+        return more;
+    }
+
+    /**
+     * Replays every move left.
+     */
+    public void runToEnd() {
+        while (step()) {
+            //keep stepping
+        }
+    }
+
+    /**
+     * Moves the replay to the start of a turn, backwards or forwards.
+     *
+     * @param turn turns taken, 0 for the start of the game
+     * @return true if the replay reached the turn, false if the game ended or the moves ran out first
+     */
+    public boolean seekTurn(int turn) {
+        if (turn < 0) {
+            throw new IllegalArgumentException("Turn can't be negative: " + turn);
+        }
+        if (turn < loop.getTurns()) {
+            Map.Entry<Integer, GameLoop> nearest = checkpoints.floorEntry(turn);
+            loop = nearest.getValue().copy(); //keep the checkpoint for the next seek
+        }
+
+        while (loop.getTurns() < turn) {
+            if (!step()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of turns replayed.
+     *
+     * @return turns taken so far
+     */
+    public int getTurn() {
+        return loop.getTurns();
+    }
+
+    /**
+     * Gets the state the replay will run next.
+     *
+     * @return next game state
+     */
+    public GameState getState() {
+        return loop.getState();
+    }
+
+    /**
+     * Checks if the replay reached the end of the game.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return loop.isGameOver();
+    }
+
+    /**
+     * Gets the game as replayed so far, changing it changes the replay.
+     *
+     * @return the game engine
+     */
+    public GameEngine getEngine() {
+        return loop.getEngine();
+    }
+}
@@ -0,0 +1,90 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class GameReplayTest {
+    private static final long SEED = 11L;
+
+    private MoveLog moves;
+    private Map<Integer, byte[]> recorded; //encoded game at the start of each turn
+    private int totalTurns;
+
+    private static List<Player> seats() {
+        return Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        GameEngine engine = new GameEngine(seats(), SEED);
+        moves = new MoveLog();
+        engine.setMoveLog(moves);
+        recorded = new HashMap<>();
+
+        GameLoop loop = new GameLoop(engine);
+        recorded.put(0, GameCodec.encode(engine, loop.getState()));
+        while (loop.step()) {
+            recorded.putIfAbsent(loop.getTurns(), GameCodec.encode(engine, loop.getState()));
+        }
+        recorded.putIfAbsent(loop.getTurns(), GameCodec.encode(engine, loop.getState()));
+        totalTurns = loop.getTurns();
+    }
+
+    private static byte[] encode(GameReplay replay) {
+        return GameCodec.encode(replay.getEngine(), replay.getState());
+    }
+
+    @Test
+    void testReplayPlaysSameGame() {
+        assertTrue(moves.size() > 0);
+        GameReplay replay = new GameReplay(seats(), SEED, moves);
+        int turn = 0;
+        while (replay.step()) {
+            if (replay.getTurn() != turn) {
+                turn = replay.getTurn();
+                assertArrayEquals(recorded.get(turn), encode(replay), "Turn " + turn);
+            }
+        }
+        assertTrue(replay.isGameOver());
+        assertEquals(totalTurns, replay.getTurn());
+    }
+
+    @Test
+    void testSeekBackAndForward() {
+        GameReplay replay = new GameReplay(seats(), SEED, moves, 20);
+        int[] turns = {totalTurns / 2, 3, 0, totalTurns - 1, 57, 57, 41};
+        for (int turn : turns) {
+            assertTrue(replay.seekTurn(turn));
+            assertEquals(turn, replay.getTurn());
+            assertArrayEquals(recorded.get(turn), encode(replay), "Turn " + turn);
+        }
+    }
+
+    @Test
+    void testSeekPastEnd() {
+        GameReplay replay = new GameReplay(seats(), SEED, moves);
+        assertFalse(replay.seekTurn(totalTurns + 10));
+        assertTrue(replay.isGameOver());
+    }
+
+    @Test
+    void testReplayStopsWhenMovesRunOut() {
+        MoveLog part = new MoveLog();
+        for (int i = 0; i < 10; i++) {
+            part.record(moves.get(i));
+        }
+        GameLoop loop = new GameLoop(new GameEngine(seats(), SEED), part);
+        loop.runGame();
+        assertTrue(loop.isOutOfMoves());
+        assertFalse(loop.isGameOver());
+    }
+
+    @Test
+    void testWrongMovesRejected() {
+        MoveLog wrong = new MoveLog();
+        wrong.record(Move.colour(CardColour.RED));
+        GameLoop loop = new GameLoop(new GameEngine(seats(), SEED), wrong);
+        loop.step(); //start round
+        assertThrows(IllegalStateException.class, loop::step);
+    }
+}
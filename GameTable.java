@@ -0,0 +1,427 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One game hosted by a TableServer. The table owns its engine and is only ever run by one worker thread at a time:
+ * every change goes through its mailbox and the mailbox is drained one message per turn on the worker pool, so
+ * thousands of tables share a few threads without locks. AiPlayer seats are played by the table itself,
+ * other seats send their moves with submit() or play through a connection, e.g. over TableSocketServer.
+ * After every step the changes are handed to the listener
+ * as a TableSync update for remote players, and spectators get coalesced batches through a SpectatorChannel.
+ * The TableSync keeps a whole copy of the game, so a table where every seat is an AI only makes one once
+ * someone watches it or asks for its state, or to publish the final table when the game is over.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class GameTable {
+    /** Game states stepped before the table lets other tables have the worker. */
+    public static final int STEPS_PER_SLICE = 64;
+
+    private final int id;
+    private final boolean[] aiSeats; //true for seats the table plays itself
+    private final GameLoop loop;
+    private final MoveLog moves; //moves received from players that aren't AI
+    private TableSync sync; //null until needed, only touched on the table's turn
+    private final SpectatorChannel spectators = new SpectatorChannel();
+    private final TableListener listener;
+    private final List<TableListener> remotes = new ArrayList<>(); //connected players, only touched on the table's turn
+    private final TableServer server;
+
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false); //true while a drain is queued or running
+    private int waitingSeat = -1; //seat the game is waiting on, -1 if none
+    private volatile int turns = 0; //turns taken, readable from any thread
+    private volatile boolean finished = false;
+    private volatile boolean failed = false;
+    private volatile boolean watched = false; //true once the spectator channel was handed out
+
+    /**
+     * Constructs a table, nothing happens until start().
+     *
+     * @param id table id on the server
+     * @param seats new players in seat order, 2-4 seats
+     * @param seed seed for the table's shuffles
+     * @param server server hosting the table
+     * @param listener told what happens at the table
+     */
+    GameTable(int id, List<Player> seats, long seed, TableServer server, TableListener listener) {
+        if (seats.size() < 2 || seats.size() > 4) {
+            throw new IllegalArgumentException("A table needs 2-4 seats");
+        }
+        this.id = id;
+        this.aiSeats = new boolean[seats.size()];
+        for (int i = 0; i < aiSeats.length; i++) {
+            aiSeats[i] = seats.get(i) instanceof AiPlayer;
+        }
+        this.moves = new MoveLog();
+        this.loop = new GameLoop(new GameEngine(seats, seed), moves, true);
+        this.listener = listener;
+        for (Player p : seats) {
+            if (!(p instanceof AiPlayer)) { //a remote player is told about every change
+                sync();
+                break;
+            }
+        }
+        this.server = server;
+    }
+
+    /**
+     * Starts the game.
+     */
+    void start() {
+        send(this::advance);
+    }
+
+    /**
+     * Sends a player's move to the table, returns straight away. The listener is told if it is rejected.
+     *
+     * @param seat seat of the player
+     * @param move the move
+     */
+    public void submit(int seat, Move move) {
+        send(() -> receive(seat, move));
+    }
+
+    /**
+     * Asks for the whole table as a player sees it, e.g. for a player joining or one that missed an update.
+     *
+     * @param seat seat of the player, -1 for a spectator
+     * @param reply given the TableSync full state message on the table's worker thread
+     */
+    public void requestFullState(int seat, Consumer<byte[]> reply) {
+        send(() -> reply(reply, sync().getFullState(seat)));
+    }
+
+    /**
+     * Connects a remote player to a seat. The connection is sent the seat's full state, then told about the
+     * table like the table's own listener until it disconnects.
+     *
+     * @param seat seat of the player
+     * @param remote the player's connection, called on the table's worker thread
+     * @param state given the TableSync full state message the connection starts from
+     */
+    public void connect(int seat, TableListener remote, Consumer<byte[]> state) {
+        send(() -> {
+            if (!reply(state, sync().getFullState(seat))) {
+                return;
+            }
+            if (finished) {
+                call(remote, r -> r.gameOver(this));
+                return;
+            }
+            remotes.add(remote);
+            if (seat == waitingSeat && !call(remote, r -> r.waitingForMove(this, seat, loop.getExpectedMove()))) {
+                remotes.remove(remote); //already waiting before the player connected
+            }
+        });
+    }
+
+    /**
+     * Disconnects a remote player, the seat is kept for them.
+     *
+     * @param remote the player's connection
+     */
+    public void disconnect(TableListener remote) {
+        send(() -> remotes.remove(remote));
+    }
+
+    /**
+     * Hands a message to a caller. A caller that throws only loses its message, the game carries on.
+     *
+     * @param to the caller's callback
+     * @param message the message
+     * @return false if the callback threw
+     */
+    private boolean reply(Consumer<byte[]> to, byte[] message) {
+        try {
+            to.accept(message);
+            return true;
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Tells one listener about something, printing anything it throws.
+     *
+     * @param l the listener
+     * @param event the call to make
+     * @return false if the listener threw
+     */
+    private boolean call(TableListener l, Consumer<TableListener> event) {
+        try {
+            event.accept(l);
+            return true;
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Tells the table's listener and every connected player about something. A listener that throws doesn't
+     * stop the game, a connected player that throws is disconnected.
+     *
+     * @param event the call to make
+     */
+    private void tell(Consumer<TableListener> event) {
+        call(listener, event);
+        for (Iterator<TableListener> it = remotes.iterator(); it.hasNext(); ) {
+            if (!call(it.next(), event)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the table's sync, starting it on first use.
+     *
+     * @return the sync
+     */
+    private TableSync sync() {
+        if (sync == null) {
+            sync = new TableSync(loop.getEngine());
+        }
+        return sync;
+    }
+
+    /**
+     * Starts the sync for spectators and publishes the table as it is now.
+     */
+    private void watch() {
+        spectators.publish(sync().getFullState(-1));
+    }
+
+    /**
+     * Adds a message to the mailbox and makes sure a worker will run it.
+     *
+     * @param message work to run on the table's turn
+     */
+    private void send(Runnable message) {
+        mailbox.offer(message);
+        schedule();
+    }
+
+    /**
+     * Queues a drain on the workers unless one is already queued or running.
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            server.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs one message then gives the worker back, so a busy table can't starve the others.
+     * Messages still run once the table is finished so late requests for its state are answered,
+     * moves and steps ignore themselves.
+     */
+    private void drain() {
+        try {
+            Runnable message = mailbox.poll();
+            if (message != null) {
+                try {
+                    message.run();
+                } catch (RuntimeException e) { //the table's own code broke, callbacks are caught where they're called
+                    e.printStackTrace();
+                    if (!finished) {
+                        failed = true;
+                        finish();
+                    }
+                }
+            }
+        } finally { //even if finishing threw, or the table would never take mail again
+            scheduled.set(false);
+            if (!mailbox.isEmpty()) {
+                schedule(); //sent while this drain was running
+            }
+        }
+    }
+
+    /**
+     * Checks a player's move and continues the game with it.
+     *
+     * @param seat seat of the player
+     * @param move the move
+     */
+    private void receive(int seat, Move move) {
+        if (finished) {
+            return;
+        }
+        if (seat != waitingSeat || move == null || move.getType() != loop.getExpectedMove() || !isLegal(move)) {
+            tell(l -> l.moveRejected(this, seat, move));
+            return;
+        }
+        moves.record(move);
+        waitingSeat = -1;
+        advance();
+    }
+
+    /**
+     * Checks if a move of the expected type can be made.
+     *
+     * @param move the move
+     * @return true if the engine will accept it
+     */
+    private boolean isLegal(Move move) {
+        GameEngine engine = loop.getEngine();
+        return switch (move.getType()) {
+            case PLAY -> {
+                List<Card> hand = engine.getCurrentPlayer().gethand();
+                yield move.getIndex() >= 0 && move.getIndex() < hand.size() && engine.checkValidMove(hand.get(move.getIndex()));
+            }
+            case COLOUR -> engine.isValidWildColour(move.getColour());
+            case DRAW -> true;
+        };
+    }
+
+    /**
+     * Plays a slice of the game, until it needs a player's move, ends, or has had its share of the worker.
+     */
+    private void advance() {
+        if (finished) {
+            return;
+        }
+        int before = loop.getTurns();
+        boolean broken = false;
+        for (int i = 0; i < STEPS_PER_SLICE; i++) {
+            boolean more;
+            try {
+                more = loop.step();
+            } catch (RuntimeException e) { //the game itself broke, the only way a table fails
+                e.printStackTrace();
+                broken = true;
+                break;
+            }
+            if (sync != null && sync.flush()) {
+                tell(l -> l.stateChanged(this, sync));
+                spectators.changed(sync);
+            }
+            if (!more) {
+                break;
+            }
+        }
+        turns = loop.getTurns();
+        server.addTurns(turns - before);
+
+        if (broken) {
+            failed = true;
+            finish();
+        } else if (loop.isGameOver()) {
+            finish();
+        } else if (loop.isOutOfMoves()) {
+            if (sync != null) {
+                spectators.flush(sync); //idle until the player moves
+            }
+            waitingSeat = loop.getEngine().getCurrentPlayerIndex();
+            tell(l -> l.waitingForMove(this, waitingSeat, loop.getExpectedMove()));
+        } else {
+            send(this::advance); //back of the line behind other tables
+        }
+    }
+
+    /**
+     * Stops the table and tells the listener, then publishes the final table. The server and listener are told
+     * first so a game too broken to publish still closes.
+     */
+    private void finish() {
+        finished = true;
+        server.tableFinished(this);
+        tell(l -> l.gameOver(this));
+        remotes.clear();
+        try {
+            if (sync != null) {
+                spectators.flush(sync);
+            } else { //nobody watched, so only the final table is published for anyone who looks later
+                spectators.publish(sync().getFullState(-1));
+            }
+        } catch (RuntimeException e) { //spectators keep the last table they got
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets the table id.
+     *
+     * @return id on the server
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return seats
+     */
+    public int getSeatCount() {
+        return aiSeats.length;
+    }
+
+    /**
+     * Checks if the table plays a seat itself.
+     *
+     * @param seat seat index
+     * @return true if the seat is an AiPlayer
+     */
+    public boolean isAiSeat(int seat) {
+        return aiSeats[seat];
+    }
+
+    /**
+     * Gets the channel spectators watch the table through, safe to subscribe to from any thread.
+     * The first call starts publishing the table.
+     *
+     * @return the spectator channel
+     */
+    public SpectatorChannel getSpectators() {
+        if (!watched) {
+            watched = true;
+            send(this::watch);
+        }
+        return spectators;
+    }
+
+    /**
+     * Gets the game at the table. Only safe to read from inside a TableListener call.
+     *
+     * @return the game engine
+     */
+    public GameEngine getEngine() {
+        return loop.getEngine();
+    }
+
+    /**
+     * Gets the number of turns taken at the table.
+     *
+     * @return turns taken
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Checks if the game is over or has stopped.
+     *
+     * @return true if the table is finished
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Checks if the game stopped because of an error.
+     *
+     * @return true if the table failed
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+}
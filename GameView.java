@@ -0,0 +1,92 @@
+import java.util.List;
+
+/**
+ * Read only view of a game from the seat of the player about to move, everything an AiStrategy is allowed to see:
+ * their own hand and the public state of the table, never another player's cards.
+ * Implemented over a GameEngine by EngineView and over a remote client by RemoteTable.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public interface GameView {
+
+    /**
+     * Gets the hand of the player about to move.
+     *
+     * @return read only list of the cards
+     */
+    List<Card> getHand();
+
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return the top card, null before the first card is turned over
+     */
+    Card getTopDiscard();
+
+    /**
+     * Gets the colour in play, the chosen colour if a wild card is on top of the discard pile.
+     *
+     * @return the active colour
+     */
+    CardColour getActiveColour();
+
+    /**
+     * Gets the side facing up.
+     *
+     * @return the side
+     */
+    CardSide getSide();
+
+    /**
+     * Gets the number of players at the table.
+     *
+     * @return number of players
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the number of cards a player holds.
+     *
+     * @param player player index
+     * @return hand size
+     */
+    int getHandSize(int player);
+
+    /**
+     * Gets the number of the viewer's cards showing a colour on the side facing up.
+     *
+     * @param colour the colour
+     * @return number of cards, 0 for a spectator
+     */
+    int getColourCount(CardColour colour);
+
+    /**
+     * Gets the score of a player.
+     *
+     * @param player player index
+     * @return the score
+     */
+    int getScore(int player);
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return index of the current player
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Gets the direction of play.
+     *
+     * @return 1 or -1
+     */
+    int getDirection();
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return deck size
+     */
+    int getDeckSize();
+}
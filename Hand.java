@@ -0,0 +1,272 @@
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A player's hand, a CardPile that also keeps counts of what it holds so the questions asked every turn
+ * don't have to scan it. For both sides it counts the cards of each colour, each type and each number,
+ * and keeps the total points, and it counts the copies of each catalog face so checking for a playable
+ * card is one mask test against the MatchTable. Every change to the hand updates the counts, and since
+ * both sides are counted a flip card doesn't have to touch them.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public class Hand extends CardPile {
+    private static final CardColour[] COLOURS = CardColour.values();
+    private static final int NUMBERS = 10; //number cards go from 0 to 9
+
+    //layout of counts, the catalog faces then a block for each side
+    private static final int COLOUR_OFFSET = 0;
+    private static final int TYPE_OFFSET = COLOUR_OFFSET + COLOURS.length;
+    private static final int NUMBER_OFFSET = TYPE_OFFSET + CardType.values().length;
+    private static final int POINTS_OFFSET = NUMBER_OFFSET + NUMBERS;
+    private static final int SIDE_SIZE = POINTS_OFFSET + 1;
+    private static final int SIDES_OFFSET = CardCatalog.FACE_COUNT;
+
+    private int[] counts;
+    private boolean countsShared; //true if a copy may still be reading the same counts
+    private long faces; //bit i set if the hand holds face i
+    private int uncatalogued; //cards with no catalog face, checked by their rules
+
+    /**
+     * Creates an empty hand.
+     *
+     * @param capacity number of cards it can hold before growing
+     */
+    public Hand(int capacity) {
+        super(capacity);
+        this.counts = new int[SIDES_OFFSET + SIDE_SIZE * CardSide.values().length];
+    }
+
+    /**
+     * Creates a hand holding the same cards as another hand. Takes constant time, the cards and counts
+     * are only copied when either hand changes.
+     *
+     * @param other hand to copy
+     */
+    public Hand(Hand other) {
+        super(other);
+        copyCounts(other);
+    }
+
+    /**
+     * Shares the counts of another hand holding the same cards.
+     *
+     * @param other the hand
+     */
+    private void copyCounts(Hand other) {
+        this.counts = other.counts;
+        this.faces = other.faces;
+        this.uncatalogued = other.uncatalogued;
+        this.countsShared = true;
+        other.countsShared = true;
+    }
+
+    /**
+     * Adds a card to the counts or takes it out.
+     *
+     * @param card the card
+     * @param change 1 if the card was added, -1 if it was removed
+     */
+    private void count(Card card, int change) {
+        if (countsShared) {
+            counts = counts.clone();
+            countsShared = false;
+        }
+        int id = card.getId();
+        if (id >= 0) {
+            counts[id] += change;
+            if (counts[id] == 0) {
+                faces &= ~(1L << id);
+            } else {
+                faces |= 1L << id;
+            }
+        } else {
+            uncatalogued += change;
+        }
+
+        for (CardSide side : CardSide.values()) {
+            int base = SIDES_OFFSET + side.ordinal() * SIDE_SIZE;
+            counts[base + COLOUR_OFFSET + card.getColour(side).ordinal()] += change;
+            counts[base + TYPE_OFFSET + card.getType(side).ordinal()] += change;
+            int value = card.getValue(side);
+            if (card.getType(side) == CardType.NUMBER && value >= 0 && value < NUMBERS) {
+                counts[base + NUMBER_OFFSET + value] += change;
+            }
+            counts[base + POINTS_OFFSET] += change * value;
+        }
+    }
+
+    /**
+     * Sets every count back to an empty hand.
+     */
+    private void resetCounts() {
+        if (countsShared) {
+            counts = new int[counts.length];
+            countsShared = false;
+        } else {
+            Arrays.fill(counts, 0);
+        }
+        faces = 0;
+        uncatalogued = 0;
+    }
+
+    /**
+     * Estimates the memory the hand holds on to, counting its cards and counts even if a copy shares them.
+     *
+     * @return estimated bytes
+     */
+    @Override
+    public long estimatedBytes() {
+        return super.estimatedBytes() + 16 + 4L * counts.length;
+    }
+
+    /* *************************************************************** */
+    //Changes to the hand, each keeps the counts up to date
+
+    @Override
+    public Card push(Card card) {
+        super.push(card);
+        count(card, 1);
+        return card;
+    }
+
+    @Override
+    public Card pop() {
+        Card card = super.pop();
+        count(card, -1);
+        return card;
+    }
+
+    @Override
+    public int pop(int count, Collection<? super Card> into) {
+        int taken = Math.min(count, size());
+        for (int i = size() - taken; i < size(); i++) {
+            count(get(i), -1);
+        }
+        return super.pop(count, into);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Card> more) {
+        int before = size();
+        boolean changed = super.addAll(more);
+        for (int i = before; i < size(); i++) {
+            count(get(i), 1);
+        }
+        return changed;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = super.set(index, card);
+        count(old, -1);
+        count(card, 1);
+        return old;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        super.add(index, card);
+        count(card, 1);
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card old = super.remove(index);
+        count(old, -1);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resetCounts();
+    }
+
+    @Override
+    public void replaceWith(CardPile other) {
+        super.replaceWith(other);
+        if (other instanceof Hand) {
+            copyCounts((Hand) other);
+        } else {
+            resetCounts();
+            for (Card card : this) {
+                count(card, 1);
+            }
+        }
+    }
+
+    /* *************************************************************** */
+    //Questions answered from the counts
+
+    /**
+     * Checks if any card in the hand is in a mask from MatchTable.playable().
+     * Only cards with no catalog face are checked one by one.
+     *
+     * @param playable mask of playable faces
+     * @param top top card the mask was made for
+     * @param colour colour in play the mask was made for
+     * @param side side the mask was made for
+     * @return true if there is at least one playable card
+     */
+    public boolean hasPlayable(long playable, Card top, CardColour colour, CardSide side) {
+        if ((faces & playable) != 0) {
+            return true;
+        }
+        if (uncatalogued > 0) {
+            for (Card c : this) {
+                if (c.getId() < 0 && c.matches(top, colour, side)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of cards showing a colour.
+     *
+     * @param side side facing up
+     * @param colour the colour
+     * @return number of cards
+     */
+    public int getColourCount(CardSide side, CardColour colour) {
+        return counts[SIDES_OFFSET + side.ordinal() * SIDE_SIZE + COLOUR_OFFSET + colour.ordinal()];
+    }
+
+    /**
+     * Gets the number of cards showing a type.
+     *
+     * @param side side facing up
+     * @param type the type
+     * @return number of cards
+     */
+    public int getTypeCount(CardSide side, CardType type) {
+        return counts[SIDES_OFFSET + side.ordinal() * SIDE_SIZE + TYPE_OFFSET + type.ordinal()];
+    }
+
+    /**
+     * Gets the number of number cards showing a value.
+     *
+     * @param side side facing up
+     * @param value the number, 0-9
+     * @return number of cards
+     */
+    public int getNumberCount(CardSide side, int value) {
+        if (value < 0 || value >= NUMBERS) {
+            return 0;
+        }
+        return counts[SIDES_OFFSET + side.ordinal() * SIDE_SIZE + NUMBER_OFFSET + value];
+    }
+
+    /**
+     * Gets the total points of the cards in the hand.
+     *
+     * @param side side facing up
+     * @return total points
+     */
+    public int getPoints(CardSide side) {
+        return counts[SIDES_OFFSET + side.ordinal() * SIDE_SIZE + POINTS_OFFSET];
+    }
+}
@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandTest {
+    private Hand hand;
+    private Card red5;
+    private Card blueSkip;
+    private Card wild;
+
+    @BeforeEach
+    void setUp() {
+        hand = new Hand(1);
+        red5 = new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 5, 5);
+        blueSkip = new Card(CardColour.BLUE, CardColour.PURPLE, CardType.SKIP, CardType.SKIP_EVERYONE, 20, 30);
+        wild = new Card(CardColour.WILD, CardColour.WILD, CardType.WILD, CardType.WILD, 40, 40);
+    }
+
+    /**
+     * Checks every count against a scan of the hand.
+     */
+    private static void assertCounts(Hand hand) {
+        for (CardSide side : CardSide.values()) {
+            int points = 0;
+            for (Card c : hand) {
+                points += c.getValue(side);
+            }
+            assertEquals(points, hand.getPoints(side));
+            for (CardColour colour : CardColour.values()) {
+                assertEquals(hand.stream().filter(c -> c.getColour(side) == colour).count(), hand.getColourCount(side, colour));
+            }
+            for (CardType type : CardType.values()) {
+                assertEquals(hand.stream().filter(c -> c.getType(side) == type).count(), hand.getTypeCount(side, type));
+            }
+            for (int n = 0; n < 10; n++) {
+                int value = n;
+                assertEquals(hand.stream().filter(c -> c.getType(side) == CardType.NUMBER && c.getValue(side) == value).count(),
+                        hand.getNumberCount(side, n));
+            }
+        }
+    }
+
+    @Test
+    void testCountsFollowChanges() {
+        hand.add(red5);
+        hand.add(blueSkip);
+        hand.add(0, red5);
+        assertEquals(2, hand.getColourCount(CardSide.LIGHT, CardColour.RED));
+        assertEquals(2, hand.getColourCount(CardSide.DARK, CardColour.BROWN));
+        assertEquals(1, hand.getTypeCount(CardSide.DARK, CardType.SKIP_EVERYONE));
+        assertEquals(2, hand.getNumberCount(CardSide.LIGHT, 5));
+        assertEquals(30, hand.getPoints(CardSide.LIGHT));
+        assertEquals(40, hand.getPoints(CardSide.DARK));
+
+        hand.remove(1);
+        hand.set(0, wild);
+        assertCounts(hand);
+        assertEquals(60, hand.getPoints(CardSide.LIGHT));
+
+        hand.addAll(List.of(red5, red5));
+        hand.pop();
+        assertCounts(hand);
+        hand.remove(red5); //by object goes through remove(int)
+        assertCounts(hand);
+        hand.clear();
+        assertCounts(hand);
+        assertEquals(0, hand.getPoints(CardSide.DARK));
+    }
+
+    @Test
+    void testCopyKeepsOwnCounts() {
+        hand.add(red5);
+        Hand copy = new Hand(hand);
+        copy.add(blueSkip);
+        hand.remove(0);
+        assertEquals(0, hand.getColourCount(CardSide.LIGHT, CardColour.RED));
+        assertEquals(1, copy.getColourCount(CardSide.LIGHT, CardColour.RED));
+        assertEquals(25, copy.getPoints(CardSide.LIGHT));
+
+        hand.replaceWith(copy);
+        assertCounts(hand);
+        CardPile pile = new CardPile();
+        pile.add(wild);
+        hand.replaceWith(pile);
+        assertEquals(40, hand.getPoints(CardSide.LIGHT));
+        assertCounts(copy);
+    }
+
+    @Test
+    void testDrawIntoHand() {
+        Deck deck = new Deck(new GameRandom(6L));
+        deck.drawCards(20, hand);
+        assertEquals(20, hand.size());
+        assertCounts(hand);
+    }
+
+    @Test
+    void testHasPlayableMatchesScan() {
+        Random random = new Random(12);
+        Card outside = new Card(CardColour.GREEN, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 11, 11); //no catalog face
+        for (int round = 0; round < 500; round++) {
+            hand.clear();
+            int size = random.nextInt(6);
+            for (int i = 0; i < size; i++) {
+                hand.add(random.nextInt(20) == 0 ? outside : CardCatalog.card(random.nextInt(CardCatalog.FACE_COUNT)));
+            }
+            Card top = CardCatalog.card(random.nextInt(CardCatalog.FACE_COUNT));
+            CardSide side = CardSide.values()[random.nextInt(2)];
+            CardColour colour = top.getColour(side);
+            if (colour == CardColour.WILD) {
+                colour = (side == CardSide.LIGHT) ? CardColour.YELLOW : CardColour.ORANGE;
+            }
+
+            boolean expected = false;
+            for (Card c : hand) {
+                expected |= c.matches(top, colour, side);
+            }
+            assertEquals(expected, hand.hasPlayable(MatchTable.playable(top, colour, side), top, colour, side));
+        }
+    }
+
+    @Test
+    void testPlayerUsesCounts() {
+        Player player = new Player("P");
+        List<Card> cards = new ArrayList<>(List.of(red5, blueSkip, wild));
+        for (Card c : cards) {
+            player.addCardtoHand(c);
+        }
+        assertEquals(65, player.gethandValue());
+        assertEquals(75, player.gethandValue(CardSide.DARK));
+        Player copy = player.deepCopy();
+        player.gethand().remove(2);
+        assertEquals(65, copy.gethandValue());
+        assertEquals(25, player.gethandValue());
+    }
+}
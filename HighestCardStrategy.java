@@ -0,0 +1,74 @@
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The original AI: plays its highest value card that can be played and picks the colour it holds the most of
+ * for a wild card.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public class HighestCardStrategy implements AiStrategy, Serializable {
+    private static final CardColour[] COLOURS = CardColour.values();
+
+    @Override
+    public Move chooseMove(GameView view, MoveType expected) {
+        if (expected == MoveType.COLOUR) {
+            return Move.colour(chooseColour(view));
+        }
+        int index = chooseCard(view.getHand(), view.getTopDiscard(), view.getActiveColour(), view.getSide());
+        return (index < 0) ? Move.draw() : Move.play(index);
+    }
+
+    /**
+     * Finds which card to play, the highest value out of the cards that can be played.
+     *
+     * @param hand the hand
+     * @param top top card on the discard pile
+     * @param colour colour in play on the top card, the chosen colour for wild cards
+     * @param side side facing up
+     * @return index of the card in the hand, -1 if nothing can be played
+     */
+    private int chooseCard(List<Card> hand, Card top, CardColour colour, CardSide side) {
+        IntList playableCards = MatchTable.legalIndices(hand, top, colour, side, new IntList(hand.size()));
+        if (playableCards.isEmpty()) {
+            return -1;
+        }
+
+        int bestCard = playableCards.get(0);
+        int bestValue = hand.get(bestCard).getValue(side);
+        for (int i = 1; i < playableCards.size(); i++) {
+            int index = playableCards.get(i);
+            int value = hand.get(index).getValue(side);
+
+            //can swap value to play big cards last by swapping "<" with ">"
+            if (bestValue < value) {
+                bestCard = index;
+                bestValue = value;
+            }
+        }
+        return bestCard;
+    }
+
+    /**
+     * Finds which colour the hand holds the most of and chooses it for the wild card. Reads the counts the hand
+     * keeps so nothing is allocated, ties go to the colour declared first in CardColour so every run picks the same,
+     * and the first colour of the side is picked if the hand has no coloured cards. SearchTree picks playout
+     * colours with it too.
+     *
+     * @param view the game from the AI's seat
+     * @return colour valid on the side
+     */
+    static CardColour chooseColour(GameView view) {
+        CardColour chosenColour = null;
+        int chosenCount = 0;
+        for (CardColour colour : COLOURS) {
+            int count = view.getColourCount(colour);
+            if (colour != CardColour.WILD && chosenCount < count) { //don't want the colour WILD
+                chosenColour = colour;
+                chosenCount = count;
+            }
+        }
+        return (chosenColour == null) ? view.getSide().defaultColour() : chosenColour; //only wild cards left
+    }
+}
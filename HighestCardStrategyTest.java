@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class HighestCardStrategyTest {
+    private AiPlayer ai;
+    private GameEngine engine;
+    private GameView view;
+
+    @BeforeEach
+    void setUp() {
+        ai = new AiPlayer("AI 1");
+        engine = new GameEngine(Arrays.asList(ai, new AiPlayer("AI 2")), 4L);
+        engine.startRound();
+        engine.getDiscardPile().push(card(CardColour.RED, CardType.NUMBER, 3));
+        ai.clearHand();
+        view = new EngineView(engine);
+    }
+
+    private static Card card(CardColour colour, CardType type, int value) {
+        return new Card(colour, CardColour.BROWN, type, CardType.NUMBER, value, 1);
+    }
+
+    @Test
+    void testPlaysHighestPlayableCard() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        ai.addCardtoHand(card(CardColour.RED, CardType.NUMBER, 2));
+        ai.addCardtoHand(card(CardColour.RED, CardType.NUMBER, 8));
+        assertEquals(Move.play(2), ai.chooseMove(view, MoveType.PLAY));
+    }
+
+    @Test
+    void testDuplicateCardsPlayedByPosition() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        ai.addCardtoHand(card(CardColour.RED, CardType.NUMBER, 7));
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        ai.addCardtoHand(card(CardColour.RED, CardType.NUMBER, 7));
+        assertEquals(Move.play(1), ai.chooseMove(view, MoveType.PLAY), "First of the equal highest cards.");
+        ai.gethand().remove(1);
+        assertEquals(Move.play(2), ai.chooseMove(view, MoveType.PLAY));
+    }
+
+    @Test
+    void testDrawsWhenNothingPlayable() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        assertEquals(Move.draw(), ai.chooseMove(view, MoveType.PLAY));
+    }
+
+    @Test
+    void testPicksMostCommonColour() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        ai.addCardtoHand(card(CardColour.GREEN, CardType.NUMBER, 1));
+        ai.addCardtoHand(card(CardColour.GREEN, CardType.NUMBER, 2));
+        assertEquals(Move.colour(CardColour.GREEN), ai.chooseMove(view, MoveType.COLOUR));
+    }
+
+    @Test
+    void testOnlyWildsStillPicksValidColour() {
+        ai.addCardtoHand(new Card(CardColour.WILD, CardColour.WILD, CardType.WILD, CardType.WILD_DRAW_COLOR, 40, 60));
+        engine.flipSide();
+        Move move = ai.chooseMove(view, MoveType.COLOUR);
+        assertTrue(engine.isValidWildColour(move.getColour()));
+    }
+
+    @Test
+    void testColourTiesGoToFirstColour() {
+        ai.addCardtoHand(card(CardColour.YELLOW, CardType.NUMBER, 9));
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 1));
+        assertEquals(Move.colour(CardColour.BLUE), ai.chooseMove(view, MoveType.COLOUR));
+        ai.addCardtoHand(card(CardColour.YELLOW, CardType.NUMBER, 2));
+        assertEquals(Move.colour(CardColour.YELLOW), ai.chooseMove(view, MoveType.COLOUR));
+    }
+
+    @Test
+    void testColourFromDarkSide() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        ai.addCardtoHand(new Card(CardColour.RED, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 2, 2));
+        ai.addCardtoHand(new Card(CardColour.GREEN, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 3, 3));
+        engine.flipSide();
+        assertEquals(Move.colour(CardColour.TEAL), ai.chooseMove(view, MoveType.COLOUR));
+    }
+
+    @Test
+    void testViewIsReadOnly() {
+        ai.addCardtoHand(card(CardColour.BLUE, CardType.NUMBER, 9));
+        assertThrows(UnsupportedOperationException.class, () -> view.getHand().clear());
+        assertEquals(1, view.getHandSize(0));
+        assertEquals(engine.getPlayers().get(1).gethand().size(), view.getHandSize(1));
+    }
+
+    @Test
+    void testCustomStrategy() {
+        ai.setStrategy((v, expected) -> Move.draw());
+        ai.addCardtoHand(card(CardColour.RED, CardType.NUMBER, 2));
+        assertEquals(Move.draw(), ai.chooseMove(view, MoveType.PLAY));
+        assertSame(ai.getStrategy(), ai.deepCopy().getStrategy());
+    }
+}
@@ -0,0 +1,93 @@
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, used where a List<Integer> would box every element,
+ * e.g. the hand indexes of the cards that can be played.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public final class IntList {
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * Constructs an empty list.
+     */
+    public IntList() {
+        this(8);
+    }
+
+    /**
+     * Constructs an empty list with room for some values before it has to grow.
+     *
+     * @param capacity initial room
+     */
+    public IntList(int capacity) {
+        values = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param value the value
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Gets a value.
+     *
+     * @param index position in the list
+     * @return the value
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list has no values.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value, keeping the room for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copies the values to an array.
+     *
+     * @return array of the values in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
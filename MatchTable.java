@@ -0,0 +1,128 @@
+import java.util.List;
+
+/**
+ * Precomputed table of which catalog faces can be played on which. For every side, top face and colour
+ * in play it holds a bitmask with bit i set if face i is a legal play, so checking a card or finding
+ * every playable face is a single array lookup instead of running Card.matches() rules.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public final class MatchTable {
+    /** Mask with every catalog face set, used when there is no top card. */
+    public static final long ALL_FACES;
+
+    private static final CardColour[] COLOURS = CardColour.values();
+    private static final long[][][] PLAYABLE; //[side][top face id][colour in play] -> faces playable
+
+    static {
+        if (CardCatalog.FACE_COUNT > Long.SIZE) {
+            throw new IllegalStateException("Catalog has too many faces for a long mask");
+        }
+        ALL_FACES = (CardCatalog.FACE_COUNT == Long.SIZE) ? -1L : (1L << CardCatalog.FACE_COUNT) - 1;
+
+        CardSide[] sides = CardSide.values();
+        PLAYABLE = new long[sides.length][CardCatalog.FACE_COUNT][COLOURS.length];
+        for (CardSide side : sides) {
+            for (int top = 0; top < CardCatalog.FACE_COUNT; top++) {
+                for (CardColour colour : COLOURS) {
+                    PLAYABLE[side.ordinal()][top][colour.ordinal()] = buildMask(CardCatalog.card(top), colour, side);
+                }
+            }
+        }
+    }
+
+    /**
+     * Not instantiable, all methods are static.
+     */
+    private MatchTable() {
+    }
+
+    /**
+     * Runs the match rules against every face to build the mask for a top card.
+     *
+     * @param top top card on the discard pile
+     * @param colour colour in play on the top card
+     * @param side side facing up
+     * @return mask of playable faces
+     */
+    private static long buildMask(Card top, CardColour colour, CardSide side) {
+        long mask = 0;
+        for (int id = 0; id < CardCatalog.FACE_COUNT; id++) {
+            if (CardCatalog.card(id).matchesByRule(top, colour, side)) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets every face that can be played on a catalog face.
+     *
+     * @param topId face id of the top card
+     * @param side side facing up
+     * @param colour colour in play on the top card
+     * @return mask of playable faces
+     */
+    public static long playable(int topId, CardSide side, CardColour colour) {
+        return PLAYABLE[side.ordinal()][topId][colour.ordinal()];
+    }
+
+    /**
+     * Gets every face that can be played on a top card.
+     *
+     * @param top top card on the discard pile, may be null if no card has been played yet
+     * @param colour colour in play on the top card
+     * @param side side facing up
+     * @return mask of playable faces
+     */
+    public static long playable(Card top, CardColour colour, CardSide side) {
+        if (top == null) {
+            return ALL_FACES;
+        }
+        if (top.getId() < 0 || colour == null) { //face not in the catalog, run the rules
+            return buildMask(top, (colour == null) ? top.getColour(side) : colour, side);
+        }
+        return playable(top.getId(), side, colour);
+    }
+
+    /**
+     * Checks if a card is in a mask from playable().
+     * Cards outside the catalog fall back to Card.matches().
+     *
+     * @param playable mask of playable faces
+     * @param card card to check
+     * @param top top card the mask was made for
+     * @param colour colour in play the mask was made for
+     * @param side side the mask was made for
+     * @return true if the card can be played
+     */
+    public static boolean isPlayable(long playable, Card card, Card top, CardColour colour, CardSide side) {
+        if (card.getId() < 0) {
+            return card.matches(top, colour, side);
+        }
+        return (playable >>> card.getId() & 1L) != 0;
+    }
+
+    /**
+     * Finds the hand index of every card that can be played in one pass over the hand.
+     * Works by position, so a hand holding two equal cards gets both indexes.
+     *
+     * @param hand the hand
+     * @param top top card on the discard pile, may be null if no card has been played yet
+     * @param colour colour in play on the top card
+     * @param side side facing up
+     * @param out list the indexes are written to in hand order, cleared first
+     * @return the out list
+     */
+    public static IntList legalIndices(List<Card> hand, Card top, CardColour colour, CardSide side, IntList out) {
+        out.clear();
+        long playable = playable(top, colour, side);
+        for (int i = 0; i < hand.size(); i++) {
+            if (isPlayable(playable, hand.get(i), top, colour, side)) {
+                out.add(i);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchTableTest {
+
+    @Test
+    void testTableAgreesWithRules() {
+        for (CardSide side : CardSide.values()) {
+            for (int top = 0; top < CardCatalog.FACE_COUNT; top++) {
+                Card topCard = CardCatalog.card(top);
+                for (CardColour colour : CardColour.values()) {
+                    long playable = MatchTable.playable(top, side, colour);
+                    for (int id = 0; id < CardCatalog.FACE_COUNT; id++) {
+                        boolean expected = CardCatalog.card(id).matchesByRule(topCard, colour, side);
+                        assertEquals(expected, (playable >>> id & 1L) != 0, topCard.toString(side) + " as " + colour + " vs " + CardCatalog.card(id).toString(side));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNoTopCardPlaysAnything() {
+        assertEquals(MatchTable.ALL_FACES, MatchTable.playable(null, null, CardSide.LIGHT));
+        assertEquals(CardCatalog.FACE_COUNT, Long.bitCount(MatchTable.ALL_FACES));
+    }
+
+    @Test
+    void testCustomCardFallsBackToRules() {
+        Card top = new Card(CardColour.BLUE, CardColour.PURPLE, CardType.NUMBER, CardType.NUMBER, 5, 5);
+        Card custom = new Card(CardColour.BLUE, CardColour.PURPLE, CardType.DRAW_ONE, CardType.DRAW_ONE, 10, 10);
+        assertEquals(-1, custom.getId());
+        assertTrue(MatchTable.isPlayable(MatchTable.playable(top, CardColour.BLUE, CardSide.LIGHT), custom, top, CardColour.BLUE, CardSide.LIGHT));
+    }
+
+    @Test
+    void testLegalIndicesKeepsDuplicates() {
+        Card top = new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 5, 5);
+        Card redFive = new Card(CardColour.RED, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 5, 2);
+        Card blueOne = new Card(CardColour.BLUE, CardColour.TEAL, CardType.NUMBER, CardType.NUMBER, 1, 2);
+        java.util.List<Card> hand = java.util.Arrays.asList(blueOne, redFive, blueOne, redFive, redFive);
+
+        IntList legal = MatchTable.legalIndices(hand, top, CardColour.RED, CardSide.LIGHT, new IntList(1));
+        assertArrayEquals(new int[] {1, 3, 4}, legal.toArray());
+
+        MatchTable.legalIndices(hand, top, CardColour.BLUE, CardSide.LIGHT, legal); //reused list is cleared first
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, legal.toArray());
+    }
+}
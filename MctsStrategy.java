@@ -0,0 +1,372 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI that searches before every move with information set Monte Carlo tree search. It only knows what its seat
+ * can see, so each iteration deals the hidden cards at random in a way that fits what it saw, and plays the
+ * round out with the same rules as GameLoop. Each worker thread searches its own SearchTree and the trees are
+ * combined at the end by adding up the visits of each move, so the workers never share anything while searching.
+ * The search stops at a budget of iterations or time per move, and the strategy keeps the per-move latency and
+ * playouts per second so the budget can be tuned to a table's turn limit.
+ * One strategy can be shared by many players and tables, a search keeps all its state on its own threads.
+ * With a TranspositionTable the move picked for a position is kept, and a seat that sees the same position again
+ * plays it without searching.
+ *
+ * @author Aidan Cartier, Joshua Heinze
+ * @version December 5, 2025
+ */
+public class MctsStrategy implements AiStrategy, Serializable {
+    public static final int DEFAULT_ITERATIONS = 2000;
+
+    private final int iterations; //playouts per move, 0 for no limit
+    private final long timeNanos; //time per move, 0 for no limit
+    private final int threads;
+    private final long seed;
+    private final AtomicLong searches = new AtomicLong(0); //numbers each search so its randoms are different
+
+    //stats for tuning the budget
+    private final AtomicLong moves = new AtomicLong(0);
+    private final AtomicLong playouts = new AtomicLong(0);
+    private final AtomicLong searchNanos = new AtomicLong(0);
+    private final AtomicLong lastNanos = new AtomicLong(0);
+    private final AtomicLong maxNanos = new AtomicLong(0);
+
+    private transient volatile ExecutorService workers; //started by the first search on more than one thread
+    private transient volatile TranspositionTable cache; //moves already searched, null to always search
+
+    /**
+     * Constructs a strategy that runs the default number of playouts per move on one thread.
+     */
+    public MctsStrategy() {
+        this(DEFAULT_ITERATIONS, 0, 1, System.nanoTime());
+    }
+
+    /**
+     * Constructs a strategy, the search stops at whichever budget runs out first.
+     *
+     * @param iterations playouts per move across all threads, 0 for no limit
+     * @param timeMillis time per move, 0 for no limit
+     * @param threads threads to search on, 1 searches on the caller's thread
+     * @param seed seed for the deals, with one thread and no time limit the same seed always picks the same moves
+     */
+    public MctsStrategy(int iterations, long timeMillis, int threads, long seed) {
+        if (iterations < 0 || timeMillis < 0 || threads < 1 || (iterations == 0 && timeMillis == 0)) {
+            throw new IllegalArgumentException("Invalid search budget");
+        }
+        this.iterations = iterations;
+        this.timeNanos = timeMillis * 1_000_000;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    @Override
+    public Move chooseMove(GameView view, MoveType expected) {
+        if (expected == MoveType.DRAW) {
+            return Move.draw();
+        }
+        long start = System.nanoTime();
+        long deadline = (timeNanos == 0) ? Long.MAX_VALUE : start + timeNanos;
+        int played = 0;
+
+        Move move = onlyMove(view, expected);
+        if (move == null) { //more than one choice
+            TranspositionTable table = cache;
+            long hash = (table == null) ? 0 : Zobrist.hash(view, expected);
+            if (table != null) { //searched this position before
+                move = toMove(view, expected, table.get(hash));
+            }
+            if (move == null) {
+                long search = searches.getAndIncrement();
+                List<SearchTree> trees = new ArrayList<>(threads);
+                for (int t = 0; t < threads; t++) {
+                    trees.add(new SearchTree(view, new GameRandom(seed + search * 0x9E3779B97F4A7C15L + t)));
+                }
+                search(trees, deadline);
+                int action = bestAction(trees);
+                if (table != null) {
+                    table.put(hash, action);
+                }
+                move = toMove(view, expected, action);
+                for (SearchTree tree : trees) {
+                    played += tree.getIterations();
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        moves.incrementAndGet();
+        playouts.addAndGet(played);
+        searchNanos.addAndGet(elapsed);
+        lastNanos.set(elapsed);
+        maxNanos.accumulateAndGet(elapsed, Math::max);
+        return move;
+    }
+
+    /**
+     * Finds the move when there is only one choice, so it doesn't need a search.
+     *
+     * @param view the game from the AI's seat
+     * @param expected PLAY or COLOUR
+     * @return the move, null if there is more than one
+     */
+    private static Move onlyMove(GameView view, MoveType expected) {
+        if (expected != MoveType.PLAY) {
+            return null;
+        }
+        List<Card> hand = view.getHand();
+        IntList legal = MatchTable.legalIndices(hand, view.getTopDiscard(), view.getActiveColour(), view.getSide(), new IntList());
+        int key = SearchTree.cardKey(hand.get(legal.get(0)));
+        for (int i = 1; i < legal.size(); i++) {
+            if (SearchTree.cardKey(hand.get(legal.get(i))) != key) {
+                return null;
+            }
+        }
+        return Move.play(legal.get(0));
+    }
+
+    /**
+     * Runs the trees until the budget runs out, each on its own thread.
+     *
+     * @param trees one tree per thread
+     * @param deadline time to stop at
+     */
+    private void search(List<SearchTree> trees, long deadline) {
+        if (trees.size() == 1) {
+            run(trees.get(0), iterations, deadline);
+            return;
+        }
+
+        List<Future<?>> running = new ArrayList<>(trees.size());
+        for (int t = 0; t < trees.size(); t++) {
+            SearchTree tree = trees.get(t);
+            int share = (iterations == 0) ? 0 : Math.max(1, iterations / trees.size() + ((t < iterations % trees.size()) ? 1 : 0));
+            running.add(getWorkers().submit(() -> run(tree, share, deadline)));
+        }
+        try {
+            for (Future<?> f : running) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<?> f : running) {
+                f.cancel(true);
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs one tree until its share of the budget runs out.
+     *
+     * @param tree the tree
+     * @param count playouts to run, 0 for no limit
+     * @param deadline time to stop at
+     */
+    private static void run(SearchTree tree, int count, long deadline) {
+        do {
+            tree.iterate();
+        } while ((count == 0 || tree.getIterations() < count) && System.nanoTime() < deadline
+                && !Thread.currentThread().isInterrupted());
+    }
+
+    /**
+     * Adds up the visits of each root move over every tree and picks the most visited.
+     * Ties go to the move first tried by the first tree.
+     *
+     * @param trees the searched trees
+     * @return key of the move
+     */
+    private static int bestAction(List<SearchTree> trees) {
+        Map<Integer, Integer> visits = new LinkedHashMap<>();
+        for (SearchTree tree : trees) {
+            for (SearchTree.Node child : tree.getRoot().getChildren()) {
+                visits.merge(child.getAction(), child.getVisits(), Integer::sum);
+            }
+        }
+        int best = 0;
+        int bestVisits = -1;
+        for (Map.Entry<Integer, Integer> e : visits.entrySet()) {
+            if (e.getValue() > bestVisits) {
+                best = e.getKey();
+                bestVisits = e.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Turns the key of a move into the move, checking it can be made in case two positions hashed the same.
+     *
+     * @param view the game from the AI's seat
+     * @param expected PLAY or COLOUR
+     * @param action key of the move, TranspositionTable.MISSING for none
+     * @return the move, null if the key isn't a move that can be made
+     */
+    private static Move toMove(GameView view, MoveType expected, int action) {
+        if (action == TranspositionTable.MISSING) {
+            return null;
+        }
+        if (action < 0) {
+            CardColour colour = SearchTree.colourFromKey(action);
+            boolean valid = expected == MoveType.COLOUR && colour != CardColour.WILD
+                    && colour.ordinal() < CardColour.WILD.ordinal() == (view.getSide() == CardSide.LIGHT);
+            return valid ? Move.colour(colour) : null;
+        }
+        int index = SearchTree.indexOf(view.getHand(), action);
+        if (expected != MoveType.PLAY || index < 0
+                || !view.getHand().get(index).matches(view.getTopDiscard(), view.getActiveColour(), view.getSide())) {
+            return null;
+        }
+        return Move.play(index);
+    }
+
+    /**
+     * Gets the worker threads, starting them the first time.
+     *
+     * @return the workers
+     */
+    private ExecutorService getWorkers() {
+        ExecutorService pool = workers;
+        if (pool == null) {
+            synchronized (this) {
+                pool = workers;
+                if (pool == null) {
+                    AtomicInteger count = new AtomicInteger(1);
+                    pool = Executors.newFixedThreadPool(threads, r -> {
+                        Thread t = new Thread(r, "mcts-worker-" + count.getAndIncrement());
+                        t.setDaemon(true); //never keeps the program open
+                        return t;
+                    });
+                    workers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Sets the table positions and the moves picked for them are kept in. It can be shared between strategies
+     * with the same budget.
+     *
+     * @param cache the table, null to search every move
+     */
+    public void setCache(TranspositionTable cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the table positions and the moves picked for them are kept in.
+     *
+     * @return the table, null if every move is searched
+     */
+    public TranspositionTable getCache() {
+        return cache;
+    }
+
+    /* *************************************************************** */
+    //Stats
+
+    /**
+     * Gets the number of moves decided.
+     *
+     * @return moves
+     */
+    public long getMoves() {
+        return moves.get();
+    }
+
+    /**
+     * Gets the number of playouts run over every move.
+     *
+     * @return playouts
+     */
+    public long getPlayouts() {
+        return playouts.get();
+    }
+
+    /**
+     * Gets the time the last move took.
+     *
+     * @return milliseconds
+     */
+    public double getLastLatencyMillis() {
+        return lastNanos.get() / 1e6;
+    }
+
+    /**
+     * Gets the average time a move took.
+     *
+     * @return milliseconds, 0 before the first move
+     */
+    public double getAverageLatencyMillis() {
+        long count = moves.get();
+        return (count == 0) ? 0 : searchNanos.get() / 1e6 / count;
+    }
+
+    /**
+     * Gets the longest time a move took.
+     *
+     * @return milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    /**
+     * Gets the playouts run per second of search, over every thread.
+     *
+     * @return playouts per second, 0 before the first move
+     */
+    public double getPlayoutsPerSecond() {
+        long nanos = searchNanos.get();
+        return (nanos == 0) ? 0 : playouts.get() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("moves=%d playouts=%d latency avg=%.2fms max=%.2fms playouts/sec=%.0f",
+                getMoves(), getPlayouts(), getAverageLatencyMillis(), getMaxLatencyMillis(), getPlayoutsPerSecond());
+    }
+
+    /**
+     * Plays games of one search AI against AIs playing the highest card and prints how it does.
+     *
+     * @param args number of games, number of seats, playouts per move, threads, seed and cache size, all optional
+     */
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 20;
+        int seatCount = (args.length > 1) ? Integer.parseInt(args[1]) : 2;
+        int budget = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_ITERATIONS;
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = (args.length > 4) ? Long.parseLong(args[4]) : System.nanoTime();
+        int cacheSize = (args.length > 5) ? Integer.parseInt(args[5]) : 0;
+
+        MctsStrategy strategy = new MctsStrategy(budget, 0, threads, seed);
+        if (cacheSize > 0) {
+            strategy.setCache(new TranspositionTable(cacheSize));
+        }
+        List<Supplier<AiPlayer>> seats = new ArrayList<>();
+        seats.add(() -> new AiPlayer("MCTS", strategy));
+        for (int i = 1; i < seatCount; i++) {
+            String name = "AI " + (i + 1);
+            seats.add(() -> new AiPlayer(name));
+        }
+
+        System.out.print(new Simulator(seats, 1).run(games, seed)); //games one at a time, the search uses the cores
+        System.out.println(strategy);
+        if (strategy.getCache() != null) {
+            System.out.println(strategy.getCache());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class MctsStrategyTest {
+    private GameEngine engine;
+    private GameLoop loop;
+    private GameView view;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3")), 17L);
+        loop = new GameLoop(engine);
+        view = new EngineView(engine);
+    }
+
+    /**
+     * Steps the game until the current player has a choice of cards to play.
+     */
+    private void stepToChoice() {
+        while (true) {
+            if (loop.getExpectedMove() == MoveType.PLAY) {
+                IntList legal = MatchTable.legalIndices(view.getHand(), view.getTopDiscard(), view.getActiveColour(),
+                        view.getSide(), new IntList());
+                if (legal.size() > 1) {
+                    return;
+                }
+            }
+            assertTrue(loop.step());
+        }
+    }
+
+    @Test
+    void testPlaysLegalCard() {
+        stepToChoice();
+        List<Card> before = new ArrayList<>(view.getHand());
+        int deckSize = view.getDeckSize();
+        MctsStrategy strategy = new MctsStrategy(200, 0, 1, 5L);
+
+        Move move = strategy.chooseMove(view, MoveType.PLAY);
+        assertEquals(MoveType.PLAY, move.getType());
+        assertTrue(engine.checkValidMove(view.getHand().get(move.getIndex())));
+        assertEquals(before, view.getHand(), "Searching doesn't touch the real game.");
+        assertEquals(deckSize, view.getDeckSize());
+        assertEquals(1, strategy.getMoves());
+        assertEquals(200, strategy.getPlayouts());
+        assertTrue(strategy.getPlayoutsPerSecond() > 0);
+        assertTrue(strategy.getMaxLatencyMillis() >= strategy.getLastLatencyMillis());
+    }
+
+    @Test
+    void testSameSeedSameMoves() {
+        stepToChoice();
+        MctsStrategy first = new MctsStrategy(150, 0, 1, 9L);
+        MctsStrategy second = new MctsStrategy(150, 0, 1, 9L);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first.chooseMove(view, MoveType.PLAY), second.chooseMove(view, MoveType.PLAY));
+        }
+    }
+
+    @Test
+    void testChoosesValidColour() {
+        engine.startRound();
+        engine.getDiscardPile().push(new Card(CardColour.WILD, CardColour.WILD, CardType.WILD, CardType.WILD, 40, 40));
+        engine.setFlags(4); //waiting for a colour
+        Move move = new MctsStrategy(100, 0, 1, 2L).chooseMove(view, MoveType.COLOUR);
+        assertEquals(MoveType.COLOUR, move.getType());
+        assertTrue(engine.isValidWildColour(move.getColour()));
+    }
+
+    @Test
+    void testParallelSearch() {
+        stepToChoice();
+        MctsStrategy strategy = new MctsStrategy(301, 0, 3, 4L);
+        Move move = strategy.chooseMove(view, MoveType.PLAY);
+        assertTrue(engine.checkValidMove(view.getHand().get(move.getIndex())));
+        assertEquals(301, strategy.getPlayouts(), "Budget is split between the threads.");
+    }
+
+    @Test
+    void testTimeBudget() {
+        stepToChoice();
+        MctsStrategy strategy = new MctsStrategy(0, 30, 2, 4L);
+        strategy.chooseMove(view, MoveType.PLAY);
+        assertTrue(strategy.getLastLatencyMillis() >= 30);
+        assertTrue(strategy.getLastLatencyMillis() < 2000);
+        assertTrue(strategy.getPlayouts() > 0);
+    }
+
+    @Test
+    void testNoSearchForDraw() {
+        MctsStrategy strategy = new MctsStrategy(100, 0, 1, 1L);
+        assertEquals(Move.draw(), strategy.chooseMove(view, MoveType.DRAW));
+        assertEquals(0, strategy.getMoves());
+    }
+
+    @Test
+    void testRejectsNoBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(0, 0, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(10, 0, 0, 1L));
+    }
+
+    @Test
+    void testPlaysWholeGame() {
+        MctsStrategy strategy = new MctsStrategy(40, 0, 1, 3L);
+        GameEngine game = new GameEngine(Arrays.asList(new AiPlayer("MCTS", strategy), new AiPlayer("AI 2")), 12L);
+        GameLoop gameLoop = new GameLoop(game);
+        gameLoop.runGame();
+        assertTrue(game.isGameOver());
+        assertTrue(strategy.getMoves() > 0);
+    }
+
+    @Test
+    void testPlayersMovesKeptApart() {
+        GameEngine game = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2")), 17L);
+        engine = game;
+        loop = new GameLoop(game);
+        view = new EngineView(game);
+        stepToChoice();
+        SearchTree tree = new SearchTree(view, new GameRandom(17L));
+        for (int i = 0; i < 3000; i++) {
+            tree.iterate();
+        }
+
+        boolean shared = false; //some node has the same move tried by both players
+        Deque<SearchTree.Node> nodes = new ArrayDeque<>();
+        nodes.push(tree.getRoot());
+        while (!nodes.isEmpty()) {
+            SearchTree.Node node = nodes.pop();
+            Set<Long> keys = new HashSet<>();
+            Set<Integer> actions = new HashSet<>();
+            for (SearchTree.Node child : node.getChildren()) {
+                assertTrue(keys.add(((long) child.getPlayer() << 32) | (child.getAction() & 0xFFFFFFFFL)),
+                        "A player's move has one node.");
+                if (!actions.add(child.getAction())) {
+                    shared = true;
+                }
+                nodes.push(child);
+            }
+        }
+        assertTrue(shared, "Both players' moves are kept under a node reached by different deals.");
+    }
+
+    @Test
+    void testCachedPositionNotSearchedAgain() {
+        stepToChoice();
+        MctsStrategy strategy = new MctsStrategy(100, 0, 1, 6L);
+        TranspositionTable cache = new TranspositionTable(64);
+        strategy.setCache(cache);
+
+        Move first = strategy.chooseMove(view, MoveType.PLAY);
+        assertEquals(100, strategy.getPlayouts());
+        assertEquals(1, cache.getMisses());
+        Move second = strategy.chooseMove(view, MoveType.PLAY);
+        assertEquals(first, second);
+        assertEquals(100, strategy.getPlayouts(), "Answered from the cache.");
+        assertEquals(1, cache.getHits());
+
+        loop.step(); //position changes
+        stepToChoice();
+        strategy.chooseMove(view, MoveType.PLAY);
+        assertEquals(2, cache.getMisses());
+    }
+}
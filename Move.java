@@ -0,0 +1,114 @@
+import java.io.Serializable;
+
+/**
+ * One decision a player made: the hand index of the card played, the colour chosen for a wild card,
+ * or drawing a card. Everything else in a game follows from these and the seed, so a MoveLog of them
+ * is enough to play the game again.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public final class Move implements Serializable {
+    private static final Move DRAW = new Move(MoveType.DRAW, -1, null);
+
+    private final MoveType type;
+    private final int index;
+    private final CardColour colour;
+
+    private Move(MoveType type, int index, CardColour colour) {
+        this.type = type;
+        this.index = index;
+        this.colour = colour;
+    }
+
+    /**
+     * Gets the move for playing a card.
+     *
+     * @param index index of the card in the hand
+     * @return the move
+     */
+    public static Move play(int index) {
+        return new Move(MoveType.PLAY, index, null);
+    }
+
+    /**
+     * Gets the move for choosing the colour of a wild card.
+     *
+     * @param colour colour chosen
+     * @return the move
+     */
+    public static Move colour(CardColour colour) {
+        return new Move(MoveType.COLOUR, -1, colour);
+    }
+
+    /**
+     * Gets the move for drawing a card.
+     *
+     * @return the move
+     */
+    public static Move draw() {
+        return DRAW;
+    }
+
+    /**
+     * Gets the kind of decision.
+     *
+     * @return move type
+     */
+    public MoveType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the hand index of the card played.
+     *
+     * @return the index, -1 if not a PLAY move
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the colour chosen for a wild card.
+     *
+     * @return the colour, null if not a COLOUR move
+     */
+    public CardColour getColour() {
+        return colour;
+    }
+
+    /**
+     * Keeps a single DRAW move after deserializing.
+     *
+     * @return the shared DRAW move, or this move
+     */
+    private Object readResolve() {
+        return (type == MoveType.DRAW) ? DRAW : this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Move)) {
+            return false;
+        }
+        Move other = (Move) obj;
+        return type == other.type && index == other.index && colour == other.colour;
+    }
+
+    @Override
+    public int hashCode() {
+        return (type.ordinal() * 31 + index) * 31 + ((colour == null) ? 0 : colour.ordinal() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case PLAY -> "PLAY " + index;
+            case COLOUR -> "COLOUR " + colour;
+            case DRAW -> "DRAW";
+        };
+    }
+}
@@ -0,0 +1,57 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Every decision made in a game in order, recorded by the GameEngine it is set on.
+ * With the seed and seating of the game it is all GameReplay needs to play the game again.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public class MoveLog implements Serializable {
+    private final List<Move> moves = new ArrayList<>();
+
+    /**
+     * Adds a move made.
+     *
+     * @param move the move
+     */
+    public void record(Move move) {
+        moves.add(move);
+    }
+
+    /**
+     * Gets a move.
+     *
+     * @param index position of the move, 0 for the first
+     * @return the move
+     */
+    public Move get(int index) {
+        return moves.get(index);
+    }
+
+    /**
+     * Gets the number of moves recorded.
+     *
+     * @return number of moves
+     */
+    public int size() {
+        return moves.size();
+    }
+
+    /**
+     * Gets every move recorded.
+     *
+     * @return read only list of the moves
+     */
+    public List<Move> getMoves() {
+        return Collections.unmodifiableList(moves);
+    }
+
+    @Override
+    public String toString() {
+        return moves.toString();
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Enum for the outcome of a move made through the rules engine.
+ * Tells whoever is driving the game (the GUI or a headless loop) what has to happen next.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public enum MoveResult {
+    INVALID,
+    CHOOSE_COLOUR,
+    NEXT_TURN,
+    DRAW_COLOUR,
+    ROUND_OVER
+}
@@ -0,0 +1,11 @@
+/**
+ * Enum for the decisions a player makes, see Move.
+ *
+ * @author Aidan Cartier
+ * @version December 5, 2025
+ */
+public enum MoveType {
+    PLAY,
+    COLOUR,
+    DRAW
+}
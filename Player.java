@@ -1,6 +1,4 @@
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * This class represents a player in the UNO game.
@@ -11,8 +9,10 @@ import java.util.List;
  * @version December 5, 2025
  */
 public class Player implements Serializable {
+    private static final int HAND_CAPACITY = 16; //room before the hand has to grow
+
     private final String name;
-    private final List<Card> hand;
+    private final Hand hand;
     private int score;
 
 
@@ -23,22 +23,47 @@ public class Player implements Serializable {
      */
     public Player(String name){
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand(HAND_CAPACITY);
         this.score = 0;
 
     }
 
     /**
-     * Returns a deep copy of player to be used in a snapshot.
+     * Copies another player, the hand is shared until either player changes it.
+     *
+     * @param other player to copy
+     */
+    protected Player(Player other){
+        this.name = other.name;
+        this.hand = new Hand(other.hand); //cards are immutable so the array and counts can be shared
+        this.score = other.score;
+    }
+
+    /**
+     * Returns a copy of player to be used in a snapshot.
      * @return the copied player
      */
     public Player deepCopy(){
-        Player copy = new Player(this.name);
-        copy.score = this.score;
-        for (Card card : this.hand) { //copy over hand
-            copy.hand.add(card.deepCopy());
-        }
-        return copy;
+        return new Player(this);
+    }
+
+    /**
+     * Sets the hand and score to those of a copy of this player, used to undo changes.
+     *
+     * @param other copy of this player
+     */
+    void restore(Player other){
+        hand.replaceWith(other.hand);
+        score = other.score;
+    }
+
+    /**
+     * Estimates the memory the hand holds on to.
+     *
+     * @return estimated bytes
+     */
+    long estimatedBytes(){
+        return hand.estimatedBytes();
     }
 
     /**
@@ -62,6 +87,17 @@ public class Player implements Serializable {
         }
     }
 
+    /**
+     * Draw a number of cards from the given deck and add them to players hand.
+     *
+     * @param deck the deck to draw from
+     * @param count number of cards to draw
+     * @return number of cards drawn, less than count if the deck ran out
+     */
+    public int drawCards(Deck deck, int count) {
+        return deck.drawCards(count, hand);
+    }
+
     /**
      * Lets you add Card to player hand manually.
      *
@@ -89,15 +125,6 @@ public class Player implements Serializable {
         return null; //The index is invalid
     }
 
-    /**
-     * Flips the side of cards in players hand.
-     */
-    public void flipHand() {
-        for (Card card : hand) {
-            card.flipCard();
-        }
-    }
-
     /**
      * Clears all the cards in the players hand.
      */
@@ -134,36 +161,51 @@ public class Player implements Serializable {
      *
      * @return the players hand
      */
-    public List<Card> gethand() {
+    public Hand gethand() {
         return hand;
     }
 
     /**
-     * Calculates and returns the point value of the players hand.
+     * Calculates and returns the point value of the players hand, light side up.
      *
      * @return the point value fo the players hand
      */
     public int gethandValue() {
-        int value = 0;
-        for (Card i : hand) {
-            value += i.getValue();
-        }
-        return value;
+        return gethandValue(CardSide.LIGHT);
     }
 
     /**
-     * Checks if the player has any playable card against topCard.
+     * Returns the point value of the players hand on a side, kept up to date by the hand.
+     *
+     * @param side side facing up
+     * @return the point value fo the players hand
+     */
+    public int gethandValue(CardSide side) {
+        return hand.getPoints(side);
+    }
+
+    /**
+     * Checks if the player has any playable card against topCard, light side up.
      *
      * @param topCard the top card on the discard pile
      * @return true if there is at least one playable card
      */
     public boolean hasPlayableCard(Card topCard){
-        for (Card c: hand){
-            if (c.matches(topCard)){
-                return true;
-            }
-        }
-        return false;
+        return hasPlayableCard(topCard, (topCard == null) ? null : topCard.getColour(), CardSide.LIGHT);
+    }
+
+    /**
+     * Checks if the player has any playable card against topCard showing a colour,
+     * used when a colour was chosen for a wild card.
+     *
+     * @param topCard the top card on the discard pile
+     * @param topColour the colour in play on the top card
+     * @param side side facing up
+     * @return true if there is at least one playable card
+     */
+    public boolean hasPlayableCard(Card topCard, CardColour topColour, CardSide side){
+        long playable = MatchTable.playable(topCard, topColour, side); //every face that can be played
+        return hand.hasPlayable(playable, topCard, topColour, side); //checked against the faces the hand holds
     }
 
     /**
@@ -0,0 +1,381 @@
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Client side of the remote table protocol, the table as one player or spectator sees it.
+ * Built from a full state sent by a TableSync and kept up to date by applying its numbered deltas,
+ * each in time proportional to what changed. A delta that skips a sequence number isn't applied,
+ * the client asks for a full state instead. As a GameView it lets an AiStrategy play from the client.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public class RemoteTable implements GameView {
+    private static final CardSide[] SIDES = CardSide.values();
+
+    private int seat = -1; //seat of the viewer, -1 for a spectator
+    private int sequence = -1; //sequence number of the last message applied, -1 before the first full state
+    private int currentPlayer;
+    private int direction;
+    private CardSide side;
+    private int flags;
+    private int roundCounter;
+    private int gameCounter;
+    private int deckSize;
+    private int discardSize;
+    private Card topDiscard;
+    private String[] names = new String[0];
+    private int[] scores = new int[0];
+    private int[] handSizes = new int[0];
+    private final Hand hand = new Hand(16); //cards of the viewer, counted so the AI can pick colours
+
+    /**
+     * Applies a message from the server.
+     *
+     * @param message a full state or delta from TableSync
+     * @return false if a delta was missed and a full state is needed
+     * @throws IOException if the message is malformed
+     */
+    public boolean apply(byte[] message) throws IOException {
+        GameCodec in = new GameCodec(message, 0);
+        int kind = in.readVarint();
+        int number = in.readVarint();
+        if (kind == TableSync.FULL) {
+            readFullState(in);
+            sequence = number;
+            return true;
+        }
+        if (kind != TableSync.DELTA) {
+            throw new IOException("Unknown message kind: " + kind);
+        }
+
+        if (sequence < 0 || number > sequence + 1) {
+            return false; //missed an update
+        }
+        if (number <= sequence) {
+            return true; //already applied
+        }
+        int count = in.readVarint();
+        for (int i = 0; i < count; i++) {
+            readEvent(in);
+        }
+        sequence = number;
+        return true;
+    }
+
+    /**
+     * Replaces the table with a full state.
+     *
+     * @param in reader positioned after the sequence number
+     * @throws IOException if the message is malformed
+     */
+    private void readFullState(GameCodec in) throws IOException {
+        seat = in.readVarint() - 1;
+        currentPlayer = in.readVarint();
+        direction = (in.readVarint() == 0) ? 1 : -1;
+        side = side(in.readVarint());
+        flags = flags(in.readVarint());
+        roundCounter = in.readVarint();
+        gameCounter = in.readVarint();
+        deckSize = in.readVarint();
+        discardSize = in.readVarint();
+        topDiscard = (in.readVarint() == 0) ? null : in.readCard();
+
+        int players = in.readVarint();
+        if (players < 1 || players > GameEngine.MAX_PLAYERS || seat < -1 || seat >= players) {
+            throw new IOException("Invalid players: seat " + seat + " of " + players);
+        }
+        names = new String[players];
+        scores = new int[players];
+        handSizes = new int[players];
+        hand.clear();
+        for (int i = 0; i < players; i++) {
+            names[i] = in.readString();
+            scores[i] = in.readVarint();
+            handSizes[i] = count(in.readVarint());
+            if (i == seat) {
+                for (int c = 0; c < handSizes[i]; c++) {
+                    hand.add(in.readCard());
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies one event of a delta.
+     *
+     * @param in reader positioned at the event
+     * @throws IOException if the event is malformed
+     */
+    private void readEvent(GameCodec in) throws IOException {
+        int type = in.readVarint();
+        switch (type) {
+            case TableSync.DRAW -> {
+                int player = player(in.readVarint());
+                int count = count(in.readVarint());
+                handSizes[player] += count;
+                deckSize -= count;
+                if (player == seat) {
+                    for (int i = 0; i < count; i++) {
+                        hand.add(in.readCard());
+                    }
+                }
+            }
+            case TableSync.PLAY -> {
+                int player = player(in.readVarint());
+                int index = in.readVarint();
+                if (player == seat && (index < 0 || index >= hand.size())) {
+                    throw new IOException("Invalid hand index: " + index);
+                }
+                topDiscard = in.readCard();
+                handSizes[player]--;
+                discardSize++;
+                if (player == seat) {
+                    hand.remove(index);
+                }
+            }
+            case TableSync.FLIP -> side = (side == CardSide.LIGHT) ? CardSide.DARK : CardSide.LIGHT;
+            case TableSync.REVERSE -> direction = -direction;
+            case TableSync.TURN -> currentPlayer = player(in.readVarint());
+            case TableSync.FLAGS -> flags = flags(in.readVarint());
+            case TableSync.SCORE -> {
+                int player = player(in.readVarint());
+                scores[player] = in.readVarint();
+            }
+            case TableSync.ROUND -> roundCounter++;
+            default -> throw new IOException("Unknown event type: " + type);
+        }
+    }
+
+    /**
+     * Checks a player index read from a message.
+     *
+     * @param index the index
+     * @return the index
+     * @throws IOException if there is no such player
+     */
+    private int player(int index) throws IOException {
+        if (index < 0 || index >= names.length) {
+            throw new IOException("Invalid player index: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Checks a side read from a message.
+     *
+     * @param ordinal ordinal of the side
+     * @return the side
+     * @throws IOException if there is no such side
+     */
+    private CardSide side(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= SIDES.length) {
+            throw new IOException("Invalid side: " + ordinal);
+        }
+        return SIDES[ordinal];
+    }
+
+    /**
+     * Checks a number of cards read from a message.
+     *
+     * @param count the number
+     * @return the number
+     * @throws IOException if it is negative or more than a deck
+     */
+    private int count(int count) throws IOException {
+        if (count < 0 || count > CardCatalog.DECK_SIZE) {
+            throw new IOException("Invalid card count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Checks flags read from a message.
+     *
+     * @param value the flags
+     * @return the flags
+     * @throws IOException if GameEngine.flags() can't have made them
+     */
+    private int flags(int value) throws IOException {
+        if (!GameEngine.isValidFlags(value)) {
+            throw new IOException("Invalid flags: " + value);
+        }
+        return value;
+    }
+
+    /* *************************************************************** */
+    //Getters
+
+    /**
+     * Gets the sequence number of the last message applied.
+     *
+     * @return sequence number, -1 before the first full state
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the seat of the viewer.
+     *
+     * @return seat index, -1 for a spectator
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return index of the current player
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the direction of play.
+     *
+     * @return 1 or -1
+     */
+    @Override
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Gets the side facing up.
+     *
+     * @return the side
+     */
+    @Override
+    public CardSide getSide() {
+        return side;
+    }
+
+    /**
+     * Gets the colour in play, the chosen colour if a wild card is on top of the discard pile.
+     *
+     * @return the active colour, null before the first card is turned over
+     */
+    @Override
+    public CardColour getActiveColour() {
+        CardColour wild = GameEngine.colourFromCode((flags >>> 7) & 0xF);
+        if (wild != null) {
+            return wild;
+        }
+        return (topDiscard == null) ? null : topDiscard.getColour(side);
+    }
+
+    /**
+     * Gets the number of rounds played.
+     *
+     * @return round counter
+     */
+    public int getRoundCounter() {
+        return roundCounter;
+    }
+
+    /**
+     * Gets the number of the game being played.
+     *
+     * @return game counter
+     */
+    public int getGameCounter() {
+        return gameCounter;
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return deck size
+     */
+    @Override
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards on the discard pile.
+     *
+     * @return discard pile size
+     */
+    public int getDiscardSize() {
+        return discardSize;
+    }
+
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return the card, null before the first card is turned over
+     */
+    @Override
+    public Card getTopDiscard() {
+        return topDiscard;
+    }
+
+    /**
+     * Gets the number of players at the table.
+     *
+     * @return number of players
+     */
+    @Override
+    public int getPlayerCount() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name of a player.
+     *
+     * @param player player index
+     * @return the name
+     */
+    public String getName(int player) {
+        return names[player];
+    }
+
+    /**
+     * Gets the score of a player.
+     *
+     * @param player player index
+     * @return the score
+     */
+    @Override
+    public int getScore(int player) {
+        return scores[player];
+    }
+
+    /**
+     * Gets the number of cards a player holds.
+     *
+     * @param player player index
+     * @return hand size
+     */
+    @Override
+    public int getHandSize(int player) {
+        return handSizes[player];
+    }
+
+    /**
+     * Gets the number of the viewer's cards showing a colour on the side facing up.
+     *
+     * @param colour the colour
+     * @return number of cards, 0 for a spectator
+     */
+    @Override
+    public int getColourCount(CardColour colour) {
+        return (side == null) ? 0 : hand.getColourCount(side, colour);
+    }
+
+    /**
+     * Gets the cards of the viewer.
+     *
+     * @return read only list of the viewer's cards, empty for a spectator
+     */
+    @Override
+    public List<Card> getHand() {
+        return Collections.unmodifiableList(hand);
+    }
+}
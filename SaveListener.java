@@ -0,0 +1,18 @@
+import java.io.IOException;
+
+/**
+ * Interface for listener for saves finishing on the SaveService writer thread.
+ * Called on the thread the SaveService was given for callbacks, the Swing event thread for the GUI.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public interface SaveListener {
+    /**
+     * Called once a save is written or has failed.
+     *
+     * @param filename name of the save in the saves folder
+     * @param error why the save failed, null if it was written
+     */
+    void saveFinished(String filename, IOException error);
+}
@@ -0,0 +1,168 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves games on a background thread so the GUI never waits on the disk.
+ * The game is encoded with GameCodec on the caller's thread, which takes microseconds and gives an immutable
+ * copy, then a single writer thread writes it to a temp file and renames it over the save, so a crash part way
+ * through leaves the old save. Saves are written in the order they were asked for.
+ * Can also autosave every few turns.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public class SaveService {
+    public static final String AUTOSAVE_NAME = "autosave";
+
+    private final Path directory;
+    private final Executor callbacks; //thread listeners are called on
+    private final ExecutorService writer;
+    private final int autosaveTurns; //0 for no autosave
+    private int turnsSinceAutosave = 0;
+
+    /**
+     * Constructs a save service.
+     *
+     * @param directory folder saves are written to, created if missing
+     * @param autosaveTurns turns between autosaves, 0 to never autosave
+     * @param callbacks runs listener callbacks, SwingUtilities::invokeLater for the GUI
+     */
+    public SaveService(Path directory, int autosaveTurns, Executor callbacks) {
+        if (autosaveTurns < 0) {
+            throw new IllegalArgumentException("Turns between autosaves can't be negative: " + autosaveTurns);
+        }
+        this.directory = directory;
+        this.autosaveTurns = autosaveTurns;
+        this.callbacks = callbacks;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "save-writer");
+            t.setDaemon(true); //never keeps the game open
+            return t;
+        });
+    }
+
+    /**
+     * Saves a game in the background.
+     *
+     * @param filename name of the save in the folder
+     * @param engine the game, copied before this returns so it can keep changing
+     * @param state state to continue from
+     * @param listener told when the save is written or failed, may be null
+     * @return future that completes once the save is written
+     */
+    public Future<?> save(String filename, GameEngine engine, GameState state, SaveListener listener) {
+        byte[] data = GameCodec.encode(engine, state); //immutable copy taken on this thread
+        Path target = directory.resolve(filename);
+
+        return writer.submit(() -> {
+            IOException error = null;
+            try {
+                writeAtomically(target, data);
+            } catch (IOException e) {
+                error = e;
+            }
+            if (listener != null) {
+                IOException result = error;
+                callbacks.execute(() -> listener.saveFinished(filename, result));
+            }
+        });
+    }
+
+    /**
+     * Counts a turn and autosaves once enough turns have been taken.
+     *
+     * @param engine the game
+     * @param state state to continue from
+     * @param listener told when the autosave is written or failed, may be null
+     * @return true if an autosave was started
+     */
+    public boolean turnTaken(GameEngine engine, GameState state, SaveListener listener) {
+        if (autosaveTurns == 0 || ++turnsSinceAutosave < autosaveTurns) {
+            return false;
+        }
+        turnsSinceAutosave = 0;
+        save(AUTOSAVE_NAME, engine, state, listener);
+        return true;
+    }
+
+    /**
+     * Loads a save from the folder. Waits for any save already queued so the newest version is read.
+     *
+     * @param filename name of the save in the folder
+     * @return snapshot of the game and the state it continues from
+     * @throws IOException if the save can't be read or isn't a saved game
+     */
+    public Snapshot load(String filename) throws IOException {
+        flush();
+        return GameCodec.decode(Files.readAllBytes(directory.resolve(filename)));
+    }
+
+    /**
+     * Waits for every save already queued to be written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); //an empty task can't fail
+        }
+    }
+
+    /**
+     * Writes the queued saves then stops the writer thread.
+     *
+     * @param timeoutMillis longest time to wait for the saves
+     * @return true if every save was written in time
+     */
+    public boolean shutdown(long timeoutMillis) {
+        writer.shutdown();
+        try {
+            return writer.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Writes bytes to a temp file next to the target, forces them to disk, then renames it over the target.
+     *
+     * @param target file to replace
+     * @param data bytes to write
+     * @throws IOException if the file can't be written
+     */
+    private void writeAtomically(Path target, byte[] data) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true); //on disk before the rename makes it the save
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp); //only left if the write failed
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+public class SaveServiceTest {
+    private Path dir;
+    private SaveService saves;
+    private GameEngine engine;
+    private final List<String> finished = new ArrayList<>();
+    private final List<IOException> errors = new ArrayList<>();
+    private final SaveListener listener = (filename, error) -> {
+        finished.add(filename);
+        errors.add(error);
+    };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("saves");
+        saves = new SaveService(dir, 3, Runnable::run);
+        engine = new GameEngine(Arrays.asList(new Player("Alice"), new AiPlayer("AI 1")), 5L);
+        engine.startRound();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        saves.shutdown(1000);
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path p : files.toList()) {
+                Files.delete(p);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    void testSaveAndLoad() throws Exception {
+        saves.save("game1", engine, GameState.HANDLE_INITIAL_HAND, listener).get();
+        assertEquals(List.of("game1"), finished);
+        assertNull(errors.get(0));
+
+        Snapshot snap = saves.load("game1");
+        GameEngine loaded = snap.getGameManagerCopy().getEngine();
+        assertEquals(GameState.HANDLE_INITIAL_HAND, snap.getGameState());
+        assertEquals(engine.getPlayers().get(0).gethand(), loaded.getPlayers().get(0).gethand());
+        assertEquals(engine.getDeck().getCards(), loaded.getDeck().getCards());
+    }
+
+    @Test
+    void testSaveCopiesGameBeforeReturning() throws Exception {
+        List<Card> hand = new ArrayList<>(engine.getPlayers().get(0).gethand());
+        saves.save("game1", engine, GameState.HANDLE_INITIAL_HAND, null);
+        engine.getPlayers().get(0).clearHand(); //changed while the save may still be writing
+
+        assertEquals(hand, saves.load("game1").getGameManagerCopy().getEngine().getPlayers().get(0).gethand());
+    }
+
+    @Test
+    void testNoTempFilesLeft() throws IOException {
+        saves.save("game1", engine, GameState.NEW_ROUND, null);
+        saves.save("game1", engine, GameState.HANDLE_AFTER_DRAW, null); //replaces the first
+        saves.flush();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(dir.resolve("game1")), files.toList());
+        }
+        assertEquals(GameState.HANDLE_AFTER_DRAW, saves.load("game1").getGameState());
+    }
+
+    @Test
+    void testAutosaveEveryFewTurns() {
+        assertFalse(saves.turnTaken(engine, GameState.HANDLE_INITIAL_HAND, listener));
+        assertFalse(saves.turnTaken(engine, GameState.HANDLE_INITIAL_HAND, listener));
+        assertTrue(saves.turnTaken(engine, GameState.HANDLE_INITIAL_HAND, listener));
+        assertFalse(saves.turnTaken(engine, GameState.HANDLE_INITIAL_HAND, listener));
+        saves.flush();
+
+        assertEquals(List.of(SaveService.AUTOSAVE_NAME), finished);
+        assertTrue(Files.exists(dir.resolve(SaveService.AUTOSAVE_NAME)));
+    }
+
+    @Test
+    void testFailedSaveReported() throws IOException {
+        Files.createDirectory(dir.resolve("taken")); //a folder can't be replaced by a save
+        saves.save("taken", engine, GameState.NEW_ROUND, listener);
+        saves.flush();
+
+        assertEquals(List.of("taken"), finished);
+        assertNotNull(errors.get(0));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(dir.resolve("taken")), files.toList(), "Temp file should be removed.");
+        }
+    }
+}
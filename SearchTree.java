@@ -0,0 +1,474 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One worker's tree for MctsStrategy, information set Monte Carlo tree search from one seat.
+ * Every iteration deals the cards the seat can't see at random, consistent with what it can see: its own hand,
+ * the top discard, the side, and how many cards each player, the deck and the discard pile hold. The iteration
+ * then walks the tree using only moves legal in that deal, adds one node, plays the round out with random moves
+ * and counts the win for whoever made each move on the way back up.
+ * Moves are keyed by card face rather than hand position so every deal shares the same nodes.
+ * A tree is only used by one thread, so its scratch lists are reused between iterations.
+ *
+ * @author Aidan Cartier, Joshua Heinze
+ * @version December 5, 2025
+ */
+class SearchTree {
+    private static final double EXPLORATION = 0.7; //UCB constant, rewards are 0 to 1
+    private static final int MAX_STEPS = 2000; //forced draws and turns before a playout counts as stalled
+    private static final int MAX_DECISIONS = 400; //moves before a playout is scored by hand sizes
+    private static final CardColour[] COLOURS = CardColour.values();
+
+    //what advance() stopped at
+    private static final int OVER = 0;
+    private static final int PLAY = 1;
+    private static final int COLOUR = 2;
+
+    private final GameView view;
+    private final int seat;
+    private final GameRandom random;
+    private final Node root = new Node(null, 0, -1);
+    private final int[] unseen; //face ids of every card the seat can't see
+    private final IntList legal = new IntList(); //scratch for moves legal in a deal
+    private final IntList untried = new IntList(); //scratch for legal moves with no node yet
+    private boolean drew; //true if the current player drew and may only play or pass
+    private int iterations = 0;
+
+    /**
+     * Node of the tree, reached by one move from its parent.
+     */
+    static class Node {
+        private final Node parent;
+        private final int action; //key of the move from the parent
+        private final int player; //player who made the move
+        private final List<Node> children = new ArrayList<>(4);
+        private int visits = 0;
+        private int available = 0; //times the move was legal when the parent was visited
+        private double reward = 0; //wins for the player who made the move
+
+        Node(Node parent, int action, int player) {
+            this.parent = parent;
+            this.action = action;
+            this.player = player;
+        }
+
+        /**
+         * Finds the child reached by a player's move. Who decides at a node depends on the deal, e.g. the next
+         * player can play in one deal but has to draw and pass in another, so each player's moves get their own
+         * children even when they play the same face.
+         *
+         * @param player player making the move
+         * @param action key of the move
+         * @return the child, null if the player never tried the move here
+         */
+        Node child(int player, int action) {
+            for (Node c : children) {
+                if (c.player == player && c.action == action) {
+                    return c;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Scores the node for selection, upper confidence bound over the times its move was available.
+         *
+         * @return the score
+         */
+        double ucb() {
+            return reward / visits + EXPLORATION * Math.sqrt(Math.log(available) / visits);
+        }
+
+        int getAction() {
+            return action;
+        }
+
+        int getPlayer() {
+            return player;
+        }
+
+        int getVisits() {
+            return visits;
+        }
+
+        List<Node> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Creates a tree for the decision a seat is facing.
+     *
+     * @param view the game from the seat, only read while the tree is built
+     * @param random random for the deals and playouts, only used by this tree
+     */
+    SearchTree(GameView view, GameRandom random) {
+        this.view = view;
+        this.seat = view.getCurrentPlayerIndex();
+        this.random = random;
+
+        //every card of the deck the seat can't see
+        int[] counts = new int[CardCatalog.FACE_COUNT];
+        for (int id : CardCatalog.standardDeck()) {
+            counts[id]++;
+        }
+        for (Card c : view.getHand()) {
+            if (c.getId() >= 0 && counts[c.getId()] > 0) {
+                counts[c.getId()]--;
+            }
+        }
+        Card top = view.getTopDiscard();
+        if (top != null && top.getId() >= 0 && counts[top.getId()] > 0) {
+            counts[top.getId()]--;
+        }
+        IntList cards = new IntList(CardCatalog.DECK_SIZE);
+        for (int id = 0; id < counts.length; id++) {
+            for (int n = 0; n < counts[id]; n++) {
+                cards.add(id);
+            }
+        }
+        this.unseen = cards.toArray();
+    }
+
+    /* *************************************************************** */
+    //Search
+
+    /**
+     * Runs one iteration: deal, select, expand, play out and back up.
+     */
+    void iterate() {
+        GameEngine engine = deal();
+        drew = false;
+        Node node = root;
+        int decision = advance(engine);
+        int decisions = 0;
+
+        while (decision != OVER && decisions < MAX_DECISIONS) { //select down the tree
+            int player = engine.getCurrentPlayerIndex();
+            legalMoves(engine, decision, legal);
+            untried.clear();
+            for (int i = 0; i < legal.size(); i++) {
+                Node child = node.child(player, legal.get(i));
+                if (child == null) {
+                    untried.add(legal.get(i));
+                } else {
+                    child.available++;
+                }
+            }
+
+            Node next;
+            if (!untried.isEmpty()) { //expand one new move and stop selecting
+                int action = untried.get(random.nextInt(untried.size()));
+                next = new Node(node, action, player);
+                next.available++;
+                node.children.add(next);
+            } else {
+                next = null;
+                for (int i = 0; i < legal.size(); i++) {
+                    Node child = node.child(player, legal.get(i));
+                    if (next == null || child.ucb() > next.ucb()) {
+                        next = child;
+                    }
+                }
+            }
+            apply(engine, next.action);
+            decision = advance(engine);
+            decisions++;
+            node = next;
+            if (node.visits == 0) {
+                break;
+            }
+        }
+
+        while (decision != OVER && decisions < MAX_DECISIONS) { //play out the rest of the round at random
+            apply(engine, randomMove(engine, decision));
+            decision = advance(engine);
+            decisions++;
+        }
+
+        backUp(node, engine);
+        iterations++;
+    }
+
+    /**
+     * Adds the result of a playout to every node on the path to the root.
+     *
+     * @param node last node of the path
+     * @param engine the game where the playout stopped
+     */
+    private void backUp(Node node, GameEngine engine) {
+        List<Player> players = engine.getPlayers();
+        int fewest = Integer.MAX_VALUE;
+        int tied = 0;
+        for (Player p : players) { //winner has 0 cards, a stalled round goes to the smallest hands
+            int size = p.gethand().size();
+            if (size < fewest) {
+                fewest = size;
+                tied = 1;
+            } else if (size == fewest) {
+                tied++;
+            }
+        }
+        for (Node n = node; n != null; n = n.parent) {
+            n.visits++;
+            if (n.player >= 0 && players.get(n.player).gethand().size() == fewest) {
+                n.reward += 1.0 / tied;
+            }
+        }
+    }
+
+    /**
+     * Gets the root of the tree, its children are the moves for the seat.
+     *
+     * @return the root
+     */
+    Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the number of iterations run.
+     *
+     * @return iterations
+     */
+    int getIterations() {
+        return iterations;
+    }
+
+    /* *************************************************************** */
+    //Deals
+
+    /**
+     * Deals the cards the seat can't see at random into a new engine: the other hands, the discard pile
+     * under its top card and the deck. The seat's own cards keep their order so hand indexes stay the same.
+     *
+     * @return a game the seat can't tell apart from the real one
+     */
+    private GameEngine deal() {
+        for (int i = unseen.length - 1; i > 0; i--) { //shuffle in place, the deal only needs some order
+            int j = random.nextInt(i + 1);
+            int temp = unseen[i];
+            unseen[i] = unseen[j];
+            unseen[j] = temp;
+        }
+
+        int next = 0;
+        List<Player> players = new ArrayList<>(view.getPlayerCount());
+        for (int i = 0; i < view.getPlayerCount(); i++) {
+            Player p = new Player("Seat " + i);
+            p.addScore(view.getScore(i));
+            if (i == seat) {
+                for (Card c : view.getHand()) {
+                    p.addCardtoHand(c);
+                }
+            } else {
+                int count = Math.min(view.getHandSize(i), unseen.length - next);
+                for (int c = 0; c < count; c++) {
+                    p.addCardtoHand(CardCatalog.card(unseen[next++]));
+                }
+            }
+            players.add(p);
+        }
+
+        CardPile deckCards = new CardPile(CardCatalog.DECK_SIZE);
+        CardPile discardPile = new CardPile(CardCatalog.DECK_SIZE);
+        int under = Math.max(0, unseen.length - next - view.getDeckSize()); //cards under the top discard
+        for (int c = 0; c < under; c++) {
+            discardPile.push(CardCatalog.card(unseen[next++]));
+        }
+        while (next < unseen.length) {
+            deckCards.push(CardCatalog.card(unseen[next++]));
+        }
+        Card top = view.getTopDiscard();
+        if (top != null) {
+            discardPile.push(top);
+        }
+
+        GameEngine engine = new GameEngine(players, new Deck(deckCards, new GameRandom(random.nextLong())), discardPile);
+        int flags = 0;
+        if (top != null && GameEngine.isWild(top, view.getSide())) {
+            if (view.getActiveColour() == null || view.getActiveColour() == CardColour.WILD) {
+                flags |= 4; //colour still to be chosen
+            } else {
+                flags |= GameEngine.colourCode(view.getActiveColour()) << 7;
+            }
+        }
+        engine.restoreTurn(seat, view.getDirection(), view.getSide(), flags, 0, 1);
+        return engine;
+    }
+
+    /* *************************************************************** */
+    //Rules, the same turn order as GameLoop
+
+    /**
+     * Plays the forced parts of turns until a player has to decide or the round is over.
+     * Players who can play have to, players who can't draw once and pass if they still can't.
+     *
+     * @param engine the game
+     * @return OVER, PLAY or COLOUR
+     */
+    private int advance(GameEngine engine) {
+        for (int steps = 0; steps < MAX_STEPS; steps++) {
+            if (engine.checkEmptyHand()) {
+                return OVER;
+            }
+            if (engine.isChoosingColour()) {
+                return COLOUR;
+            }
+            if (engine.getWildDrawLoop()) { //draw colour, then play or pass
+                engine.drawForColour();
+                drew = !engine.getWildDrawLoop();
+            } else if (engine.canPlay()) {
+                return PLAY;
+            } else if (drew) {
+                engine.nextTurn();
+                drew = false;
+            } else {
+                engine.drawCard();
+                drew = true;
+            }
+        }
+        return OVER; //stalled
+    }
+
+    /**
+     * Finds the moves of the current player.
+     *
+     * @param engine the game
+     * @param decision PLAY or COLOUR
+     * @param out list the move keys are written to, one per distinct card
+     */
+    private static void legalMoves(GameEngine engine, int decision, IntList out) {
+        out.clear();
+        if (decision == COLOUR) {
+            for (CardColour colour : COLOURS) {
+                if (engine.isValidWildColour(colour)) {
+                    out.add(colourKey(colour));
+                }
+            }
+            return;
+        }
+
+        Card top = engine.topDiscard();
+        CardColour colour = engine.getActiveColour();
+        CardSide side = engine.getSide();
+        long playable = MatchTable.playable(top, colour, side);
+        long seen = 0; //faces already added
+        for (Card c : engine.getCurrentPlayer().gethand()) {
+            if (!MatchTable.isPlayable(playable, c, top, colour, side)) {
+                continue;
+            }
+            int id = c.getId();
+            if (id >= 0) {
+                if ((seen >>> id & 1L) == 0) {
+                    seen |= 1L << id;
+                    out.add(id);
+                }
+            } else if (!contains(out, cardKey(c))) {
+                out.add(cardKey(c));
+            }
+        }
+    }
+
+    /**
+     * Picks a move for a playout, a random card and the colour the player holds the most of.
+     *
+     * @param engine the game
+     * @param decision PLAY or COLOUR
+     * @return key of the move
+     */
+    private int randomMove(GameEngine engine, int decision) {
+        if (decision == COLOUR) {
+            return colourKey(HighestCardStrategy.chooseColour(new EngineView(engine)));
+        }
+        List<Card> hand = engine.getCurrentPlayer().gethand();
+        MatchTable.legalIndices(hand, engine.topDiscard(), engine.getActiveColour(), engine.getSide(), legal);
+        return cardKey(hand.get(legal.get(random.nextInt(legal.size()))));
+    }
+
+    /**
+     * Makes a move for the current player.
+     *
+     * @param engine the game
+     * @param action key of the move
+     */
+    private void apply(GameEngine engine, int action) {
+        drew = false;
+        if (action < 0) {
+            engine.chooseColour(colourFromKey(action));
+        } else {
+            engine.playCard(indexOf(engine.getCurrentPlayer().gethand(), action));
+        }
+    }
+
+    /* *************************************************************** */
+    //Move keys, faces for cards and negative numbers for colours
+
+    /**
+     * Gets the key of playing a card, its face id or its packed face with bit 30 set if it isn't in the catalog.
+     *
+     * @param card the card
+     * @return the key
+     */
+    static int cardKey(Card card) {
+        if (card.getId() >= 0) {
+            return card.getId();
+        }
+        return (1 << 30) | (CardCatalog.encode(card.getColour(CardSide.LIGHT), card.getColour(CardSide.DARK),
+                card.getType(CardSide.LIGHT), card.getType(CardSide.DARK),
+                card.getValue(CardSide.LIGHT), card.getValue(CardSide.DARK)) & ((1 << 30) - 1));
+    }
+
+    /**
+     * Gets the key of choosing a colour.
+     *
+     * @param colour the colour
+     * @return the key, always negative
+     */
+    static int colourKey(CardColour colour) {
+        return -1 - colour.ordinal();
+    }
+
+    /**
+     * Gets the colour of a key from colourKey().
+     *
+     * @param key the key
+     * @return the colour
+     */
+    static CardColour colourFromKey(int key) {
+        return COLOURS[-1 - key];
+    }
+
+    /**
+     * Finds the first card in a hand with a key.
+     *
+     * @param hand the hand
+     * @param key key from cardKey()
+     * @return index of the card, -1 if the hand has none
+     */
+    static int indexOf(List<Card> hand, int key) {
+        for (int i = 0; i < hand.size(); i++) {
+            Card c = hand.get(i);
+            if ((key < CardCatalog.FACE_COUNT) ? c.getId() == key : cardKey(c) == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a list holds a value.
+     *
+     * @param list the list
+     * @param value the value
+     * @return true if it does
+     */
+    private static boolean contains(IntList list, int value) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
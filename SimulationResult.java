@@ -0,0 +1,182 @@
+/**
+ * Totals from a batch of simulated games. Results from different threads are merged together
+ * once their games are finished.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class SimulationResult {
+    private final String[] seatNames;
+    private final int[] wins; //game wins per seat
+    private int games = 0;
+    private int failedGames = 0;
+    private long rounds = 0;
+    private long stalledRounds = 0; //rounds dealt again without a winner
+    private long turns = 0;
+    private long elapsedNanos = 0;
+    private RuntimeException firstFailure = null; //what crashed the first failed game
+    private long firstFailureSeed = 0; //seed that replays it
+
+    /**
+     * Constructs an empty result.
+     *
+     * @param seatNames name of the AI in each seat
+     */
+    public SimulationResult(String[] seatNames) {
+        this.seatNames = seatNames;
+        this.wins = new int[seatNames.length];
+    }
+
+    /**
+     * Adds a finished game to the totals.
+     *
+     * @param loop loop that played the game
+     * @param winnerSeat seat index of the player that won the game
+     */
+    public void addGame(GameLoop loop, int winnerSeat) {
+        games++;
+        rounds += loop.getRounds();
+        stalledRounds += loop.getStalledRounds();
+        turns += loop.getTurns();
+        wins[winnerSeat]++;
+    }
+
+    /**
+     * Counts a game that crashed before it finished, keeping the first crash so it can be reported and replayed.
+     *
+     * @param seed seed of the game
+     * @param e what crashed it
+     */
+    public void addFailedGame(long seed, RuntimeException e) {
+        if (firstFailure == null) {
+            firstFailure = e;
+            firstFailureSeed = seed;
+        }
+        failedGames++;
+    }
+
+    /**
+     * Adds the totals of another result to this one.
+     *
+     * @param other result to merge in
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        games += other.games;
+        failedGames += other.failedGames;
+        if (firstFailure == null) {
+            firstFailure = other.firstFailure;
+            firstFailureSeed = other.firstFailureSeed;
+        }
+        rounds += other.rounds;
+        stalledRounds += other.stalledRounds;
+        turns += other.turns;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        return this;
+    }
+
+    /**
+     * Sets the wall clock time the whole batch took.
+     *
+     * @param elapsedNanos time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of finished games.
+     *
+     * @return finished games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that crashed.
+     *
+     * @return failed games
+     */
+    public int getFailedGames() {
+        return failedGames;
+    }
+
+    /**
+     * Gets what crashed the first failed game.
+     *
+     * @return the exception, null if no game failed
+     */
+    public RuntimeException getFirstFailure() {
+        return firstFailure;
+    }
+
+    /**
+     * Gets the seed of the first failed game, so it can be played again with new GameEngine(players, seed).
+     *
+     * @return the seed, 0 if no game failed
+     */
+    public long getFirstFailureSeed() {
+        return firstFailureSeed;
+    }
+
+    /**
+     * Gets the number of games a seat won.
+     *
+     * @param seat seat index
+     * @return games won
+     */
+    public int getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Gets the fraction of finished games a seat won.
+     *
+     * @param seat seat index
+     * @return win rate between 0 and 1
+     */
+    public double getWinRate(int seat) {
+        return (games == 0) ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * Gets the average number of turns in a round, stalled rounds included.
+     *
+     * @return mean turns per round
+     */
+    public double getMeanTurnsPerRound() {
+        long dealt = rounds + stalledRounds;
+        return (dealt == 0) ? 0 : (double) turns / dealt;
+    }
+
+    /**
+     * Gets how many games were finished per second of wall clock time.
+     *
+     * @return games per second
+     */
+    public double getGamesPerSecond() {
+        return (elapsedNanos == 0) ? 0 : games / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Returns a report of the batch for printing.
+     *
+     * @return the report
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("games=%d failed=%d rounds=%d stalled=%d turns/round=%.1f games/sec=%.1f%n",
+                games, failedGames, rounds, stalledRounds, getMeanTurnsPerRound(), getGamesPerSecond()));
+        for (int i = 0; i < seatNames.length; i++) {
+            report.append(String.format("  seat %d %-12s wins=%d (%.1f%%)%n", i, seatNames[i], wins[i], getWinRate(i) * 100));
+        }
+        if (firstFailure != null) {
+            report.append(String.format("  first failure seed=%d %s%n", firstFailureSeed, firstFailure));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays complete games of UNO Flip between AI players with no GUI, spread over every core with a
+ * fork/join pool. Each batch of games gets its own random split from the seed so threads never share one.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class Simulator {
+    private static final int GAMES_PER_TASK = 16; //split batches until this many games are left
+
+    private final List<Supplier<AiPlayer>> seats;
+    private final int parallelism;
+
+    /**
+     * Constructs a simulator using every core.
+     *
+     * @param seats creates the AI for each seat, 2-4 seats
+     */
+    public Simulator(List<Supplier<AiPlayer>> seats) {
+        this(seats, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a simulator.
+     *
+     * @param seats creates the AI for each seat, 2-4 seats
+     * @param parallelism number of threads to play games on
+     */
+    public Simulator(List<Supplier<AiPlayer>> seats, int parallelism) {
+        if (seats.size() < 2 || seats.size() > 4) {
+            throw new IllegalArgumentException("Simulator needs 2-4 seats");
+        }
+        this.seats = new ArrayList<>(seats);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the games and waits until all of them are done.
+     *
+     * @param games number of games to play
+     * @param seed seed all randoms are split from
+     * @return totals for all games
+     */
+    public SimulationResult run(int games, long seed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            SimulationResult result = pool.invoke(new SimulationTask(games, new SplittableRandom(seed)));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one game to the winning score.
+     *
+     * @param seed seed for the game
+     * @param result totals to add the game to
+     */
+    private void playGame(long seed, SimulationResult result) {
+        List<Player> players = new ArrayList<>();
+        for (Supplier<AiPlayer> seat : seats) {
+            players.add(seat.get());
+        }
+
+        GameLoop loop = new GameLoop(new GameEngine(players, seed));
+        try {
+            loop.runGame();
+            result.addGame(loop, players.indexOf(loop.getEngine().getRoundWinner()));
+        } catch (RuntimeException e) { //one broken game shouldn't stop the batch
+            result.addFailedGame(seed, e);
+        }
+    }
+
+    /**
+     * Gets the name of the AI in each seat.
+     *
+     * @return seat names
+     */
+    private String[] getSeatNames() {
+        String[] names = new String[seats.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = seats.get(i).get().getName();
+        }
+        return names;
+    }
+
+    /**
+     * Batch of games that splits itself in half until it is small enough to play on one thread.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private final int games;
+        private final SplittableRandom random;
+
+        SimulationTask(int games, SplittableRandom random) {
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult(getSeatNames());
+                for (int i = 0; i < games; i++) {
+                    playGame(random.nextLong(), result);
+                }
+                return result;
+            }
+
+            SimulationTask left = new SimulationTask(games / 2, random.split());
+            SimulationTask right = new SimulationTask(games - games / 2, random.split());
+            left.fork();
+            SimulationResult rest = right.compute();
+            return left.join().merge(rest); //left first so the first failure is the earliest game's
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the results.
+     *
+     * @param args number of games, number of seats and seed, all optional
+     */
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int seatCount = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+
+        List<Supplier<AiPlayer>> seats = new ArrayList<>();
+        for (int i = 0; i < seatCount; i++) {
+            String name = "AI " + (i + 1);
+            seats.add(() -> new AiPlayer(name));
+        }
+
+        SimulationResult result = new Simulator(seats).run(games, seed);
+        System.out.print(result);
+        if (result.getFirstFailure() != null) {
+            result.getFirstFailure().printStackTrace();
+        }
+    }
+}
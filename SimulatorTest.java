@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+public class SimulatorTest {
+    private static List<Supplier<AiPlayer>> seats(int count) {
+        List<Supplier<AiPlayer>> seats = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = "AI " + (i + 1);
+            seats.add(() -> new AiPlayer(name));
+        }
+        return seats;
+    }
+
+    @Test
+    void testTotalsAddUp() {
+        SimulationResult result = new Simulator(seats(3), 1).run(20, 7L);
+        assertEquals(20, result.getGames() + result.getFailedGames());
+        assertEquals(0, result.getFailedGames());
+        assertNull(result.getFirstFailure());
+        int wins = 0;
+        for (int i = 0; i < 3; i++) {
+            wins += result.getWins(i);
+        }
+        assertEquals(result.getGames(), wins, "Every finished game has one winner.");
+        assertTrue(result.getMeanTurnsPerRound() > 0);
+    }
+
+    @Test
+    void testSameSeedSameResultOnAnyThreads() {
+        SimulationResult one = new Simulator(seats(3), 1).run(40, 11L); //more than one task's worth of games
+        SimulationResult many = new Simulator(seats(3), 4).run(40, 11L);
+        assertEquals(one.getGames(), many.getGames());
+        assertEquals(one.getFailedGames(), many.getFailedGames());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(one.getWins(i), many.getWins(i));
+        }
+        assertEquals(one.getMeanTurnsPerRound(), many.getMeanTurnsPerRound());
+    }
+
+    @Test
+    void testFailedGameReported() {
+        List<Supplier<AiPlayer>> seats = seats(2);
+        seats.set(1, () -> new AiPlayer("Broken", (view, expected) -> {
+            throw new IllegalStateException("broken strategy");
+        }));
+        SimulationResult result = new Simulator(seats, 2).run(20, 3L);
+        assertEquals(0, result.getGames());
+        assertEquals(20, result.getFailedGames());
+        assertEquals("broken strategy", result.getFirstFailure().getMessage());
+        assertTrue(result.toString().contains("broken strategy"));
+    }
+
+    @Test
+    void testRejectsSeatCount() {
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(seats(1), 1));
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(seats(5), 1));
+    }
+}
@@ -23,7 +23,7 @@ public class Snapshot implements Serializable {
      * Executes the current snapshot game logic to continue the game.
      */
     public void executeState() {
-        gameStateCopy.runState(gameManagerCopy);
+        gameManagerCopy.queueState(gameStateCopy);
     }
 
     /**
@@ -35,6 +35,15 @@ public class Snapshot implements Serializable {
         return gameStateCopy;
     }
 
+    /**
+     * Gets the seed of the game in the snapshot, its random state is copied too so play continues the same way.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return gameManagerCopy.getSeed();
+    }
+
     /**
      * Returns the GameManager stored in the current Snapshot.
      * @return the game manager from this snapshot
@@ -0,0 +1,172 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fans a table out to any number of spectators without ever making the table wait for them.
+ * The table's thread is the only writer: changes are coalesced and at most one batch is published per tick,
+ * a TableSync full state as a spectator sees it, into a fixed ring buffer. Each Spectator reads the ring with its
+ * own cursor and no locks. A spectator that falls more than the ring's size behind skips straight to the newest
+ * batch, which is safe because every batch is a whole table on its own.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class SpectatorChannel {
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    private final AtomicReferenceArray<Batch> ring;
+    private final int mask;
+    private final long tickNanos;
+    private final AtomicLong published = new AtomicLong(0); //batches published, sequence of the next one
+
+    //only touched by the table's thread
+    private boolean dirty = false; //true if the table changed since the last batch
+    private long lastPublish; //time of the last batch in nanoseconds
+
+    /**
+     * Batch in the ring with its sequence number, so a reader can tell if the slot was overwritten.
+     */
+    private static class Batch {
+        private final long sequence;
+        private final byte[] data;
+
+        Batch(long sequence, byte[] data) {
+            this.sequence = sequence;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Constructs a channel with the default ring size and tick.
+     */
+    public SpectatorChannel() {
+        this(DEFAULT_CAPACITY, DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Constructs a channel.
+     *
+     * @param capacity batches kept for spectators that fall behind, rounded up to a power of two
+     * @param tickMillis shortest time between batches, 0 to publish every change
+     */
+    public SpectatorChannel(int capacity, long tickMillis) {
+        if (capacity < 1 || tickMillis < 0) {
+            throw new IllegalArgumentException("Invalid spectator channel size or tick");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.tickNanos = tickMillis * 1_000_000;
+        this.lastPublish = System.nanoTime() - tickNanos;
+    }
+
+    /* *************************************************************** */
+    //Table side, one thread only
+
+    /**
+     * Tells the channel the table changed, publishes a batch if a tick has passed since the last one.
+     *
+     * @param sync the table's sync, already flushed
+     */
+    public void changed(TableSync sync) {
+        dirty = true;
+        if (System.nanoTime() - lastPublish >= tickNanos) {
+            flush(sync);
+        }
+    }
+
+    /**
+     * Publishes the table if it changed since the last batch, called when the table goes idle
+     * so the last changes don't wait for another one.
+     *
+     * @param sync the table's sync, already flushed
+     */
+    public void flush(TableSync sync) {
+        if (dirty) {
+            publish(sync.getFullState(-1));
+        }
+    }
+
+    /**
+     * Publishes a batch, overwriting the oldest one once the ring is full.
+     *
+     * @param data the batch
+     */
+    public void publish(byte[] data) {
+        long sequence = published.get();
+        ring.lazySet((int) sequence & mask, new Batch(sequence, data));
+        published.set(sequence + 1); //readers only look at slots below this
+        dirty = false;
+        lastPublish = System.nanoTime();
+    }
+
+    /* *************************************************************** */
+    //Spectator side, any thread
+
+    /**
+     * Adds a spectator that starts at the newest batch.
+     *
+     * @return the spectator's cursor
+     */
+    public Spectator subscribe() {
+        return new Spectator(Math.max(0, published.get() - 1));
+    }
+
+    /**
+     * Gets the number of batches published.
+     *
+     * @return batches published
+     */
+    public long getPublished() {
+        return published.get();
+    }
+
+    /**
+     * Cursor of one spectator into the channel, used by one thread at a time.
+     */
+    public class Spectator {
+        private long next; //sequence of the next batch to read
+        private long skipped = 0; //batches missed by falling behind
+
+        private Spectator(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Gets the next batch, skipping ahead to the newest one if this spectator fell too far behind.
+         *
+         * @return the TableSync full state to apply to a RemoteTable, null if there is nothing new
+         */
+        public byte[] poll() {
+            while (true) {
+                long head = published.get();
+                if (next >= head) {
+                    return null;
+                }
+                if (head - next > ring.length()) { //oldest ones already overwritten
+                    skipped += head - 1 - next;
+                    next = head - 1;
+                }
+                Batch batch = ring.get((int) next & mask);
+                if (batch != null && batch.sequence == next) {
+                    next++;
+                    return batch.data;
+                }
+                //overwritten while reading, try again further ahead
+            }
+        }
+
+        /**
+         * Gets the number of batches this spectator never saw because it fell behind.
+         *
+         * @return batches skipped
+         */
+        public long getSkipped() {
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SpectatorChannelTest {
+
+    private static byte[] batch(int n) {
+        return new byte[] {(byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n};
+    }
+
+    private static int number(byte[] batch) {
+        return ((batch[0] & 0xFF) << 24) | ((batch[1] & 0xFF) << 16) | ((batch[2] & 0xFF) << 8) | (batch[3] & 0xFF);
+    }
+
+    @Test
+    void testSpectatorReadsEveryBatchInOrder() {
+        SpectatorChannel channel = new SpectatorChannel(8, 0);
+        SpectatorChannel.Spectator spectator = channel.subscribe();
+        assertNull(spectator.poll());
+        for (int i = 0; i < 5; i++) {
+            channel.publish(batch(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, number(spectator.poll()));
+        }
+        assertNull(spectator.poll());
+        assertEquals(0, spectator.getSkipped());
+    }
+
+    @Test
+    void testSlowSpectatorSkipsAhead() {
+        SpectatorChannel channel = new SpectatorChannel(8, 0);
+        SpectatorChannel.Spectator spectator = channel.subscribe();
+        for (int i = 0; i < 20; i++) {
+            channel.publish(batch(i));
+        }
+        assertEquals(19, number(spectator.poll()));
+        assertNull(spectator.poll());
+        assertEquals(19, spectator.getSkipped());
+    }
+
+    @Test
+    void testNewSpectatorStartsAtNewest() {
+        SpectatorChannel channel = new SpectatorChannel(8, 0);
+        for (int i = 0; i < 3; i++) {
+            channel.publish(batch(i));
+        }
+        assertEquals(2, number(channel.subscribe().poll()));
+    }
+
+    @Test
+    void testChangesCoalescedPerTick() {
+        GameEngine engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2")), 3L);
+        GameLoop loop = new GameLoop(engine);
+        TableSync sync = new TableSync(engine);
+        SpectatorChannel channel = new SpectatorChannel(8, 60000);
+
+        for (int i = 0; i < 50; i++) {
+            loop.step();
+            if (sync.flush()) {
+                channel.changed(sync);
+            }
+        }
+        assertEquals(1, channel.getPublished(), "Only the first change of the tick is published.");
+        channel.flush(sync);
+        assertEquals(2, channel.getPublished());
+        channel.flush(sync);
+        assertEquals(2, channel.getPublished(), "Nothing changed since the last batch.");
+    }
+
+    @Test
+    void testSpectatorsOnOtherThreads() throws Exception {
+        SpectatorChannel channel = new SpectatorChannel(16, 0);
+        int count = 200000;
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        AtomicBoolean done = new AtomicBoolean(false);
+        List<Future<Integer>> last = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            SpectatorChannel.Spectator spectator = channel.subscribe();
+            last.add(pool.submit(() -> {
+                int previous = -1;
+                while (true) {
+                    boolean finished = done.get();
+                    byte[] b = spectator.poll();
+                    if (b == null) {
+                        if (finished) {
+                            return previous;
+                        }
+                        continue;
+                    }
+                    int n = number(b);
+                    assertTrue(n > previous, "Batches must arrive in order.");
+                    previous = n;
+                }
+            }));
+        }
+
+        for (int i = 0; i < count; i++) {
+            channel.publish(batch(i)); //never waits for the spectators
+        }
+        done.set(true);
+        for (Future<Integer> f : last) {
+            assertEquals(count - 1, (int) f.get(30, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void testSpectatorWatchesServerTable() throws Exception {
+        TableServer server = new TableServer(2);
+        CountDownLatch over = new CountDownLatch(1);
+        TableListener listener = new TableListener() {
+            @Override
+            public void stateChanged(GameTable table, TableSync sync) {
+            }
+
+            @Override
+            public void waitingForMove(GameTable table, int seat, MoveType expected) {
+            }
+
+            @Override
+            public void moveRejected(GameTable table, int seat, Move move) {
+            }
+
+            @Override
+            public void gameOver(GameTable table) {
+                over.countDown();
+            }
+        };
+        GameTable table = server.openTable(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2")), 8L, listener);
+        SpectatorChannel.Spectator spectator = table.getSpectators().subscribe();
+        assertTrue(over.await(30, TimeUnit.SECONDS));
+
+        RemoteTable view = new RemoteTable();
+        int winnerScore = 0;
+        long deadline = System.currentTimeMillis() + 10000; //the final batch follows gameOver()
+        while (winnerScore < GameEngine.WINNING_SCORE && System.currentTimeMillis() < deadline) {
+            byte[] b = spectator.poll();
+            if (b == null) {
+                Thread.sleep(1);
+                continue;
+            }
+            assertTrue(view.apply(b));
+            for (int i = 0; i < view.getPlayerCount(); i++) {
+                winnerScore = Math.max(winnerScore, view.getScore(i));
+            }
+        }
+        assertEquals(-1, view.getSeat());
+        assertTrue(winnerScore >= GameEngine.WINNING_SCORE, "Last batch shows the final scores.");
+        server.shutdown(1000);
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Interface for listener for what happens at a GameTable, e.g. the connection of a player sitting at it.
+ * Called on the table's worker thread, one call at a time per table, so the table's engine can be read
+ * from inside a call but not after it returns. Anything a call throws is printed and the game carries on.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public interface TableListener {
+    /**
+     * Called after each step that changed the game, with the update for remote players ready.
+     * TableSync.getUpdate() gives the message for each seat. Not called at a table where every seat is an AI
+     * until someone watches it or asks for its state.
+     *
+     * @param table the table
+     * @param sync the table's sync with the update
+     */
+    void stateChanged(GameTable table, TableSync sync);
+
+    /**
+     * Called when the game is waiting for a player that isn't an AI to move.
+     *
+     * @param table the table
+     * @param seat seat of the player to move
+     * @param expected kind of move the game is waiting for
+     */
+    void waitingForMove(GameTable table, int seat, MoveType expected);
+
+    /**
+     * Called when a player sent a move that isn't theirs to make or isn't legal, nothing changed.
+     *
+     * @param table the table
+     * @param seat seat the move came from
+     * @param move the move
+     */
+    void moveRejected(GameTable table, int seat, Move move);
+
+    /**
+     * Called once the game at the table is over, or has stopped because of an error.
+     *
+     * @param table the table
+     */
+    void gameOver(GameTable table);
+}
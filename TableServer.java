@@ -0,0 +1,214 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many independent GameTables in one JVM on a small pool of worker threads.
+ * Tables share nothing but the pool: each has its own engine, players and seeded random, and is only run by one
+ * worker at a time through its mailbox. Counts the turns taken at every table so a node's throughput can be measured.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class TableServer {
+    private final ExecutorService workers;
+    private final Map<Integer, GameTable> tables = new ConcurrentHashMap<>(); //open tables by id
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder finishedTables = new LongAdder();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Constructs a server with a worker per core.
+     */
+    public TableServer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a server.
+     *
+     * @param threads number of worker threads tables are run on
+     */
+    public TableServer(int threads) {
+        AtomicInteger count = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "table-worker-" + count.getAndIncrement());
+            t.setDaemon(true); //never keeps the server open
+            return t;
+        });
+    }
+
+    /**
+     * Opens a table and starts its game. AiPlayer seats play themselves, the other seats move with GameTable.submit().
+     *
+     * @param seats new players in seat order, 2-4 seats
+     * @param seed seed for the table's shuffles
+     * @param listener told what happens at the table
+     * @return the table
+     */
+    public GameTable openTable(List<Player> seats, long seed, TableListener listener) {
+        GameTable table = new GameTable(nextId.getAndIncrement(), seats, seed, this, listener);
+        tables.put(table.getId(), table);
+        table.start();
+        return table;
+    }
+
+    /**
+     * Gets an open table.
+     *
+     * @param id table id
+     * @return the table, null if there is no open table with the id
+     */
+    public GameTable getTable(int id) {
+        return tables.get(id);
+    }
+
+    /**
+     * Runs work for a table on the workers.
+     *
+     * @param task the work
+     */
+    void execute(Runnable task) {
+        workers.execute(task);
+    }
+
+    /**
+     * Counts turns taken at a table.
+     *
+     * @param count turns taken
+     */
+    void addTurns(int count) {
+        turns.add(count);
+    }
+
+    /**
+     * Closes a table once its game is over.
+     *
+     * @param table the table
+     */
+    void tableFinished(GameTable table) {
+        tables.remove(table.getId());
+        finishedTables.increment();
+    }
+
+    /**
+     * Gets the number of tables with a game still going.
+     *
+     * @return open tables
+     */
+    public int getOpenTables() {
+        return tables.size();
+    }
+
+    /**
+     * Gets the number of tables whose game is over.
+     *
+     * @return finished tables
+     */
+    public long getFinishedTables() {
+        return finishedTables.sum();
+    }
+
+    /**
+     * Gets the number of turns taken at every table since the server started.
+     *
+     * @return turns taken
+     */
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    /**
+     * Gets the average number of turns taken per second since the server started.
+     *
+     * @return turns per second
+     */
+    public double getTurnsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return (seconds > 0) ? turns.sum() / seconds : 0;
+    }
+
+    /**
+     * Stops the workers, tables still open are abandoned.
+     *
+     * @param timeoutMillis longest time to wait for running work
+     * @return true if the workers stopped in time
+     */
+    public boolean shutdown(long timeoutMillis) {
+        workers.shutdownNow();
+        try {
+            return workers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Measures a node from the command line: opens AI only tables all at once and prints the throughput
+     * once every game is over.
+     *
+     * @param args number of tables, number of seats, seed and worker threads, all optional
+     * @throws InterruptedException if interrupted while waiting for the games
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int tableCount = (args.length > 0) ? Integer.parseInt(args[0]) : 10000;
+        int seatCount = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        TableServer server = new TableServer(threads);
+        CountDownLatch done = new CountDownLatch(tableCount);
+        LongAdder failed = new LongAdder();
+        TableListener listener = new TableListener() {
+            @Override
+            public void stateChanged(GameTable table, TableSync sync) {
+                //no remote players
+            }
+
+            @Override
+            public void waitingForMove(GameTable table, int seat, MoveType expected) {
+                //every seat is an AI
+            }
+
+            @Override
+            public void moveRejected(GameTable table, int seat, Move move) {
+                //every seat is an AI
+            }
+
+            @Override
+            public void gameOver(GameTable table) {
+                if (table.isFailed()) {
+                    failed.increment();
+                }
+                done.countDown();
+            }
+        };
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        for (int i = 0; i < tableCount; i++) {
+            List<Player> seats = new ArrayList<>();
+            for (int s = 0; s < seatCount; s++) {
+                seats.add(new AiPlayer("AI " + (s + 1)));
+            }
+            server.openTable(seats, random.nextLong(), listener);
+        }
+        int open = server.getOpenTables(); //tables still going once all are opened
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("tables=%d open=%d failed=%d threads=%d turns=%d seconds=%.2f turns/sec=%.0f games/sec=%.1f%n",
+                tableCount, open, failed.sum(), threads, server.getTurns(), seconds, server.getTurns() / seconds, tableCount / seconds);
+        server.shutdown(1000);
+    }
+}
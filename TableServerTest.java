@@ -0,0 +1,257 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class TableServerTest {
+    private TableServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new TableServer(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.shutdown(1000);
+    }
+
+    private static List<Player> aiSeats() {
+        return new ArrayList<>(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3")));
+    }
+
+    /**
+     * Listener that plays the first legal move for every seat that isn't an AI.
+     */
+    private static class FirstMoveListener implements TableListener {
+        final CountDownLatch done;
+        final List<Integer> rejected = Collections.synchronizedList(new ArrayList<>());
+        final Map<Integer, Integer> winners = new ConcurrentHashMap<>(); //table id to winning seat
+        final Map<Integer, Integer> turns = new ConcurrentHashMap<>();
+        final Map<Integer, Integer> changes = new ConcurrentHashMap<>(); //table id to stateChanged calls
+
+        FirstMoveListener(int tables) {
+            done = new CountDownLatch(tables);
+        }
+
+        @Override
+        public void stateChanged(GameTable table, TableSync sync) {
+            changes.merge(table.getId(), 1, Integer::sum);
+        }
+
+        @Override
+        public void waitingForMove(GameTable table, int seat, MoveType expected) {
+            GameEngine engine = table.getEngine();
+            Move move = switch (expected) {
+                case PLAY -> {
+                    List<Card> hand = engine.getCurrentPlayer().gethand();
+                    int index = 0;
+                    while (!engine.checkValidMove(hand.get(index))) {
+                        index++;
+                    }
+                    yield Move.play(index);
+                }
+                case COLOUR -> Move.colour((engine.getSide() == CardSide.LIGHT) ? CardColour.BLUE : CardColour.TEAL);
+                case DRAW -> Move.draw();
+            };
+            table.submit(seat, move);
+        }
+
+        @Override
+        public void moveRejected(GameTable table, int seat, Move move) {
+            rejected.add(seat);
+        }
+
+        @Override
+        public void gameOver(GameTable table) {
+            GameEngine engine = table.getEngine();
+            winners.put(table.getId(), engine.getPlayers().indexOf(engine.getRoundWinner()));
+            turns.put(table.getId(), table.getTurns());
+            done.countDown();
+        }
+    }
+
+    @Test
+    void testManyTablesPlaySameGamesAsOneThread() throws InterruptedException {
+        int count = 40;
+        FirstMoveListener listener = new FirstMoveListener(count);
+        Map<Integer, Long> seeds = new HashMap<>();
+        for (long seed = 0; seed < count; seed++) {
+            seeds.put(server.openTable(aiSeats(), seed, listener).getId(), seed);
+        }
+        assertTrue(listener.done.await(60, TimeUnit.SECONDS));
+
+        long totalTurns = 0;
+        for (Map.Entry<Integer, Long> e : seeds.entrySet()) {
+            GameLoop loop = new GameLoop(new GameEngine(aiSeats(), e.getValue()));
+            loop.runGame();
+            GameEngine engine = loop.getEngine();
+            assertEquals(engine.getPlayers().indexOf(engine.getRoundWinner()), (int) listener.winners.get(e.getKey()));
+            assertEquals(loop.getTurns(), (int) listener.turns.get(e.getKey()));
+            totalTurns += loop.getTurns();
+        }
+        assertEquals(totalTurns, server.getTurns());
+        assertEquals(0, server.getOpenTables());
+        assertEquals(count, server.getFinishedTables());
+    }
+
+    @Test
+    void testHumanSeatMovesThroughMailbox() throws InterruptedException {
+        FirstMoveListener listener = new FirstMoveListener(1);
+        List<Player> seats = aiSeats();
+        seats.set(0, new Player("Alice"));
+        GameTable table = server.openTable(seats, 5L, listener);
+
+        assertTrue(listener.done.await(60, TimeUnit.SECONDS));
+        assertTrue(table.isFinished());
+        assertFalse(table.isFailed());
+        assertTrue(listener.rejected.isEmpty());
+        assertNull(server.getTable(table.getId()));
+    }
+
+    @Test
+    void testSyncOnlyStartedWhenNeeded() throws InterruptedException {
+        FirstMoveListener listener = new FirstMoveListener(2);
+        GameTable aiOnly = server.openTable(aiSeats(), 3L, listener);
+        List<Player> seats = aiSeats();
+        seats.set(1, new Player("Bob"));
+        GameTable withHuman = server.openTable(seats, 3L, listener);
+        assertTrue(listener.done.await(60, TimeUnit.SECONDS));
+
+        assertNull(listener.changes.get(aiOnly.getId()), "Nobody needed updates from the AI only table.");
+        assertTrue(listener.changes.get(withHuman.getId()) > 0);
+    }
+
+    @Test
+    void testSpectatorAfterGameOverSeesFinalTable() throws Exception {
+        FirstMoveListener listener = new FirstMoveListener(1);
+        GameTable table = server.openTable(aiSeats(), 6L, listener);
+        assertTrue(listener.done.await(60, TimeUnit.SECONDS));
+
+        SpectatorChannel.Spectator spectator = table.getSpectators().subscribe();
+        byte[] b = null;
+        long deadline = System.currentTimeMillis() + 10000;
+        while (b == null && System.currentTimeMillis() < deadline) {
+            b = spectator.poll();
+            Thread.sleep(1);
+        }
+        assertNotNull(b, "A finished table still answers.");
+        RemoteTable view = new RemoteTable();
+        assertTrue(view.apply(b));
+        GameEngine engine = table.getEngine();
+        for (int i = 0; i < view.getPlayerCount(); i++) {
+            assertEquals(engine.getPlayers().get(i).getScore(), view.getScore(i));
+        }
+    }
+
+    @Test
+    void testFullStateStartsSync() throws Exception {
+        FirstMoveListener listener = new FirstMoveListener(1);
+        GameTable table = server.openTable(aiSeats(), 4L, listener);
+        CountDownLatch replied = new CountDownLatch(1);
+        List<byte[]> states = Collections.synchronizedList(new ArrayList<>());
+        boolean[] playing = new boolean[1];
+        table.requestFullState(-1, b -> {
+            states.add(b);
+            playing[0] = !table.isFinished();
+            replied.countDown();
+        });
+        assertTrue(listener.done.await(60, TimeUnit.SECONDS));
+        assertTrue(replied.await(10, TimeUnit.SECONDS));
+
+        assertTrue(new RemoteTable().apply(states.get(0)));
+        if (playing[0]) { //unless the game was over before the request was read
+            assertTrue(listener.changes.get(table.getId()) > 0, "Updates follow once someone asked.");
+        }
+    }
+
+    @Test
+    void testBrokenCallbacksDontFailGame() throws InterruptedException {
+        FirstMoveListener listener = new FirstMoveListener(1) {
+            @Override
+            public void stateChanged(GameTable table, TableSync sync) {
+                throw new IllegalStateException("listener broke");
+            }
+
+            @Override
+            public void gameOver(GameTable table) {
+                super.gameOver(table);
+                throw new IllegalStateException("listener broke again");
+            }
+        };
+        List<Player> seats = aiSeats();
+        seats.set(0, new Player("Alice"));
+        GameTable table = server.openTable(seats, 2L, listener);
+        table.requestFullState(-1, b -> {
+            throw new IllegalStateException("caller broke");
+        });
+        TableListener brokenRemote = new FirstMoveListener(1) {
+            @Override
+            public void stateChanged(GameTable table, TableSync sync) {
+                throw new IllegalStateException("remote broke");
+            }
+        };
+        table.connect(0, brokenRemote, b -> { });
+        assertTrue(listener.done.await(30, TimeUnit.SECONDS));
+
+        assertTrue(table.isFinished());
+        assertFalse(table.isFailed(), "Only the game itself can fail a table.");
+        assertEquals(0, server.getOpenTables());
+        CountDownLatch replied = new CountDownLatch(1);
+        table.requestFullState(0, b -> replied.countDown());
+        assertTrue(replied.await(10, TimeUnit.SECONDS), "Table still takes mail.");
+    }
+
+    @Test
+    void testBrokenGameFailsTable() throws InterruptedException {
+        FirstMoveListener listener = new FirstMoveListener(1);
+        List<Player> seats = aiSeats();
+        seats.set(1, new AiPlayer("Broken", (view, expected) -> {
+            throw new IllegalStateException("strategy broke");
+        }));
+        GameTable table = server.openTable(seats, 2L, listener);
+        assertTrue(listener.done.await(30, TimeUnit.SECONDS));
+        assertTrue(table.isFailed());
+        assertEquals(0, server.getOpenTables());
+    }
+
+    @Test
+    void testMoveOutOfTurnRejected() throws InterruptedException {
+        CountDownLatch waiting = new CountDownLatch(1);
+        List<Integer> rejected = Collections.synchronizedList(new ArrayList<>());
+        TableListener listener = new TableListener() {
+            @Override
+            public void stateChanged(GameTable table, TableSync sync) {
+            }
+
+            @Override
+            public void waitingForMove(GameTable table, int seat, MoveType expected) {
+                waiting.countDown();
+            }
+
+            @Override
+            public void moveRejected(GameTable table, int seat, Move move) {
+                rejected.add(seat);
+            }
+
+            @Override
+            public void gameOver(GameTable table) {
+            }
+        };
+        List<Player> seats = Arrays.asList(new Player("Alice"), new Player("Bob"));
+        GameTable table = server.openTable(seats, 1L, listener);
+        assertTrue(waiting.await(10, TimeUnit.SECONDS));
+
+        table.submit(1, Move.draw()); //not Bob's turn
+        table.submit(0, Move.colour(CardColour.RED)); //no wild waiting for a colour
+        table.submit(0, Move.play(99)); //no such card
+        long deadline = System.currentTimeMillis() + 10000;
+        while (rejected.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(Arrays.asList(1, 0, 0), rejected);
+        assertEquals(0, table.getTurns());
+    }
+}
@@ -0,0 +1,412 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Lets human players sit at the tables of a TableServer over TCP on the local machine.
+ * Every message either way is a 4 byte big endian length followed by that many bytes.
+ * A client's first message joins a seat nobody else holds and the table doesn't play itself, the ones after it
+ * are moves, numbers are GameCodec varints:
+ * JOIN: kind, table id, seat. MOVE: kind, move type, then the hand index for PLAY or the colour for COLOUR.
+ * RESYNC: kind, asks for the full state again after RemoteTable.apply() missed an update.
+ * The server's messages start with one kind byte: STATE is followed by a TableSync message for a RemoteTable,
+ * TURN by the move type expected from the client, REJECTED and OVER by nothing. The connection is closed after OVER.
+ * Each connection has a thread reading it and one writing it, so the table's worker only ever queues messages
+ * and a slow client can't hold up its table. The queue is bounded, a client that stops reading until it fills
+ * is disconnected rather than buffered forever.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class TableSocketServer implements Closeable {
+    /** Longest message accepted either way. */
+    public static final int MAX_MESSAGE = 1 << 20;
+    /** Messages queued for a client before it counts as stalled. */
+    public static final int DEFAULT_OUTBOX = 256;
+
+    //client messages
+    public static final int JOIN = 0;
+    public static final int MOVE = 1;
+    public static final int RESYNC = 2;
+
+    //server messages
+    public static final int STATE = 0;
+    public static final int TURN = 1;
+    public static final int REJECTED = 2;
+    public static final int OVER = 3;
+
+    private static final MoveType[] MOVE_TYPES = MoveType.values();
+    private static final CardColour[] COLOURS = CardColour.values();
+    private static final byte[] CLOSE = new byte[0]; //queued to stop a connection's writer
+
+    private final TableServer server;
+    private final ServerSocket socket;
+    private final int outboxCapacity;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Set<Long> claimed = ConcurrentHashMap.newKeySet(); //seats held by a connection, see seatKey()
+
+    /**
+     * Starts listening on the loopback address.
+     *
+     * @param server server whose tables players join
+     * @param port port to listen on, 0 for any free port
+     * @throws IOException if the port can't be opened
+     */
+    public TableSocketServer(TableServer server, int port) throws IOException {
+        this(server, port, DEFAULT_OUTBOX);
+    }
+
+    /**
+     * Starts listening on the loopback address.
+     *
+     * @param server server whose tables players join
+     * @param port port to listen on, 0 for any free port
+     * @param outboxCapacity messages queued for a client before it is disconnected
+     * @throws IOException if the port can't be opened
+     */
+    public TableSocketServer(TableServer server, int port, int outboxCapacity) throws IOException {
+        if (outboxCapacity < 2) {
+            throw new IllegalArgumentException("Outbox needs room for at least two messages");
+        }
+        this.server = server;
+        this.outboxCapacity = outboxCapacity;
+        this.socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "table-socket-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     */
+    private void accept() {
+        while (!socket.isClosed()) {
+            try {
+                Connection c = new Connection(socket.accept());
+                connections.add(c);
+                c.start();
+            } catch (IOException e) {
+                return; //closed
+            }
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of clients connected.
+     *
+     * @return connections
+     */
+    public int getConnections() {
+        return connections.size();
+    }
+
+    /**
+     * Stops listening and closes every connection, the tables keep going.
+     *
+     * @throws IOException if the server socket can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        socket.close();
+        for (Connection c : connections) {
+            c.close();
+        }
+    }
+
+    /* *************************************************************** */
+    //Messages
+
+    /**
+     * Writes one message with its length.
+     *
+     * @param out stream to write to
+     * @param message the message
+     * @throws IOException if the stream fails
+     */
+    public static void writeMessage(DataOutputStream out, byte[] message) throws IOException {
+        out.writeInt(message.length);
+        out.write(message);
+        out.flush();
+    }
+
+    /**
+     * Reads one message.
+     *
+     * @param in stream to read from
+     * @return the message
+     * @throws EOFException if the stream ended
+     * @throws IOException if the stream fails or the length is invalid
+     */
+    public static byte[] readMessage(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_MESSAGE) {
+            throw new IOException("Invalid message length: " + length);
+        }
+        byte[] message = new byte[length];
+        in.readFully(message);
+        return message;
+    }
+
+    /**
+     * Encodes the message joining a seat.
+     *
+     * @param tableId id of the table
+     * @param seat seat to play
+     * @return the message
+     */
+    public static byte[] join(int tableId, int seat) {
+        GameCodec out = new GameCodec();
+        out.writeVarint(JOIN);
+        out.writeVarint(tableId);
+        out.writeVarint(seat);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes the message asking for the full state again.
+     *
+     * @return the message
+     */
+    public static byte[] resync() {
+        GameCodec out = new GameCodec();
+        out.writeVarint(RESYNC);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a move.
+     *
+     * @param move the move
+     * @return the message
+     */
+    public static byte[] move(Move move) {
+        GameCodec out = new GameCodec();
+        out.writeVarint(MOVE);
+        out.writeVarint(move.getType().ordinal());
+        switch (move.getType()) {
+            case PLAY -> out.writeVarint(move.getIndex());
+            case COLOUR -> out.writeVarint(move.getColour().ordinal());
+            case DRAW -> {
+                //no arguments
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a move after its kind.
+     *
+     * @param in reader positioned after the kind
+     * @return the move
+     * @throws IOException if the move is malformed
+     */
+    private static Move readMove(GameCodec in) throws IOException {
+        int type = in.readVarint();
+        if (type < 0 || type >= MOVE_TYPES.length) {
+            throw new IOException("Invalid move type: " + type);
+        }
+        return switch (MOVE_TYPES[type]) {
+            case PLAY -> Move.play(in.readVarint());
+            case COLOUR -> {
+                int colour = in.readVarint();
+                if (colour < 0 || colour >= COLOURS.length) {
+                    throw new IOException("Invalid colour: " + colour);
+                }
+                yield Move.colour(COLOURS[colour]);
+            }
+            case DRAW -> Move.draw();
+        };
+    }
+
+    /**
+     * Packs a table id and seat into one key for the claimed seats.
+     *
+     * @param tableId id of the table
+     * @param seat seat index
+     * @return the key
+     */
+    private static long seatKey(int tableId, int seat) {
+        return ((long) tableId << 32) | seat;
+    }
+
+    /**
+     * Puts a kind in front of a server message.
+     *
+     * @param kind kind of message
+     * @param body rest of the message
+     * @return the message
+     */
+    private static byte[] frame(int kind, byte[] body) {
+        byte[] message = new byte[body.length + 1];
+        message[0] = (byte) kind;
+        System.arraycopy(body, 0, message, 1, body.length);
+        return message;
+    }
+
+    /* *************************************************************** */
+    //Connections
+
+    /**
+     * One client seated at a table. The table tells it what happens like any TableListener, and it queues the
+     * client's messages for its writer thread.
+     */
+    private class Connection implements TableListener {
+        private final Socket client;
+        private final BlockingQueue<byte[]> outbox = new LinkedBlockingQueue<>(outboxCapacity);
+        private volatile boolean closed = false;
+        private volatile GameTable table; //set once the seat is claimed
+        private volatile int seat = -1;
+
+        Connection(Socket client) {
+            this.client = client;
+        }
+
+        /**
+         * Starts the connection's reader and writer threads.
+         */
+        void start() {
+            Thread reader = new Thread(this::read, "table-socket-read");
+            reader.setDaemon(true);
+            reader.start();
+            Thread writer = new Thread(this::write, "table-socket-write");
+            writer.setDaemon(true);
+            writer.start();
+        }
+
+        /**
+         * Reads the join then turns each move into a submit() until the client goes away.
+         */
+        private void read() {
+            try {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+                GameCodec join = new GameCodec(readMessage(in), 0);
+                if (join.readVarint() != JOIN) {
+                    throw new IOException("Expected a join");
+                }
+                GameTable t = server.getTable(join.readVarint());
+                int s = join.readVarint();
+                if (t == null || s < 0 || s >= t.getSeatCount() || t.isAiSeat(s)) {
+                    throw new IOException("No such table or seat");
+                }
+                if (!claimed.add(seatKey(t.getId(), s))) {
+                    throw new IOException("Seat already taken");
+                }
+                seat = s;
+                table = t;
+                if (!connections.contains(this)) { //closed while claiming so close() couldn't free it
+                    claimed.remove(seatKey(t.getId(), s));
+                    return;
+                }
+                table.connect(seat, this, state -> enqueue(frame(STATE, state)));
+
+                while (true) {
+                    GameCodec message = new GameCodec(readMessage(in), 0);
+                    int kind = message.readVarint();
+                    if (kind == MOVE) {
+                        table.submit(seat, readMove(message));
+                    } else if (kind == RESYNC) {
+                        table.requestFullState(seat, state -> enqueue(frame(STATE, state)));
+                    } else {
+                        throw new IOException("Unknown message kind: " + kind);
+                    }
+                }
+            } catch (IOException e) {
+                close(); //client left or sent garbage
+            }
+        }
+
+        /**
+         * Sends queued messages until the connection closes.
+         */
+        private void write() {
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+                byte[] message;
+                while ((message = outbox.take()) != CLOSE && !closed) {
+                    writeMessage(out, message);
+                }
+            } catch (IOException e) {
+                //client went away, the reader sees it too
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            close();
+        }
+
+        /**
+         * Queues a message for the writer, disconnecting the client if it has stopped reading.
+         *
+         * @param message the message
+         */
+        private void enqueue(byte[] message) {
+            if (!outbox.offer(message)) {
+                close();
+            }
+        }
+
+        /**
+         * Leaves the table and closes the socket, safe to call more than once.
+         */
+        void close() {
+            if (connections.remove(this)) {
+                closed = true;
+                if (table != null) {
+                    table.disconnect(this);
+                    claimed.remove(seatKey(table.getId(), seat));
+                }
+                outbox.clear();
+                outbox.offer(CLOSE); //if a table refilled it first the writer sees closed on its next message
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    //already closed
+                }
+            }
+        }
+
+        @Override
+        public void stateChanged(GameTable table, TableSync sync) {
+            enqueue(frame(STATE, sync.getUpdate(seat)));
+        }
+
+        @Override
+        public void waitingForMove(GameTable table, int seat, MoveType expected) {
+            if (seat == this.seat) {
+                enqueue(new byte[] {TURN, (byte) expected.ordinal()});
+            }
+        }
+
+        @Override
+        public void moveRejected(GameTable table, int seat, Move move) {
+            if (seat == this.seat) {
+                enqueue(new byte[] {REJECTED});
+            }
+        }
+
+        @Override
+        public void gameOver(GameTable table) {
+            enqueue(new byte[] {OVER});
+            enqueue(CLOSE);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class TableSocketServerTest {
+    private TableServer server;
+    private TableSocketServer sockets;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new TableServer(2);
+        sockets = new TableSocketServer(server, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sockets.close();
+        server.shutdown(1000);
+    }
+
+    /**
+     * Listener for the host that leaves the human seats to their connections.
+     */
+    private static class HostListener implements TableListener {
+        final CountDownLatch over = new CountDownLatch(1);
+        final List<Integer> rejected = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void stateChanged(GameTable table, TableSync sync) {
+        }
+
+        @Override
+        public void waitingForMove(GameTable table, int seat, MoveType expected) {
+        }
+
+        @Override
+        public void moveRejected(GameTable table, int seat, Move move) {
+            rejected.add(seat);
+        }
+
+        @Override
+        public void gameOver(GameTable table) {
+            over.countDown();
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), sockets.getPort());
+        socket.setSoTimeout(30000);
+        return socket;
+    }
+
+    @Test
+    void testPlaysWholeGameOverSocket() throws Exception {
+        HostListener host = new HostListener();
+        GameTable table = server.openTable(Arrays.asList(new Player("Alice"), new AiPlayer("AI 2")), 11L, host);
+
+        RemoteTable view = new RemoteTable();
+        int turns = 0;
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            TableSocketServer.writeMessage(out, TableSocketServer.join(table.getId(), 0));
+
+            boolean over = false;
+            while (!over) {
+                byte[] message = TableSocketServer.readMessage(in);
+                switch (message[0]) {
+                    case TableSocketServer.STATE -> {
+                        if (!view.apply(Arrays.copyOfRange(message, 1, message.length))) {
+                            TableSocketServer.writeMessage(out, TableSocketServer.resync());
+                        }
+                    }
+                    case TableSocketServer.TURN -> {
+                        Move move = switch (MoveType.values()[message[1]]) {
+                            case PLAY -> Move.play(MatchTable.legalIndices(view.getHand(), view.getTopDiscard(),
+                                    view.getActiveColour(), view.getSide(), new IntList()).get(0));
+                            case COLOUR -> Move.colour(view.getSide().defaultColour());
+                            case DRAW -> Move.draw();
+                        };
+                        TableSocketServer.writeMessage(out, TableSocketServer.move(move));
+                        turns++;
+                    }
+                    case TableSocketServer.OVER -> over = true;
+                    default -> throw new AssertionError("Unexpected message " + message[0]);
+                }
+            }
+            assertEquals(-1, in.read(), "Closed after the game.");
+        }
+
+        assertTrue(host.over.await(10, TimeUnit.SECONDS));
+        assertTrue(turns > 0);
+        assertTrue(host.rejected.isEmpty());
+        assertTrue(table.isFinished());
+        assertFalse(table.isFailed());
+        GameEngine engine = table.getEngine();
+        for (int i = 0; i < 2; i++) {
+            assertEquals(engine.getPlayers().get(i).getScore(), view.getScore(i));
+        }
+    }
+
+    @Test
+    void testIllegalMoveRejected() throws Exception {
+        HostListener host = new HostListener();
+        GameTable table = server.openTable(Arrays.asList(new Player("Alice"), new Player("Bob")), 1L, host);
+
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            TableSocketServer.writeMessage(out, TableSocketServer.join(table.getId(), 1));
+            TableSocketServer.writeMessage(out, TableSocketServer.move(Move.draw())); //not Bob's turn
+
+            byte[] message;
+            do {
+                message = TableSocketServer.readMessage(in);
+            } while (message[0] != TableSocketServer.REJECTED);
+        }
+        assertEquals(Arrays.asList(1), host.rejected);
+        assertEquals(0, table.getTurns());
+    }
+
+    @Test
+    void testBadJoinClosed() throws Exception {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            TableSocketServer.writeMessage(out, TableSocketServer.join(999, 0)); //no such table
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void testTakenAndAiSeatsClosed() throws Exception {
+        GameTable table = server.openTable(Arrays.asList(new Player("Alice"), new AiPlayer("AI 2")), 2L, new HostListener());
+
+        try (Socket first = connect()) {
+            TableSocketServer.writeMessage(new DataOutputStream(first.getOutputStream()), TableSocketServer.join(table.getId(), 0));
+            DataInputStream in = new DataInputStream(first.getInputStream());
+            assertEquals(TableSocketServer.STATE, TableSocketServer.readMessage(in)[0], "Seat is held once the state arrives.");
+
+            try (Socket second = connect()) {
+                TableSocketServer.writeMessage(new DataOutputStream(second.getOutputStream()), TableSocketServer.join(table.getId(), 0));
+                assertEquals(-1, second.getInputStream().read(), "Seat 0 is taken.");
+            }
+            try (Socket ai = connect()) {
+                TableSocketServer.writeMessage(new DataOutputStream(ai.getOutputStream()), TableSocketServer.join(table.getId(), 1));
+                assertEquals(-1, ai.getInputStream().read(), "Seat 1 is played by the table.");
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (sockets.getConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        try (Socket again = connect()) { //seat freed when the first client left
+            TableSocketServer.writeMessage(new DataOutputStream(again.getOutputStream()), TableSocketServer.join(table.getId(), 0));
+            assertEquals(TableSocketServer.STATE, TableSocketServer.readMessage(new DataInputStream(again.getInputStream()))[0]);
+        }
+    }
+
+    @Test
+    void testStalledClientDisconnected() throws Exception {
+        sockets.close();
+        sockets = new TableSocketServer(server, 0, 4);
+        GameTable table = server.openTable(Arrays.asList(new Player("Alice"), new Player("Bob")), 1L, new HostListener());
+
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(1024);
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), sockets.getPort()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            TableSocketServer.writeMessage(out, TableSocketServer.join(table.getId(), 0));
+            byte[] resync = TableSocketServer.resync();
+            try {
+                for (int i = 0; i < 200000 && sockets.getConnections() > 0; i++) { //asks for states but never reads them
+                    out.writeInt(resync.length);
+                    out.write(resync);
+                    if (i % 1000 == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            } catch (IOException e) {
+                //the server hung up
+            }
+            long deadline = System.currentTimeMillis() + 10000;
+            while (sockets.getConnections() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, sockets.getConnections(), "Client that stopped reading is dropped.");
+        }
+        assertFalse(table.isFinished(), "The table carries on without it.");
+    }
+
+    @Test
+    void testMessageTooLong() {
+        byte[] data = {0x7F, 0, 0, 0};
+        assertThrows(IOException.class, () -> TableSocketServer.readMessage(new DataInputStream(new ByteArrayInputStream(data))));
+    }
+}
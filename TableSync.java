@@ -0,0 +1,201 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server side of the remote table protocol. Records the changes a GameEngine makes and turns them into small
+ * numbered updates for each remote player instead of sending the whole table after every move. A player only sees
+ * the cards they draw, everyone else sees how many were drawn. A client that misses an update, or a change that
+ * can't be sent as a delta like dealing a new round, gets the full state instead. RemoteTable is the client side.
+ *
+ * Messages start with their kind and sequence number as varints, numbers and cards are written by GameCodec.
+ * FULL: viewer seat + 1, current player, direction (0 forwards), side, flags, round and game counters, deck size,
+ * discard size, top discard (0 for none, then the card), player count, then for each player their name, score,
+ * hand size and, for the viewer only, their cards.
+ * DELTA: event count, then each event as its type and the arguments listed on the event constants.
+ *
+ * @author Mark Bowerman
+ * @version December 5, 2025
+ */
+public class TableSync implements CommandRecorder {
+    static final int FULL = 0;
+    static final int DELTA = 1;
+
+    static final int DRAW = 0; //player, count, then the cards for the player only
+    static final int PLAY = 1; //player, hand index, card
+    static final int FLIP = 2; //no arguments
+    static final int REVERSE = 3; //no arguments
+    static final int TURN = 4; //player
+    static final int FLAGS = 5; //flags, see GameEngine.flags()
+    static final int SCORE = 6; //player, new score
+    static final int ROUND = 7; //no arguments
+
+    private final GameEngine shadow; //game as the clients were last told about it
+    private final List<GameCommand> pending = new ArrayList<>(); //changes since the last update
+    private final List<Event> events = new ArrayList<>(); //last update
+    private boolean resync = false; //true if the last update has to be sent as full states
+    private int sequence = 0;
+
+    /**
+     * Change the clients are told about, with the cards it moved looked up on the shadow game.
+     */
+    private static class Event {
+        private final int type;
+        private final int player;
+        private final int value;
+        private final Card[] cards;
+
+        Event(int type, int player, int value, Card... cards) {
+            this.type = type;
+            this.player = player;
+            this.value = value;
+            this.cards = cards;
+        }
+    }
+
+    /**
+     * Constructs a sync for a game and starts recording its changes, replacing any command log set on it.
+     *
+     * @param engine the game on the server
+     */
+    public TableSync(GameEngine engine) {
+        this.shadow = engine.deepCopy();
+        engine.setCommandLog(this);
+    }
+
+    @Override
+    public void record(GameCommand command) {
+        pending.add(command);
+    }
+
+    /**
+     * Turns the changes recorded since the last update into the next update.
+     *
+     * @return true if there was a change and the sequence number went up
+     */
+    public boolean flush() {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        events.clear();
+        resync = false;
+        for (GameCommand c : pending) {
+            c.apply(shadow);
+            int player = c.getPlayer();
+            switch (c.getType()) {
+                case DRAW -> {
+                    List<Card> hand = shadow.getPlayers().get(player).gethand();
+                    Card[] drawn = hand.subList(hand.size() - c.getValue(), hand.size()).toArray(new Card[0]);
+                    events.add(new Event(DRAW, player, c.getValue(), drawn));
+                }
+                case PLAY -> events.add(new Event(PLAY, player, c.getValue(), shadow.topDiscard()));
+                case FLIP -> events.add(new Event(FLIP, -1, 0));
+                case REVERSE -> events.add(new Event(REVERSE, -1, 0));
+                case TURN -> events.add(new Event(TURN, c.getValue(), 0));
+                case FLAGS -> events.add(new Event(FLAGS, -1, c.getValue()));
+                case SCORE -> events.add(new Event(SCORE, player, shadow.getPlayers().get(player).getScore()));
+                case ROUND -> events.add(new Event(ROUND, -1, 0));
+                case CHECKPOINT -> resync = true; //shuffles and deals, clients can't follow without the deck
+            }
+        }
+        pending.clear();
+        sequence++;
+        return true;
+    }
+
+    /**
+     * Gets the last update as a player sees it, the full state if the update can't be sent as a delta.
+     *
+     * @param seat seat of the player, -1 for a spectator
+     * @return the message
+     */
+    public byte[] getUpdate(int seat) {
+        if (resync) {
+            return getFullState(seat);
+        }
+        GameCodec out = new GameCodec();
+        out.writeVarint(DELTA);
+        out.writeVarint(sequence);
+        out.writeVarint(events.size());
+        for (Event e : events) {
+            out.writeVarint(e.type);
+            switch (e.type) {
+                case DRAW -> {
+                    out.writeVarint(e.player);
+                    out.writeVarint(e.value);
+                    if (e.player == seat) {
+                        for (Card card : e.cards) {
+                            out.writeCard(card);
+                        }
+                    }
+                }
+                case PLAY -> {
+                    out.writeVarint(e.player);
+                    out.writeVarint(e.value);
+                    out.writeCard(e.cards[0]);
+                }
+                case TURN -> out.writeVarint(e.player);
+                case FLAGS -> out.writeVarint(e.value);
+                case SCORE -> {
+                    out.writeVarint(e.player);
+                    out.writeVarint(e.value);
+                }
+                default -> {
+                    //no arguments
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Gets the whole table as a player sees it at the current sequence number, sent to new clients
+     * and clients that missed an update.
+     *
+     * @param seat seat of the player, -1 for a spectator
+     * @return the message
+     */
+    public byte[] getFullState(int seat) {
+        GameCodec out = new GameCodec();
+        out.writeVarint(FULL);
+        out.writeVarint(sequence);
+        out.writeVarint(seat + 1);
+        out.writeVarint(shadow.getCurrentPlayerIndex());
+        out.writeVarint((shadow.getDirection() == 1) ? 0 : 1);
+        out.writeVarint(shadow.getSide().ordinal());
+        out.writeVarint(shadow.flags());
+        out.writeVarint(shadow.getRoundCounter());
+        out.writeVarint(shadow.getGameCounter());
+        out.writeVarint(shadow.getDeck().size());
+        out.writeVarint(shadow.getDiscardPile().size());
+        if (shadow.getDiscardPile().isEmpty()) {
+            out.writeVarint(0);
+        } else {
+            out.writeVarint(1);
+            out.writeCard(shadow.topDiscard());
+        }
+
+        List<Player> players = shadow.getPlayers();
+        out.writeVarint(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            out.writeString(p.getName());
+            out.writeVarint(p.getScore());
+            out.writeVarint(p.gethand().size());
+            if (i == seat) {
+                for (Card card : p.gethand()) {
+                    out.writeCard(card);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Gets the sequence number of the last update.
+     *
+     * @return sequence number, 0 before the first update
+     */
+    public int getSequence() {
+        return sequence;
+    }
+}
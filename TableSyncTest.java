@@ -0,0 +1,199 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.util.*;
+
+public class TableSyncTest {
+    private GameEngine engine;
+    private GameLoop loop;
+    private TableSync sync;
+    private RemoteTable[] clients; //one per seat, then a spectator
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2"), new AiPlayer("AI 3")), 21L);
+        loop = new GameLoop(engine);
+        sync = new TableSync(engine);
+        clients = new RemoteTable[4];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = new RemoteTable();
+            assertTrue(clients[i].apply(sync.getFullState(seatOf(i))));
+        }
+    }
+
+    private static int seatOf(int client) {
+        return (client == 3) ? -1 : client;
+    }
+
+    /**
+     * Checks a client sees everything public and only its own cards.
+     */
+    private void assertMatches(RemoteTable client) {
+        List<Player> players = engine.getPlayers();
+        assertEquals(players.size(), client.getPlayerCount());
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(players.get(i).getName(), client.getName(i));
+            assertEquals(players.get(i).getScore(), client.getScore(i));
+            assertEquals(players.get(i).gethand().size(), client.getHandSize(i));
+        }
+        if (client.getSeat() >= 0) {
+            assertEquals(players.get(client.getSeat()).gethand(), client.getHand());
+            for (CardColour colour : CardColour.values()) {
+                assertEquals(players.get(client.getSeat()).gethand().getColourCount(engine.getSide(), colour), client.getColourCount(colour));
+            }
+        } else {
+            assertTrue(client.getHand().isEmpty());
+        }
+        assertEquals(engine.getCurrentPlayerIndex(), client.getCurrentPlayerIndex());
+        assertEquals(engine.getDirection(), client.getDirection());
+        assertEquals(engine.getSide(), client.getSide());
+        assertEquals(engine.getRoundCounter(), client.getRoundCounter());
+        assertEquals(engine.getGameCounter(), client.getGameCounter());
+        assertEquals(engine.getDeck().size(), client.getDeckSize());
+        assertEquals(engine.getDiscardPile().size(), client.getDiscardSize());
+        if (!engine.getDiscardPile().isEmpty()) {
+            assertEquals(engine.topDiscard(), client.getTopDiscard());
+            assertEquals(engine.getActiveColour(), client.getActiveColour());
+        }
+    }
+
+    @Test
+    void testClientsFollowWholeGame() throws IOException {
+        long deltaBytes = 0;
+        int deltas = 0;
+        while (loop.step()) {
+            if (sync.flush()) {
+                for (int i = 0; i < clients.length; i++) {
+                    byte[] update = sync.getUpdate(seatOf(i));
+                    assertTrue(clients[i].apply(update));
+                    assertMatches(clients[i]);
+                    if (update[0] == TableSync.DELTA) {
+                        deltaBytes += update.length;
+                        deltas++;
+                    }
+                }
+            }
+        }
+        assertTrue(deltas > 0);
+        double average = (double) deltaBytes / deltas;
+        assertTrue(average < sync.getFullState(0).length / 4.0, "Average delta is " + average + " bytes.");
+    }
+
+    @Test
+    void testMissedUpdateNeedsFullState() throws IOException {
+        RemoteTable client = clients[1];
+        int missed = 0;
+        while (missed < 5 && loop.step()) {
+            if (sync.flush() && sync.getUpdate(1)[0] == TableSync.DELTA) {
+                missed++; //never delivered
+            }
+        }
+        loop.step();
+        while (!sync.flush()) {
+            loop.step();
+        }
+
+        int before = client.getSequence();
+        assertFalse(client.apply(sync.getUpdate(1)));
+        assertEquals(before, client.getSequence());
+
+        assertTrue(client.apply(sync.getFullState(1)));
+        assertEquals(sync.getSequence(), client.getSequence());
+        assertMatches(client);
+    }
+
+    @Test
+    void testDuplicateUpdateIgnored() throws IOException {
+        while (!sync.flush()) {
+            loop.step();
+        }
+        byte[] update = sync.getUpdate(0);
+        assertTrue(clients[0].apply(update));
+        assertTrue(clients[0].apply(update));
+        assertMatches(clients[0]);
+    }
+
+    @Test
+    void testOthersDontSeeDrawnCards() throws IOException {
+        loop.step(); //deal
+        sync.flush();
+        boolean drew = false;
+        while (!drew && loop.step()) {
+            if (!sync.flush() || sync.getUpdate(-1)[0] != TableSync.DELTA) {
+                continue;
+            }
+            int spectator = sync.getUpdate(-1).length;
+            for (int seat = 0; seat < 3; seat++) {
+                int length = sync.getUpdate(seat).length;
+                assertTrue(length >= spectator);
+                drew |= length > spectator; //only the player who drew gets the cards
+            }
+        }
+        assertTrue(drew);
+    }
+
+    @Test
+    void testRejectsBadMessage() {
+        assertThrows(IOException.class, () -> new RemoteTable().apply(new byte[] {9, 0}));
+    }
+
+    /**
+     * Writes a full state of an empty table.
+     */
+    private static byte[] fullState(int viewer, int side, int players) {
+        GameCodec out = new GameCodec();
+        out.writeVarint(TableSync.FULL);
+        out.writeVarint(0); //sequence
+        out.writeVarint(viewer + 1);
+        out.writeVarint(0); //current player
+        out.writeVarint(0); //direction
+        out.writeVarint(side);
+        out.writeVarint(0); //flags
+        out.writeVarint(0); //round
+        out.writeVarint(0); //game
+        out.writeVarint(0); //deck size
+        out.writeVarint(0); //discard size
+        out.writeVarint(0); //no top discard
+        out.writeVarint(players);
+        for (int i = 0; i < Math.min(players, 4); i++) {
+            out.writeString("P" + i);
+            out.writeVarint(0); //score
+            out.writeVarint(0); //hand size
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testRejectsMalformedFullState() throws IOException {
+        assertTrue(new RemoteTable().apply(fullState(-1, 0, 2)));
+        assertThrows(IOException.class, () -> new RemoteTable().apply(fullState(-1, 2, 2))); //no third side
+        assertThrows(IOException.class, () -> new RemoteTable().apply(fullState(-1, -1, 2))); //negative side
+        assertThrows(IOException.class, () -> new RemoteTable().apply(fullState(-1, 0, Integer.MAX_VALUE)));
+        assertThrows(IOException.class, () -> new RemoteTable().apply(fullState(5, 0, 2))); //seat past the players
+    }
+
+    @Test
+    void testRejectsBadHandIndex() {
+        GameCodec out = new GameCodec();
+        out.writeVarint(TableSync.DELTA);
+        out.writeVarint(clients[0].getSequence() + 1);
+        out.writeVarint(1); //one event
+        out.writeVarint(TableSync.PLAY);
+        out.writeVarint(0); //the viewer
+        out.writeVarint(99); //no such card
+        out.writeCard(engine.getDeck().getCards().get(0));
+        assertThrows(IOException.class, () -> clients[0].apply(out.toByteArray()));
+    }
+
+    @Test
+    void testRejectsBadFlags() {
+        GameCodec out = new GameCodec();
+        out.writeVarint(TableSync.DELTA);
+        out.writeVarint(clients[3].getSequence() + 1);
+        out.writeVarint(1); //one event
+        out.writeVarint(TableSync.FLAGS);
+        out.writeVarint(15 << 7); //wild colour code past the last colour
+        assertThrows(IOException.class, () -> clients[3].apply(out.toByteArray()));
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.Arrays;
+
+/**
+ * Bounded cache of search results keyed by Zobrist hash, so a search AI that meets a position it already
+ * searched can answer straight away. The table is split into buckets of four slots picked by the low bits of
+ * the hash. A full bucket makes room with the clock algorithm: every hit marks its slot, and the bucket's hand
+ * sweeps its slots clearing marks until it finds an unmarked slot to replace, so positions that keep coming back
+ * stay while ones seen once are dropped. Everything is in primitive arrays sized up front, so the table never
+ * grows or allocates after it is made.
+ * Counts hits, misses and evictions. It can be shared by threads, every call holds the table's lock briefly.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public class TranspositionTable {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    /** Returned by get() when the hash isn't in the table, can't be stored. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int WAYS = 4; //slots per bucket
+    private static final byte USED = 1;
+    private static final byte REFERENCED = 2;
+
+    private final long[] hashes;
+    private final int[] values;
+    private final byte[] flags; //USED and REFERENCED bits of each slot
+    private final byte[] hands; //clock hand of each bucket
+    private final int bucketMask;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Constructs a table with the default capacity.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a table.
+     *
+     * @param capacity most entries kept, rounded up to a power of two of at least four
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid transposition table capacity: " + capacity);
+        }
+        int size = Math.max(WAYS, Integer.highestOneBit(capacity));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.hashes = new long[size];
+        this.values = new int[size];
+        this.flags = new byte[size];
+        this.hands = new byte[size / WAYS];
+        this.bucketMask = size / WAYS - 1;
+    }
+
+    /**
+     * Gets the first slot of the bucket a hash goes in.
+     *
+     * @param hash the hash
+     * @return index of the bucket's first slot
+     */
+    private int bucket(long hash) {
+        return ((int) (hash ^ (hash >>> 32)) & bucketMask) * WAYS;
+    }
+
+    /**
+     * Looks up a hash and marks its entry as used.
+     *
+     * @param hash Zobrist hash of the position
+     * @return the stored value, MISSING if there is none
+     */
+    public synchronized int get(long hash) {
+        int first = bucket(hash);
+        for (int i = first; i < first + WAYS; i++) {
+            if ((flags[i] & USED) != 0 && hashes[i] == hash) {
+                flags[i] |= REFERENCED;
+                hits++;
+                return values[i];
+            }
+        }
+        misses++;
+        return MISSING;
+    }
+
+    /**
+     * Stores a value for a hash, replacing the value already stored for it or evicting an entry of its bucket.
+     *
+     * @param hash Zobrist hash of the position
+     * @param value value to store, anything but MISSING
+     */
+    public synchronized void put(long hash, int value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("MISSING can't be stored");
+        }
+        int first = bucket(hash);
+        int free = -1;
+        for (int i = first; i < first + WAYS; i++) {
+            if ((flags[i] & USED) == 0) {
+                if (free < 0) {
+                    free = i;
+                }
+            } else if (hashes[i] == hash) { //already stored
+                values[i] = value;
+                return;
+            }
+        }
+
+        if (free < 0) { //bucket full so sweep the clock until an entry wasn't used since the last sweep
+            int b = first / WAYS;
+            while ((flags[first + hands[b]] & REFERENCED) != 0) {
+                flags[first + hands[b]] &= ~REFERENCED;
+                hands[b] = (byte) ((hands[b] + 1) % WAYS);
+            }
+            free = first + hands[b];
+            hands[b] = (byte) ((hands[b] + 1) % WAYS);
+            evictions++;
+        }
+        hashes[free] = hash;
+        values[free] = value;
+        flags[free] = USED;
+    }
+
+    /**
+     * Removes every entry, the counters are kept.
+     */
+    public synchronized void clear() {
+        Arrays.fill(flags, (byte) 0);
+        Arrays.fill(hands, (byte) 0);
+    }
+
+    /**
+     * Gets the most entries the table keeps.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return hashes.length;
+    }
+
+    /**
+     * Gets the number of lookups that found an entry.
+     *
+     * @return hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that found nothing.
+     *
+     * @return misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of entries replaced to make room.
+     *
+     * @return evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the share of lookups that found an entry.
+     *
+     * @return hit rate from 0 to 1, 0 before the first lookup
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return (lookups == 0) ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("hits=%d misses=%d evictions=%d hitRate=%.1f%%", hits, misses, evictions, getHitRate() * 100);
+    }
+}
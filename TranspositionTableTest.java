@@ -0,0 +1,104 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class TranspositionTableTest {
+
+    /**
+     * Makes hashes that all land in the same bucket of a table.
+     */
+    private static long sameBucket(int n) {
+        return (long) n << 40; //low bits stay 0
+    }
+
+    @Test
+    void testGetAndPut() {
+        TranspositionTable table = new TranspositionTable(16);
+        assertEquals(TranspositionTable.MISSING, table.get(42L));
+        table.put(42L, 7);
+        table.put(99L, -3);
+        assertEquals(7, table.get(42L));
+        assertEquals(-3, table.get(99L));
+        table.put(42L, 8); //replaces, doesn't add
+        assertEquals(8, table.get(42L));
+        assertEquals(3, table.getHits());
+        assertEquals(1, table.getMisses());
+        assertEquals(0, table.getEvictions());
+        assertEquals(0.75, table.getHitRate(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> table.put(1L, TranspositionTable.MISSING));
+    }
+
+    @Test
+    void testCapacityIsBounded() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.getCapacity());
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            table.put(random.nextLong(), i);
+        }
+        int found = 0;
+        random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            if (table.get(random.nextLong()) == i) {
+                found++;
+            }
+        }
+        assertTrue(found <= table.getCapacity());
+        assertEquals(10000 - found, table.getMisses());
+        assertTrue(table.getEvictions() >= 10000 - table.getCapacity());
+    }
+
+    @Test
+    void testClockKeepsUsedEntries() {
+        TranspositionTable table = new TranspositionTable(4); //one bucket of four
+        for (int i = 0; i < 4; i++) {
+            table.put(sameBucket(i), i);
+        }
+        table.get(sameBucket(0));
+        table.get(sameBucket(2));
+        table.put(sameBucket(4), 4); //evicts 1, the first entry not used since it was stored
+        assertEquals(1, table.getEvictions());
+        assertEquals(0, table.get(sameBucket(0)));
+        assertEquals(TranspositionTable.MISSING, table.get(sameBucket(1)));
+        assertEquals(2, table.get(sameBucket(2)));
+        assertEquals(3, table.get(sameBucket(3)));
+        assertEquals(4, table.get(sameBucket(4)));
+    }
+
+    @Test
+    void testClear() {
+        TranspositionTable table = new TranspositionTable(8);
+        table.put(5L, 1);
+        table.clear();
+        assertEquals(TranspositionTable.MISSING, table.get(5L));
+    }
+
+    @Test
+    void testHashIgnoresHandOrder() {
+        Card red5 = new Card(CardColour.RED, CardColour.BROWN, CardType.NUMBER, CardType.NUMBER, 5, 5);
+        Card blueSkip = new Card(CardColour.BLUE, CardColour.PURPLE, CardType.SKIP, CardType.SKIP_EVERYONE, 20, 30);
+        long hash = Zobrist.hashHand(Arrays.asList(red5, blueSkip, red5));
+        assertEquals(hash, Zobrist.hashHand(Arrays.asList(red5, red5, blueSkip)));
+        assertNotEquals(hash, Zobrist.hashHand(Arrays.asList(red5, blueSkip)));
+        assertNotEquals(hash, Zobrist.hashHand(Arrays.asList(red5, blueSkip, blueSkip)));
+    }
+
+    @Test
+    void testHashFollowsPosition() {
+        GameEngine engine = new GameEngine(Arrays.asList(new AiPlayer("AI 1"), new AiPlayer("AI 2")), 5L);
+        engine.startRound();
+        GameView view = new EngineView(engine);
+        long hash = Zobrist.hash(view, MoveType.PLAY);
+        assertEquals(hash, Zobrist.hash(new EngineView(engine.deepCopy()), MoveType.PLAY));
+        assertNotEquals(hash, Zobrist.hash(view, MoveType.COLOUR));
+
+        engine.flipSide();
+        long flipped = Zobrist.hash(view, MoveType.PLAY);
+        assertNotEquals(hash, flipped);
+        engine.flipSide();
+        assertEquals(hash, Zobrist.hash(view, MoveType.PLAY));
+
+        engine.getPlayers().get(1).addCardtoHand(CardCatalog.card(0)); //only the other hand's size changes
+        assertNotEquals(hash, Zobrist.hash(view, MoveType.PLAY));
+    }
+}
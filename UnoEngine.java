@@ -0,0 +1,198 @@
+import java.util.List;
+
+/**
+ * Interface for the UNO Flip rules engine. Holds all game rules (turn order, playing cards, action cards,
+ * flip cards, wild colours, scoring and winners) without any reference to the GUI so a game can run headless.
+ *
+ * @author Aidan Cartier, Mark Bowerman
+ * @version December 5, 2025
+ */
+public interface UnoEngine {
+
+    /**
+     * Shuffle deck, deal initial hands and turn over the first number card onto the discard pile.
+     */
+    void startRound();
+
+    /**
+     * Gets the current player whose turn it is.
+     *
+     * @return the current player
+     */
+    Player getCurrentPlayer();
+
+    /**
+     * Gets the current player index.
+     *
+     * @return the index of the current player
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Gets the list of all players in the game.
+     *
+     * @return list of players
+     */
+    List<Player> getPlayers();
+
+    /**
+     * Gets the deck.
+     *
+     * @return deck
+     */
+    Deck getDeck();
+
+    /**
+     * Gets the discard pile.
+     *
+     * @return the discard pile
+     */
+    CardPile getDiscardPile();
+
+    /**
+     * Gets the top card of the discard pile.
+     *
+     * @return the top discard card
+     */
+    Card topDiscard();
+
+    /**
+     * Gets the side facing up for every card in the game.
+     *
+     * @return LIGHT or DARK
+     */
+    CardSide getSide();
+
+    /**
+     * Determine if the current player has a playable card.
+     *
+     * @return True is player has a playable card.
+     */
+    boolean canPlay();
+
+    /**
+     * Checks if card can be played on top of discard top card.
+     *
+     * @param card to attempt match
+     * @return true if the card can be played, false otherwise
+     */
+    boolean checkValidMove(Card card);
+
+    /**
+     * Current player plays the card at the index of their hand.
+     *
+     * @param index index of the card in the current player hand
+     * @return what has to happen next
+     */
+    MoveResult playCard(int index);
+
+    /**
+     * Sets the colour of the wild card that was just played and applies its effect.
+     *
+     * @param colour colour chosen by the player
+     * @return what has to happen next
+     */
+    MoveResult chooseColour(CardColour colour);
+
+    /**
+     * Checks if the colour can be chosen for a wild card on the current side.
+     *
+     * @param colour colour to check
+     * @return true if the colour is on the current side
+     */
+    boolean isValidWildColour(CardColour colour);
+
+    /**
+     * Current player draws one card if they haven't drawn yet and have nothing to play.
+     * Shuffles the discard pile under its top card back into the deck if the deck is empty.
+     *
+     * @return the card drawn or null if the player was not allowed to draw or there are no cards left
+     */
+    Card drawCard();
+
+    /**
+     * Current player draws one card during a draw colour loop.
+     * The loop ends if there are no cards left to draw.
+     *
+     * @return the card drawn or null if there are no cards left
+     */
+    Card drawForColour();
+
+    /**
+     * Get boolean if we're in a draw colour loop.
+     *
+     * @return True if draw colour card played.
+     */
+    boolean getWildDrawLoop();
+
+    /**
+     * Get the colour the player has to draw in the draw colour loop.
+     *
+     * @return CardColour of the draw colour card.
+     */
+    CardColour getDrawLoopColour();
+
+    /**
+     * Advance to the next player.
+     */
+    void nextTurn();
+
+    /**
+     * Skip the players without giving them a turn.
+     *
+     * @param skip int for how many players you wish to skip.
+     */
+    void skipTurn(int skip);
+
+    /**
+     * Check if a player emptied their hand and score the round if so.
+     *
+     * @return True if there is a winner.
+     */
+    boolean checkWinner();
+
+    /**
+     * Checks if any player's hand is empty.
+     *
+     * @return true if a hand is empty
+     */
+    boolean checkEmptyHand();
+
+    /**
+     * Gets the round winner at the end of the round.
+     *
+     * @return player with zero cards
+     */
+    Player getRoundWinner();
+
+    /**
+     * Checks if the round winner reached the points to win the game.
+     *
+     * @return true if the game is over
+     */
+    boolean isGameOver();
+
+    /**
+     * Reset scores and counters for a new game.
+     */
+    void newGame();
+
+    /**
+     * Refresh the deck, hands and discard pile before the next round is started.
+     */
+    void resetRound();
+
+    /**
+     * Gets which round is being played.
+     *
+     * @return round number
+     */
+    int getRoundCounter();
+
+    /**
+     * Gets which game is being played.
+     *
+     * @return game number
+     */
+    int getGameCounter();
+}
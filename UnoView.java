@@ -2,8 +2,9 @@
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
 
-public class UnoView extends JFrame {
+public class UnoView extends JFrame implements SaveListener {
 
     private JPanel playerCards;
     private JPanel topPanel;
@@ -231,6 +232,21 @@ public class UnoView extends JFrame {
         repaint();
     }
 
+    /**
+     * Shows the result of a save written in the background.
+     *
+     * @param filename name of the save
+     * @param error why the save failed, null if it was written
+     */
+    @Override
+    public void saveFinished(String filename, IOException error) {
+        if (error == null) {
+            setTitle("Uno - saved " + filename);
+        } else {
+            JOptionPane.showMessageDialog(this, "Could not save " + filename + ": " + error.getMessage());
+        }
+    }
+
     public void subscribe (GameManager gameManager) {
 
         this.gameManager = gameManager;
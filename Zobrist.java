@@ -0,0 +1,113 @@
+import java.util.List;
+
+/**
+ * Zobrist hashing of a position as one seat sees it, used as the key of a TranspositionTable.
+ * Every feature of the position has a fixed random 64 bit key and a position's hash is the XOR of the keys of
+ * its features: each copy of a face in the hand, the top discard, the colour in play, the side, the hand size
+ * of every other player counted from the seat, and the kind of move expected. The same cards in a different
+ * order hash the same. The keys come from a fixed seed so hashes are the same on every run.
+ * Cards outside the catalog are left out of the hash.
+ *
+ * @author Joshua Heinze
+ * @version December 5, 2025
+ */
+public final class Zobrist {
+    private static final int COPIES = 8; //copies of one face told apart in a hand, a deck has at most four
+    private static final int SIZES = 64; //hand sizes told apart, bigger hands share the last key
+    private static final int SEATS = 4;
+
+    private static final long[][] HAND = new long[CardCatalog.FACE_COUNT][COPIES]; //[face][copy]
+    private static final long[] TOP = new long[CardCatalog.FACE_COUNT];
+    private static final long[] COLOUR = new long[CardColour.values().length];
+    private static final long[] SIDE = new long[CardSide.values().length];
+    private static final long[][] HAND_SIZE = new long[SEATS][SIZES]; //[seats after the viewer][size]
+    private static final long[] EXPECTED = new long[MoveType.values().length];
+
+    static {
+        GameRandom random = new GameRandom(0x5EED_2B0BL);
+        for (long[] copies : HAND) {
+            fill(copies, random);
+        }
+        fill(TOP, random);
+        fill(COLOUR, random);
+        fill(SIDE, random);
+        for (long[] sizes : HAND_SIZE) {
+            fill(sizes, random);
+        }
+        fill(EXPECTED, random);
+    }
+
+    /**
+     * Not instantiable, all methods are static.
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Fills keys with random numbers.
+     *
+     * @param keys the keys
+     * @param random random to take them from
+     */
+    private static void fill(long[] keys, GameRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Hashes the position a seat is deciding a move in.
+     *
+     * @param view the game from the seat
+     * @param expected kind of move the game is waiting for
+     * @return the hash
+     */
+    public static long hash(GameView view, MoveType expected) {
+        long hash = hashHand(view.getHand()) ^ SIDE[view.getSide().ordinal()] ^ EXPECTED[expected.ordinal()];
+
+        Card top = view.getTopDiscard();
+        if (top != null && top.getId() >= 0) {
+            hash ^= TOP[top.getId()];
+        }
+        CardColour colour = view.getActiveColour();
+        if (colour != null) {
+            hash ^= COLOUR[colour.ordinal()];
+        }
+
+        int players = view.getPlayerCount();
+        int seat = view.getCurrentPlayerIndex();
+        for (int i = 1; i < players && i < SEATS; i++) {
+            int size = view.getHandSize((seat + i) % players);
+            hash ^= HAND_SIZE[i][Math.min(size, SIZES - 1)];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the cards of a hand in any order.
+     *
+     * @param hand the hand
+     * @return the hash
+     */
+    public static long hashHand(List<Card> hand) {
+        long hash = 0;
+        long counted = 0; //faces seen once, more copies are rare so they are counted by scanning
+        for (int i = 0; i < hand.size(); i++) {
+            int id = hand.get(i).getId();
+            if (id < 0) {
+                continue;
+            }
+            int copy = 0;
+            if ((counted >>> id & 1L) != 0) {
+                for (int j = 0; j < i; j++) {
+                    if (hand.get(j).getId() == id) {
+                        copy++;
+                    }
+                }
+            }
+            counted |= 1L << id;
+            hash ^= HAND[id][Math.min(copy, COPIES - 1)];
+        }
+        return hash;
+    }
+}